@@ -0,0 +1,327 @@
+package com.trendscope.backend.domain.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TicketLedgerService 잔액 변경 방식(app.ticket.concurrency-mode) 경합 비교. 로컬 Postgres가 필요하다.
+ * <ul>
+ *     <li>pessimistic: 사용자 행 FOR UPDATE → 중복 refId 조회 → 잔액 검사 → 잔액 UPDATE → 원장 INSERT.</li>
+ *     <li>optimistic: 중복 refId 조회 → 잔액 조건부 UPDATE → 원장 INSERT → 잔액 조회. unique 위반은 최대 3회 재시도.</li>
+ * </ul>
+ * purchase 4스레드, hold/release 12스레드가 users 명의 사용자에게 동시에 요청한다. users 가 작을수록 사용자당 동시 요청이 많다.
+ * release 는 두 모드 모두 예약 상태 전이 + 원자적 증가로 같다 (hold 와의 경합 비용만 포함).
+ * <p>
+ * 서비스와 같은 SQL을 JDBC로 재현하며, bench_ticket_* 테이블을 만들고 끝나면 지운다.
+ * 처리량(thrpt)과 p99(sample 모드의 p0.99)를 보려면 build.gradle jmh 설정(avgt)을 거치지 않고 jar로 실행한다.
+ * <pre>
+ * ./gradlew jmhJar
+ * SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5433/boat_db java -jar build/libs/*-jmh.jar TicketConcurrencyBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TicketConcurrencyBenchmark {
+
+    private static final int INITIAL_BALANCE = 1_000_000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    @Param({"pessimistic", "optimistic"})
+    public String mode;
+
+    @Param({"16", "4", "1"})
+    public int users;
+
+    private final AtomicInteger threadSequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            dropSchema(statement);
+            statement.execute("""
+                    CREATE TABLE bench_ticket_user (
+                        id BIGINT PRIMARY KEY,
+                        username VARCHAR(50) NOT NULL UNIQUE,
+                        quick_ticket_balance INTEGER NOT NULL CHECK (quick_ticket_balance >= 0),
+                        updated_date TIMESTAMP NOT NULL
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE bench_ticket_ledger (
+                        id BIGSERIAL PRIMARY KEY,
+                        user_id BIGINT NOT NULL REFERENCES bench_ticket_user (id),
+                        ticket_type VARCHAR(20) NOT NULL,
+                        reason VARCHAR(20) NOT NULL,
+                        delta INTEGER NOT NULL,
+                        ref_id VARCHAR(100) NOT NULL,
+                        created_date TIMESTAMP NOT NULL,
+                        CONSTRAINT uk_bench_ticket_ledger UNIQUE (user_id, ticket_type, reason, ref_id)
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE bench_ticket_reservation (
+                        id BIGSERIAL PRIMARY KEY,
+                        user_id BIGINT NOT NULL REFERENCES bench_ticket_user (id),
+                        ticket_type VARCHAR(20) NOT NULL,
+                        ref_id VARCHAR(100) NOT NULL,
+                        state VARCHAR(20) NOT NULL,
+                        updated_date TIMESTAMP NOT NULL,
+                        CONSTRAINT uk_bench_ticket_reservation UNIQUE (user_id, ticket_type, ref_id)
+                    )
+                    """);
+            statement.execute("""
+                    INSERT INTO bench_ticket_user (id, username, quick_ticket_balance, updated_date)
+                    SELECT n, 'bench_user_' || n, %d, now() FROM generate_series(1, %d) AS n
+                    """.formatted(INITIAL_BALANCE, users));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            dropSchema(statement);
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public boolean purchase(Worker worker) throws SQLException {
+        return worker.apply(worker.nextUser(), 1, "PURCHASE", worker.nextRefId("pay"), false);
+    }
+
+    /**
+     * 짝수 호출은 hold, 홀수 호출은 직전 hold 의 release.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(12)
+    public boolean holdRelease(Worker worker) throws SQLException {
+        if (worker.heldRefId == null) {
+            worker.heldUser = worker.nextUser();
+            worker.heldRefId = worker.nextRefId("job");
+            return worker.apply(worker.heldUser, -1, "HOLD", worker.heldRefId, true);
+        }
+        boolean released = worker.release(worker.heldUser, worker.heldRefId);
+        worker.heldRefId = null;
+        return released;
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private Connection connection;
+        private boolean optimistic;
+        private int users;
+        private String threadKey;
+        private long sequence;
+        private int heldUser;
+        private String heldRefId;
+
+        @Setup(Level.Trial)
+        public void open(TicketConcurrencyBenchmark benchmark) throws SQLException {
+            connection = connect();
+            connection.setAutoCommit(false);
+            optimistic = "optimistic".equals(benchmark.mode);
+            users = benchmark.users;
+            threadKey = "t" + benchmark.threadSequence.incrementAndGet();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+
+        int nextUser() {
+            return ThreadLocalRandom.current().nextInt(users) + 1;
+        }
+
+        String nextRefId(String prefix) {
+            return prefix + "-" + threadKey + "-" + (++sequence);
+        }
+
+        boolean apply(int userNo, int delta, String reason, String refId, boolean reserve) throws SQLException {
+            if (!optimistic) {
+                return inTransaction(() -> applyLocked(userNo, delta, reason, refId, reserve));
+            }
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return inTransaction(() -> applyConditionally(userNo, delta, reason, refId, reserve));
+                } catch (SQLException e) {
+                    if (!UNIQUE_VIOLATION.equals(e.getSQLState()) || attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        boolean release(int userNo, String refId) throws SQLException {
+            return inTransaction(() -> {
+                long userId = userNo;
+                if (update("""
+                        UPDATE bench_ticket_reservation SET state = 'RELEASED', updated_date = now()
+                        WHERE user_id = ? AND ticket_type = 'QUICK' AND ref_id = ? AND state = 'HELD'
+                        """, userId, refId) == 0) {
+                    return false;
+                }
+                update("""
+                        UPDATE bench_ticket_user
+                        SET quick_ticket_balance = quick_ticket_balance + 1, updated_date = now()
+                        WHERE id = ?
+                        """, userId);
+                insertLedger(userId, 1, "RELEASE", refId);
+                return true;
+            });
+        }
+
+        private boolean applyLocked(int userNo, int delta, String reason, String refId, boolean reserve) throws SQLException {
+            long userId;
+            int balance;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, quick_ticket_balance FROM bench_ticket_user WHERE username = ? FOR UPDATE")) {
+                statement.setString(1, "bench_user_" + userNo);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    userId = rs.getLong(1);
+                    balance = rs.getInt(2);
+                }
+            }
+            if (ledgerExists(userId, reason, refId) || balance + delta < 0) {
+                return false;
+            }
+            update("UPDATE bench_ticket_user SET quick_ticket_balance = ?, updated_date = now() WHERE id = ?",
+                    balance + delta, userId);
+            insertLedger(userId, delta, reason, refId);
+            if (reserve) {
+                insertReservation(userId, refId);
+            }
+            return true;
+        }
+
+        private boolean applyConditionally(int userNo, int delta, String reason, String refId, boolean reserve) throws SQLException {
+            long userId;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id FROM bench_ticket_user WHERE username = ?")) {
+                statement.setString(1, "bench_user_" + userNo);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    userId = rs.getLong(1);
+                }
+            }
+            if (ledgerExists(userId, reason, refId)) {
+                return false;
+            }
+            if (update("""
+                    UPDATE bench_ticket_user
+                    SET quick_ticket_balance = quick_ticket_balance + ?, updated_date = now()
+                    WHERE id = ? AND quick_ticket_balance + ? >= 0
+                    """, delta, userId, delta) == 0) {
+                return false;
+            }
+            insertLedger(userId, delta, reason, refId);
+            if (reserve) {
+                insertReservation(userId, refId);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT quick_ticket_balance FROM bench_ticket_user WHERE id = ?")) {
+                statement.setLong(1, userId);
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next();
+                }
+            }
+        }
+
+        private boolean ledgerExists(long userId, String reason, String refId) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement("""
+                    SELECT id FROM bench_ticket_ledger
+                    WHERE user_id = ? AND ticket_type = 'QUICK' AND reason = ? AND ref_id = ?
+                    LIMIT 1
+                    """)) {
+                statement.setLong(1, userId);
+                statement.setString(2, reason);
+                statement.setString(3, refId);
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next();
+                }
+            }
+        }
+
+        private void insertLedger(long userId, int delta, String reason, String refId) throws SQLException {
+            update("""
+                    INSERT INTO bench_ticket_ledger (user_id, ticket_type, reason, delta, ref_id, created_date)
+                    VALUES (?, 'QUICK', ?, ?, ?, now())
+                    """, userId, reason, delta, refId);
+        }
+
+        private void insertReservation(long userId, String refId) throws SQLException {
+            update("""
+                    INSERT INTO bench_ticket_reservation (user_id, ticket_type, ref_id, state, updated_date)
+                    VALUES (?, 'QUICK', ?, 'HELD', now())
+                    """, userId, refId);
+        }
+
+        private int update(String sql, Object... args) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                return statement.executeUpdate();
+            }
+        }
+
+        private boolean inTransaction(SqlWork work) throws SQLException {
+            try {
+                boolean result = work.run();
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        boolean run() throws SQLException;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                env("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5433/boat_db"),
+                env("SPRING_DATASOURCE_USERNAME", "boat_user"),
+                env("SPRING_DATASOURCE_PASSWORD", "boat_password")
+        );
+    }
+
+    private static void dropSchema(Statement statement) throws SQLException {
+        statement.execute("DROP TABLE IF EXISTS bench_ticket_reservation, bench_ticket_ledger, bench_ticket_user");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
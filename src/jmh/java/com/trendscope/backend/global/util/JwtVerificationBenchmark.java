@@ -0,0 +1,95 @@
+package com.trendscope.backend.global.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * JWTFilter 요청 1건당 access token 검증 비용 비교.
+ * <ul>
+ *     <li>legacy: 기존 방식. isValid + getUsername 이 각각 파서를 새로 만들고 서명을 두 번 검증한다.</li>
+ *     <li>prebuiltParser: 미리 만든 파서로 한 번만 검증한다 (캐시 미스 경로).</li>
+ *     <li>cachedClaims: JWTUtil.verify, 같은 토큰의 반복 요청 (캐시 적중 경로).</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JWTUtil.initialize(SECRET, 3_600_000L, 86_400_000L);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        accessToken = JWTUtil.createJWT("otp_benchmark_user", "ROLE_USER", true);
+        JWTUtil.verify(accessToken, true);
+    }
+
+    @Benchmark
+    public String legacy() {
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+        if (!"access".equals(claims.get("type", String.class))) {
+            return null;
+        }
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("sub", String.class);
+    }
+
+    @Benchmark
+    public String prebuiltParser(ParserState state) {
+        Claims claims = state.cache.parse(state.nextToken());
+        return claims.get("sub", String.class);
+    }
+
+    @Benchmark
+    public String cachedClaims() {
+        Claims claims = JWTUtil.verify(accessToken, true);
+        return claims == null ? null : claims.get("sub", String.class);
+    }
+
+    /**
+     * 매번 다른 토큰을 넣어 캐시 적중 없이 파서 재사용 효과만 측정한다.
+     */
+    @State(Scope.Thread)
+    public static class ParserState {
+
+        private static final int TOKEN_COUNT = 4096;
+
+        private JwtClaimsCache cache;
+        private String[] tokens;
+        private int cursor;
+
+        @Setup
+        public void setUp() {
+            SecretKey key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+            cache = new JwtClaimsCache(Jwts.parser().verifyWith(key).build(), 1L);
+            tokens = new String[TOKEN_COUNT];
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < TOKEN_COUNT; i++) {
+                tokens[i] = Jwts.builder()
+                        .claim("sub", "otp_benchmark_user_" + i)
+                        .claim("role", "ROLE_USER")
+                        .claim("type", "access")
+                        .issuedAt(new Date(now))
+                        .expiration(new Date(now + 3_600_000L))
+                        .signWith(key)
+                        .compact();
+            }
+        }
+
+        String nextToken() {
+            cursor = (cursor + 1) % TOKEN_COUNT;
+            return tokens[cursor];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.trendscope.backend.domain.analyze.controller;
+
+import com.trendscope.backend.domain.analyze.dto.AnalyzeStageTimingStatsResponseDTO;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+import com.trendscope.backend.domain.analyze.service.AnalyzeStageTimingService;
+import com.trendscope.backend.global.util.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/admin/analyze")
+@Tag(name = "Analyze Admin API", description = "측정 job 운영 지표 조회 API (ADMIN)")
+public class AnalyzeAdminController {
+
+    private final AnalyzeStageTimingService analyzeStageTimingService;
+
+    @Operation(summary = "구간별 처리 시간 통계", description = "최근 hours 시간 동안 종료된 측정 job의 구간별 p50/p95/max(ms)를 조회합니다.")
+    @GetMapping("/stage-timings")
+    public ApiResponse<AnalyzeStageTimingStatsResponseDTO> stageTimings(
+            @RequestParam(defaultValue = "24") int hours,
+            @RequestParam(required = false) AnalyzeMode mode,
+            @RequestParam(required = false) AnalyzeJobStatus status
+    ) {
+        return ApiResponse.ok(analyzeStageTimingService.getStats(hours, mode, status));
+    }
+}
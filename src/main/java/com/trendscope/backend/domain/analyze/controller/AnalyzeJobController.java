@@ -1,14 +1,19 @@
 package com.trendscope.backend.domain.analyze.controller;
 
 import com.trendscope.backend.domain.analyze.dto.*;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobEventService;
 import com.trendscope.backend.domain.analyze.service.AnalyzeJobService;
 import com.trendscope.backend.global.util.ApiResponse;
+import com.trendscope.backend.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class AnalyzeJobController {
 
     private final AnalyzeJobService analyzeJobService;
+    private final AnalyzeJobEventService analyzeJobEventService;
 
     @Operation(summary = "업로드 URL 발급", description = "정면/측면/GLB 파일 업로드용 presigned URL과 jobId를 발급합니다.")
     @PostMapping("/upload-urls")
@@ -37,8 +43,18 @@ public class AnalyzeJobController {
 
     @Operation(summary = "측정 상태 조회", description = "QUEUED/RUNNING/COMPLETED/FAILED 상태와 결과를 조회합니다.")
     @GetMapping("/{jobId}")
-    public ApiResponse<AnalyzeJobStatusResponseDTO> getJob(@PathVariable String jobId) {
-        return ApiResponse.ok(analyzeJobService.getJob(currentUsername(), jobId));
+    public ApiResponse<AnalyzeJobStatusResponseDTO> getJob(@PathVariable String jobId, WebRequest webRequest) {
+        String username = currentUsername();
+        if (ETagUtils.checkNotModified(webRequest, analyzeJobService.getJobVersion(username, jobId))) {
+            return null;
+        }
+        return ApiResponse.ok(analyzeJobService.getJob(username, jobId));
+    }
+
+    @Operation(summary = "측정 상태 구독(SSE)", description = "QUEUED/RUNNING/COMPLETED/FAILED 상태 변경을 Server-Sent Events로 push 합니다. 종료 상태 이벤트 후 스트림이 닫힙니다.")
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeJobEvents(@PathVariable String jobId) {
+        return analyzeJobEventService.subscribe(currentUsername(), jobId);
     }
 
     @Operation(summary = "결과 공유 링크 발급", description = "완료된 측정 결과에 대한 공개 공유 링크를 발급합니다.")
@@ -47,10 +63,13 @@ public class AnalyzeJobController {
         return ApiResponse.ok(analyzeJobService.issueShareLink(currentUsername(), jobId));
     }
 
-    @Operation(summary = "내 측정 목록", description = "최근 측정 작업 목록을 조회합니다.")
+    @Operation(summary = "내 측정 목록", description = "최근 측정 작업 목록을 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/me")
-    public ApiResponse<AnalyzeJobListResponseDTO> myJobs(@RequestParam(defaultValue = "20") int size) {
-        return ApiResponse.ok(analyzeJobService.getMyJobs(currentUsername(), size));
+    public ApiResponse<AnalyzeJobListResponseDTO> myJobs(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return ApiResponse.ok(analyzeJobService.getMyJobs(currentUsername(), size, cursor));
     }
 
     @Operation(summary = "측정 기록 삭제", description = "내 측정 기록 1건을 삭제합니다. 완료/실패 상태만 삭제 가능합니다.")
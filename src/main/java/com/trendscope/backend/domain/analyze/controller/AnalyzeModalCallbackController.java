@@ -0,0 +1,46 @@
+package com.trendscope.backend.domain.analyze.controller;
+
+import com.trendscope.backend.domain.analyze.service.AnalyzeModalCallbackService;
+import com.trendscope.backend.global.util.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/analyze/modal")
+@Tag(name = "Analyze Modal Callback API", description = "Modal 비동기 측정 완료 callback 수신 API")
+public class AnalyzeModalCallbackController {
+
+    private final AnalyzeModalCallbackService analyzeModalCallbackService;
+
+    @Operation(summary = "Modal 완료 callback", description = "서명을 검증하고 비동기 측정 결과를 job에 반영합니다.")
+    @PostMapping(value = "/callback", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<String>> callback(
+            @RequestHeader(value = "X-Modal-Signature", required = false) String signature,
+            @RequestBody String rawPayload
+    ) {
+        try {
+            String result = analyzeModalCallbackService.processCallback(rawPayload, signature);
+            return ResponseEntity.ok(ApiResponse.ok(result));
+        } catch (SecurityException e) {
+            log.warn("Modal callback signature 검증 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.fail("UNAUTHORIZED", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Modal callback 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.fail("BAD_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Modal callback 처리 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("INTERNAL_SERVER_ERROR", "callback 처리 중 서버 오류가 발생했습니다."));
+        }
+    }
+}
@@ -6,10 +6,17 @@ import com.trendscope.backend.global.util.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,9 +26,29 @@ public class AnalyzeShareController {
 
     private final AnalyzeJobService analyzeJobService;
 
-    @Operation(summary = "공유 결과 조회", description = "공유 토큰으로 공개 가능한 측정 결과를 조회합니다.")
+    @Operation(summary = "공유 결과 조회", description = "공유 토큰으로 공개 가능한 측정 결과를 조회합니다. 응답은 공개 캐시(CDN)에 저장될 수 있습니다.")
     @GetMapping("/{token}")
-    public ApiResponse<AnalyzeSharedJobResponseDTO> getSharedResult(@PathVariable String token) {
-        return ApiResponse.ok(analyzeJobService.getSharedJob(token));
+    public ResponseEntity<ApiResponse<AnalyzeSharedJobResponseDTO>> getSharedResult(@PathVariable String token) {
+        String modelUrl = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/model")
+                .replaceQuery(null)
+                .toUriString();
+        AnalyzeJobService.SharedJobView view = analyzeJobService.getSharedJob(token, modelUrl);
+        AnalyzeSharedJobResponseDTO response = view.response();
+
+        // 스냅샷은 바뀌지 않으므로 ETag도 고정이다. If-None-Match 일치 시 Spring이 304로 응답한다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(view.maxAge().getSeconds(), TimeUnit.SECONDS).cachePublic())
+                .eTag(response.jobId() + "-" + response.completedAt())
+                .body(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "공유 결과 3D 모델", description = "공유 결과 GLB의 presigned 다운로드 URL로 redirect 합니다.")
+    @GetMapping("/{token}/model")
+    public ResponseEntity<Void> getSharedModel(@PathVariable String token) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .cacheControl(CacheControl.noStore())
+                .location(URI.create(analyzeJobService.getSharedModelUrl(token)))
+                .build();
     }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 public record AnalyzeJobListResponseDTO(
         String username,
-        List<AnalyzeJobListItemDTO> jobs
+        List<AnalyzeJobListItemDTO> jobs,
+        String nextCursor
 ) {
 }
@@ -0,0 +1,13 @@
+package com.trendscope.backend.domain.analyze.dto;
+
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+
+import java.time.LocalDateTime;
+
+public record AnalyzeJobStatusEventDTO(
+        String jobId,
+        AnalyzeJobStatus status,
+        String errorCode,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.trendscope.backend.domain.analyze.dto;
+
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AnalyzeStageTimingStatsResponseDTO(
+        LocalDateTime since,
+        AnalyzeMode mode,
+        AnalyzeJobStatus status,
+        List<StageStat> stages
+) {
+
+    public record StageStat(
+            String stage,
+            long samples,
+            double p50Ms,
+            double p95Ms,
+            long maxMs
+    ) {
+    }
+}
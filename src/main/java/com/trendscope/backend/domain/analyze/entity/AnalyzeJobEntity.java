@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnTransformer;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 @Table(
         name = "analyze_job",
         indexes = {
-                @Index(name = "idx_analyze_job_user_created", columnList = "user_id,created_date"),
+                @Index(name = "idx_analyze_job_user_created_id", columnList = "user_id,created_date DESC,id DESC"),
                 @Index(name = "idx_analyze_job_status_created", columnList = "status,created_date")
         }
 )
@@ -78,18 +79,44 @@ public class AnalyzeJobEntity {
     @Column(name = "output_pose", length = 20)
     private String outputPose;
 
-    @Column(name = "result_json", columnDefinition = "text")
+    // jsonb 컬럼. 문자열로 다루되 저장 시 jsonb로 캐스팅한다.
+    @ColumnTransformer(write = "?::jsonb")
+    @Column(name = "result_json", columnDefinition = "jsonb")
     private String resultJson;
 
+    // 실행 구간별 소요 시간(ms) jsonb. 키는 AnalyzeStageTimings 상수.
+    @ColumnTransformer(write = "?::jsonb")
+    @Column(name = "stage_timings", columnDefinition = "jsonb")
+    private String stageTimings;
+
+    @Column(name = "input_digest", length = 64)
+    private String inputDigest;
+
     @Column(name = "error_code", length = 100)
     private String errorCode;
 
     @Column(name = "error_detail", columnDefinition = "text")
     private String errorDetail;
 
+    @Column(name = "modal_call_id", length = 128)
+    private String modalCallId;
+
+    @Column(name = "modal_poll_attempts")
+    private Integer modalPollAttempts;
+
+    @Column(name = "modal_next_poll_at")
+    private LocalDateTime modalNextPollAt;
+
     @Column(name = "queued_at")
     private LocalDateTime queuedAt;
 
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Builder.Default
+    @Column(name = "recovery_count", nullable = false)
+    private Integer recoveryCount = 0;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
@@ -131,15 +158,37 @@ public class AnalyzeJobEntity {
     public void markQueued() {
         this.status = AnalyzeJobStatus.QUEUED;
         this.queuedAt = LocalDateTime.now();
+        this.submittedAt = this.queuedAt;
         this.errorCode = null;
         this.errorDetail = null;
     }
 
+    public void assignInputDigest(String inputDigest) {
+        this.inputDigest = inputDigest;
+    }
+
     public void markRunning() {
+        markRunning(LocalDateTime.now());
+    }
+
+    public void markRunning(LocalDateTime startedAt) {
         this.status = AnalyzeJobStatus.RUNNING;
-        this.startedAt = LocalDateTime.now();
+        this.startedAt = startedAt;
         this.errorCode = null;
         this.errorDetail = null;
+        this.modalCallId = null;
+        this.modalPollAttempts = null;
+        this.modalNextPollAt = null;
+    }
+
+    public void markModalSubmitted(String modalCallId, LocalDateTime nextPollAt) {
+        this.modalCallId = modalCallId;
+        this.modalPollAttempts = 0;
+        this.modalNextPollAt = nextPollAt;
+    }
+
+    public void recordStageTimings(String stageTimings) {
+        this.stageTimings = stageTimings;
     }
 
     public void markCompleted(String resultJson) {
@@ -148,6 +197,7 @@ public class AnalyzeJobEntity {
         this.errorCode = null;
         this.errorDetail = null;
         this.completedAt = LocalDateTime.now();
+        this.modalNextPollAt = null;
     }
 
     public void markFailed(String errorCode, String errorDetail) {
@@ -156,5 +206,6 @@ public class AnalyzeJobEntity {
         this.errorCode = errorCode;
         this.errorDetail = errorDetail;
         this.completedAt = LocalDateTime.now();
+        this.modalNextPollAt = null;
     }
 }
@@ -0,0 +1,21 @@
+package com.trendscope.backend.domain.analyze.repository;
+
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 측정 목록 조회용 projection. result_json/error_detail 같은 큰 컬럼은 읽지 않는다.
+ * id는 keyset 커서 생성에만 쓰고 응답에는 노출하지 않는다.
+ */
+public record AnalyzeJobListRow(
+        Long id,
+        String jobId,
+        AnalyzeMode mode,
+        AnalyzeJobStatus status,
+        String glbObjectKey,
+        LocalDateTime createdDate,
+        LocalDateTime completedAt
+) {
+}
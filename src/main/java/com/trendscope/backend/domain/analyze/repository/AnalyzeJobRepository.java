@@ -1,13 +1,15 @@
 package com.trendscope.backend.domain.analyze.repository;
 
 import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AnalyzeJobRepository extends JpaRepository<AnalyzeJobEntity, Long> {
@@ -15,27 +17,348 @@ public interface AnalyzeJobRepository extends JpaRepository<AnalyzeJobEntity, Lo
 
     Optional<AnalyzeJobEntity> findByJobId(String jobId);
 
-    Page<AnalyzeJobEntity> findByUserUsernameOrderByCreatedDateDesc(String username, Pageable pageable);
+    // 목록은 COUNT 없는 keyset 페이지로 읽는다. 다음 페이지 여부는 size+1건 조회로 판단한다.
+    @Query("""
+            select new com.trendscope.backend.domain.analyze.repository.AnalyzeJobListRow(
+                j.id, j.jobId, j.mode, j.status, j.glbObjectKey, j.createdDate, j.completedAt
+            )
+            from AnalyzeJobEntity j
+            where j.user.username = :username
+            order by j.createdDate desc, j.id desc
+            """)
+    List<AnalyzeJobListRow> findListRowsByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("""
+            select new com.trendscope.backend.domain.analyze.repository.AnalyzeJobListRow(
+                j.id, j.jobId, j.mode, j.status, j.glbObjectKey, j.createdDate, j.completedAt
+            )
+            from AnalyzeJobEntity j
+            where j.user.username = :username
+              and (j.createdDate < :createdDate or (j.createdDate = :createdDate and j.id < :id))
+            order by j.createdDate desc, j.id desc
+            """)
+    List<AnalyzeJobListRow> findListRowsByUsernameBefore(
+            @Param("username") String username,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 
-    Page<AnalyzeJobEntity> findByCompletedAtBeforeOrderByCompletedAtAsc(LocalDateTime cutoff, Pageable pageable);
+    long countByUserUsername(String username);
 
     @Query("""
-            select j
+            select new com.trendscope.backend.domain.analyze.repository.AnalyzeRecommendationSourceRow(
+                j.id, j.jobId, j.mode, j.status, j.measurementModel, j.gender,
+                j.frontImageKey, j.sideImageKey, j.glbObjectKey
+            )
+            from AnalyzeJobEntity j
+            where j.jobId = :jobId and j.user.username = :username
+            """)
+    Optional<AnalyzeRecommendationSourceRow> findRecommendationSource(
+            @Param("jobId") String jobId,
+            @Param("username") String username
+    );
+
+    // 측정값 컬럼이 추출되기 전 기록만 result_json 을 읽는다.
+    @Query("select j.resultJson from AnalyzeJobEntity j where j.id = :id")
+    Optional<String> findResultJsonById(@Param("id") Long id);
+
+    @Query("select j.updatedDate from AnalyzeJobEntity j where j.jobId = :jobId and j.user.username = :username")
+    Optional<LocalDateTime> findUpdatedDateByJobIdAndUsername(
+            @Param("jobId") String jobId,
+            @Param("username") String username
+    );
+
+    @Query("select j.updatedDate from AnalyzeJobEntity j where j.jobId = :jobId")
+    Optional<LocalDateTime> findUpdatedDateByJobId(@Param("jobId") String jobId);
+
+    @Query("select max(j.updatedDate) from AnalyzeJobEntity j where j.user.username = :username")
+    Optional<LocalDateTime> findLatestUpdatedDateByUsername(@Param("username") String username);
+
+    /**
+     * 입력 사진 정리 대상. (completedAt, id) keyset으로 이어 읽으며, 시작 커서가 모델 보존기간 하한을 겸한다.
+     */
+    @Query("""
+            select new com.trendscope.backend.domain.analyze.repository.AnalyzeRetentionRow(
+                j.id, j.jobId, j.completedAt, j.frontImageKey, j.sideImageKey, j.glbObjectKey
+            )
             from AnalyzeJobEntity j
-            where j.completedAt is not null
-              and j.completedAt <= :photoCutoff
-              and j.completedAt > :modelCutoff
+            where j.completedAt <= :photoCutoff
+              and (
+                j.completedAt > :afterCompletedAt
+                or (j.completedAt = :afterCompletedAt and j.id > :afterId)
+              )
               and (
                 (j.frontImageKey is not null and j.frontImageKey <> '')
                 or (j.sideImageKey is not null and j.sideImageKey <> '')
               )
-            order by j.completedAt asc
+            order by j.completedAt asc, j.id asc
             """)
-    Page<AnalyzeJobEntity> findPhotoPurgeTargets(
+    List<AnalyzeRetentionRow> findPhotoPurgeRowsAfter(
             @Param("photoCutoff") LocalDateTime photoCutoff,
+            @Param("afterCompletedAt") LocalDateTime afterCompletedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new com.trendscope.backend.domain.analyze.repository.AnalyzeRetentionRow(
+                j.id, j.jobId, j.completedAt, j.frontImageKey, j.sideImageKey, j.glbObjectKey
+            )
+            from AnalyzeJobEntity j
+            where j.completedAt < :modelCutoff
+              and (
+                j.completedAt > :afterCompletedAt
+                or (j.completedAt = :afterCompletedAt and j.id > :afterId)
+              )
+            order by j.completedAt asc, j.id asc
+            """)
+    List<AnalyzeRetentionRow> findModelPurgeRowsAfter(
             @Param("modelCutoff") LocalDateTime modelCutoff,
+            @Param("afterCompletedAt") LocalDateTime afterCompletedAt,
+            @Param("afterId") Long afterId,
             Pageable pageable
     );
 
+    /**
+     * 기간 내 종료된 job의 stage_timings 를 구간별로 펼쳐 p50/p95 를 계산한다. mode/status 가 null 이면 전체.
+     */
+    @Query(value = """
+            SELECT s.key AS stage,
+                   count(*) AS samples,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY s.value::bigint) AS p50,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY s.value::bigint) AS p95,
+                   max(s.value::bigint) AS max
+            FROM analyze_job j
+            CROSS JOIN LATERAL jsonb_each_text(j.stage_timings) AS s(key, value)
+            WHERE j.completed_at >= :since
+              AND j.stage_timings IS NOT NULL
+              AND (cast(:mode AS varchar) IS NULL OR j.mode = cast(:mode AS varchar))
+              AND (cast(:status AS varchar) IS NULL OR j.status = cast(:status AS varchar))
+            GROUP BY s.key
+            ORDER BY s.key
+            """, nativeQuery = true)
+    List<AnalyzeStageTimingStatRow> aggregateStageTimings(
+            @Param("since") LocalDateTime since,
+            @Param("mode") String mode,
+            @Param("status") String status
+    );
+
+    // 회원 탈퇴 시 user_ 삭제가 analyze_job 까지 cascade 되므로, 삭제 전에 S3 키를 읽어 삭제를 예약한다.
+    @Query("""
+            select new com.trendscope.backend.domain.analyze.repository.AnalyzeRetentionRow(
+                j.id, j.jobId, j.completedAt, j.frontImageKey, j.sideImageKey, j.glbObjectKey
+            )
+            from AnalyzeJobEntity j
+            where j.user.username = :username
+            """)
+    List<AnalyzeRetentionRow> findObjectKeyRowsByUsername(@Param("username") String username);
+
+    // front_image_key는 NOT NULL 이므로 정리 후에도 빈 문자열로 남긴다 (AnalyzeJobEntity#clearInputImageKeys 와 동일).
+    @Modifying
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.frontImageKey = '',
+                j.sideImageKey = null,
+                j.updatedDate = :now
+            where j.id in :ids
+            """)
+    int clearInputImageKeysByIdIn(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
     long deleteByCompletedAtBefore(LocalDateTime cutoff);
+
+    @Query("""
+            select j.jobId
+            from AnalyzeJobEntity j
+            where j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING
+              and j.modalCallId is not null
+              and j.modalNextPollAt <= :now
+            order by j.modalNextPollAt asc
+            """)
+    List<String> findModalPollDueJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 큐 적재 후 오래 QUEUED로 남았거나, 동기 모드에서 오래 RUNNING으로 남은 job을 찾는다.
+     * 비동기 Modal call(modalCallId 존재)은 poller의 max-wait가 담당하므로 제외한다.
+     */
+    @Query("""
+            select j.jobId
+            from AnalyzeJobEntity j
+            where (j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.QUEUED
+                    and j.submittedAt is not null
+                    and j.submittedAt < :queuedBefore)
+               or (j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING
+                    and j.modalCallId is null
+                    and j.startedAt < :runningBefore)
+            order by j.submittedAt asc
+            """)
+    List<String> findStuckJobIds(
+            @Param("queuedBefore") LocalDateTime queuedBefore,
+            @Param("runningBefore") LocalDateTime runningBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 같은 입력(content digest)으로 이미 완료된 다른 job을 최신순으로 찾는다. 결과 재사용 후보 조회용.
+     */
+    @Query("""
+            select j
+            from AnalyzeJobEntity j
+            where j.inputDigest = :inputDigest
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.COMPLETED
+              and j.jobId <> :excludeJobId
+              and j.resultJson is not null
+            order by j.completedAt desc
+            """)
+    List<AnalyzeJobEntity> findReusableCompletedJobs(
+            @Param("inputDigest") String inputDigest,
+            @Param("excludeJobId") String excludeJobId,
+            Pageable pageable
+    );
+
+    /**
+     * QUEUED job 의 실행 권한을 선점한다. 1이면 선점 성공이며, 같은 job 의 중복 메시지는 0을 받아 아무 작업 없이 ACK 한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING,
+                j.startedAt = :startedAt,
+                j.errorCode = null,
+                j.errorDetail = null,
+                j.modalCallId = null,
+                j.modalPollAttempts = null,
+                j.modalNextPollAt = null,
+                j.updatedDate = :startedAt
+            where j.jobId = :jobId
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.QUEUED
+            """)
+    int claimQueuedJob(@Param("jobId") String jobId, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * Modal 호출 한도로 실행하지 못한 job 을 QUEUED 로 되돌린다. 자신이 선점한 실행(startedAt)일 때만 바꾼다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.QUEUED,
+                j.startedAt = null,
+                j.updatedDate = :now
+            where j.jobId = :jobId
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING
+              and j.startedAt = :startedAt
+              and j.modalCallId is null
+            """)
+    int releaseQueuedJobClaim(
+            @Param("jobId") String jobId,
+            @Param("startedAt") LocalDateTime startedAt,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * watchdog 이 관측한 실행(startedAt) 그대로 RUNNING 에 머문 job 만 다시 QUEUED 로 돌린다.
+     * 그 사이 다른 워커가 완료/재선점했으면 0.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.QUEUED,
+                j.submittedAt = :now,
+                j.startedAt = null,
+                j.recoveryCount = coalesce(j.recoveryCount, 0) + 1,
+                j.modalCallId = null,
+                j.modalPollAttempts = null,
+                j.modalNextPollAt = null,
+                j.updatedDate = :now
+            where j.jobId = :jobId
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING
+              and j.startedAt = :observedStartedAt
+              and j.modalCallId is null
+            """)
+    int requeueStuckRunningJob(
+            @Param("jobId") String jobId,
+            @Param("observedStartedAt") LocalDateTime observedStartedAt,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * watchdog 이 관측한 적재 시각(submittedAt) 그대로 QUEUED 에 머문 job 만 다시 적재 대상으로 표시한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.submittedAt = :now,
+                j.recoveryCount = coalesce(j.recoveryCount, 0) + 1,
+                j.updatedDate = :now
+            where j.jobId = :jobId
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.QUEUED
+              and j.submittedAt = :observedSubmittedAt
+            """)
+    int requeueStuckQueuedJob(
+            @Param("jobId") String jobId,
+            @Param("observedSubmittedAt") LocalDateTime observedSubmittedAt,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 여러 노드가 같은 job을 동시에 조회하지 않도록 poll 예정 시각을 lease 시각으로 선점한다. 1이면 선점 성공.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.modalNextPollAt = :leaseUntil
+            where j.jobId = :jobId
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING
+              and j.modalNextPollAt <= :now
+            """)
+    int claimModalPoll(
+            @Param("jobId") String jobId,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * Modal 결과를 반영할 권한을 선점한다. poll 예정 시각을 비우므로 이후 poll/callback 은 같은 job 을 선점하지 못한다.
+     * 1이면 선점 성공이며, 선점한 쪽만 job 을 종료 상태로 바꾸고 티켓을 정산한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update AnalyzeJobEntity j
+            set j.modalNextPollAt = null
+            where j.jobId = :jobId
+              and j.status = com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus.RUNNING
+              and j.modalCallId = :callId
+              and j.modalNextPollAt is not null
+            """)
+    int claimModalResult(@Param("jobId") String jobId, @Param("callId") String callId);
+
+    /**
+     * poll lease 를 가진 상태에서만 다음 poll 시각을 잡는다. 그 사이 callback 이 결과를 선점했으면 0.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE analyze_job
+            SET modal_next_poll_at = :nextPollAt,
+                modal_poll_attempts = COALESCE(modal_poll_attempts, 0) + 1,
+                stage_timings = COALESCE(CAST(:stageTimings AS jsonb), stage_timings),
+                updated_date = now()
+            WHERE job_id = :jobId
+              AND status = 'RUNNING'
+              AND modal_call_id = :callId
+              AND modal_next_poll_at = :leaseUntil
+            """, nativeQuery = true)
+    int rescheduleModalPoll(
+            @Param("jobId") String jobId,
+            @Param("callId") String callId,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("nextPollAt") LocalDateTime nextPollAt,
+            @Param("stageTimings") String stageTimings
+    );
 }
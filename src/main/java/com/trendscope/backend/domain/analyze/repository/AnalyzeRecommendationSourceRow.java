@@ -0,0 +1,20 @@
+package com.trendscope.backend.domain.analyze.repository;
+
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+
+/**
+ * 추천 생성용 projection. 측정값 컬럼을 우선 쓰므로 result_json 없이 job 메타데이터만 읽는다.
+ */
+public record AnalyzeRecommendationSourceRow(
+        Long id,
+        String jobId,
+        AnalyzeMode mode,
+        AnalyzeJobStatus status,
+        String measurementModel,
+        String gender,
+        String frontImageKey,
+        String sideImageKey,
+        String glbObjectKey
+) {
+}
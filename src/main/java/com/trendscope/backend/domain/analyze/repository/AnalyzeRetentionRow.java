@@ -0,0 +1,16 @@
+package com.trendscope.backend.domain.analyze.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존기간 정리용 projection. 삭제할 S3 키와 keyset 커서(completedAt, id)만 읽는다.
+ */
+public record AnalyzeRetentionRow(
+        Long id,
+        String jobId,
+        LocalDateTime completedAt,
+        String frontImageKey,
+        String sideImageKey,
+        String glbObjectKey
+) {
+}
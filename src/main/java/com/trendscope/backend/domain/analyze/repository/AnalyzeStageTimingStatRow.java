@@ -0,0 +1,17 @@
+package com.trendscope.backend.domain.analyze.repository;
+
+/**
+ * 구간별 소요 시간 분포 집계 (native query projection). 단위는 ms.
+ */
+public interface AnalyzeStageTimingStatRow {
+
+    String getStage();
+
+    long getSamples();
+
+    double getP50();
+
+    double getP95();
+
+    long getMax();
+}
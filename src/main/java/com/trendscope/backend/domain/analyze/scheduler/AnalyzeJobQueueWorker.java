@@ -0,0 +1,297 @@
+package com.trendscope.backend.domain.analyze.scheduler;
+
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobLane;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobQueueService;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobQueueService.QueuedJob;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobService;
+import com.trendscope.backend.domain.analyze.service.ModalCallGuard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 측정 job 큐 소비자.
+ * <p>
+ * {@link AnalyzeJobLane} 별로 노드 동시 실행 한도(concurrency)를 따로 두고 그만큼만 메시지를 가져가며, 처리 완료 후 ACK 한다.
+ * 한 lane 큐가 비어 슬롯이 남으면 적체된 다른 lane이 reserved 를 뺀 나머지를 빌려 쓰고, 빌린 슬롯은 job이 끝나면 원래 lane으로 돌아간다.
+ * 다른 노드가 처리 도중 종료되어 ACK 되지 않은 메시지는 reclaim 주기에 회수해 다시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyzeJobQueueWorker {
+
+    private final AnalyzeJobQueueService analyzeJobQueueService;
+    private final AnalyzeJobService analyzeJobService;
+    private final ModalCallGuard modalCallGuard;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.analyze.queue.worker-enabled:true}")
+    private boolean workerEnabled;
+
+    @Value("${app.analyze.queue.reclaim-min-idle-ms:900000}")
+    private long reclaimMinIdleMs;
+
+    @Value("${app.analyze.queue.max-deliveries:3}")
+    private int maxDeliveries;
+
+    @Value("${app.analyze.lanes.quick.concurrency:2}")
+    private int quickConcurrency;
+
+    @Value("${app.analyze.lanes.quick.reserved:1}")
+    private int quickReserved;
+
+    @Value("${app.analyze.lanes.quick.borrow-enabled:true}")
+    private boolean quickBorrowEnabled;
+
+    @Value("${app.analyze.lanes.premium.concurrency:2}")
+    private int premiumConcurrency;
+
+    @Value("${app.analyze.lanes.premium.reserved:1}")
+    private int premiumReserved;
+
+    @Value("${app.analyze.lanes.premium.borrow-enabled:true}")
+    private boolean premiumBorrowEnabled;
+
+    private ExecutorService executor;
+    private final Map<AnalyzeJobLane, LaneSlots> lanes = new EnumMap<>(AnalyzeJobLane.class);
+    private volatile boolean shuttingDown = false;
+
+    @PostConstruct
+    void init() {
+        lanes.put(AnalyzeJobLane.QUICK, new LaneSlots(AnalyzeJobLane.QUICK, quickConcurrency, quickReserved, quickBorrowEnabled));
+        lanes.put(AnalyzeJobLane.PREMIUM, new LaneSlots(AnalyzeJobLane.PREMIUM, premiumConcurrency, premiumReserved, premiumBorrowEnabled));
+
+        int concurrency = lanes.values().stream().mapToInt(LaneSlots::concurrency).sum();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "analyze-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        });
+        lanes.values().forEach(lane -> Gauge.builder("analyze.lane.available", lane.slots(), Semaphore::availablePermits)
+                .description("lane별 남은 실행 슬롯 수 (다른 lane에 빌려준 슬롯 제외)")
+                .tag("lane", lane.lane().id())
+                .register(meterRegistry));
+    }
+
+    @Scheduled(fixedDelayString = "${app.analyze.queue.poll-interval-ms:1000}")
+    public void pollQueue() {
+        if (!workerEnabled || shuttingDown) {
+            return;
+        }
+        // Modal 회로가 열렸거나 동시 호출 한도에 도달하면 큐에서 꺼내지 않고 QUEUED로 남겨둔다.
+        int modalAvailable = modalCallGuard.availablePermits();
+        if (modalAvailable <= 0) {
+            return;
+        }
+
+        List<LaneSlots> idleLanes = new ArrayList<>();
+        List<LaneSlots> backloggedLanes = new ArrayList<>();
+        for (LaneSlots lane : lanes.values()) {
+            int requested = Math.min(lane.slots().availablePermits(), modalAvailable);
+            List<QueuedJob> jobs = pollQuietly(lane.lane(), requested);
+            if (jobs == null) {
+                continue;
+            }
+            jobs.forEach(job -> dispatch(job, lane));
+            modalAvailable -= jobs.size();
+            if (jobs.size() < requested) {
+                idleLanes.add(lane);
+            } else {
+                backloggedLanes.add(lane);
+            }
+        }
+
+        // 큐가 빈 lane의 남는 슬롯을 적체된 lane이 빌려 쓴다.
+        for (LaneSlots borrower : backloggedLanes) {
+            if (!borrower.borrowEnabled()) {
+                continue;
+            }
+            for (LaneSlots lender : idleLanes) {
+                int requested = Math.min(lender.lendable(), modalAvailable);
+                if (requested <= 0) {
+                    continue;
+                }
+                List<QueuedJob> jobs = pollQuietly(borrower.lane(), requested);
+                if (jobs == null) {
+                    break;
+                }
+                jobs.forEach(job -> dispatch(job, lender));
+                modalAvailable -= jobs.size();
+                if (jobs.size() < requested) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.analyze.queue.reclaim-interval-ms:60000}",
+            initialDelayString = "${app.analyze.queue.reclaim-interval-ms:60000}"
+    )
+    public void reclaimStaleMessages() {
+        if (!workerEnabled || shuttingDown) {
+            return;
+        }
+        for (LaneSlots lane : lanes.values()) {
+            int available = Math.min(lane.slots().availablePermits(), modalCallGuard.availablePermits());
+            if (available > 0) {
+                try {
+                    analyzeJobQueueService
+                            .claimStale(lane.lane(), Duration.ofMillis(Math.max(60_000L, reclaimMinIdleMs)), available)
+                            .forEach(job -> dispatch(job, lane));
+                } catch (Exception e) {
+                    log.warn("미확인 측정 job 메시지 회수 실패. lane={} reason={}", lane.lane().id(), e.getMessage());
+                }
+            }
+
+            try {
+                analyzeJobQueueService.trim(lane.lane());
+            } catch (Exception e) {
+                log.warn("측정 job 스트림 trim 실패. lane={} reason={}", lane.lane().id(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        shuttingDown = true;
+        executor.shutdown();
+        try {
+            // 실행 중이던 메시지는 ACK 되지 않은 채로 남아 다른 노드가 reclaim 한다.
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param slotOwner 실행 슬롯을 내주는 lane. 빌려 쓰는 경우 메시지의 lane과 다르다.
+     */
+    private void dispatch(QueuedJob queuedJob, LaneSlots slotOwner) {
+        if (queuedJob.jobId() == null || queuedJob.jobId().isBlank()) {
+            log.warn("jobId가 없는 측정 job 메시지 폐기. recordId={}", queuedJob.recordId());
+            acknowledgeQuietly(queuedJob);
+            return;
+        }
+        if (queuedJob.deliveryCount() > Math.max(1, maxDeliveries)) {
+            log.error(
+                    "측정 job 재전달 한도 초과. jobId={} deliveryCount={}",
+                    queuedJob.jobId(),
+                    queuedJob.deliveryCount()
+            );
+            try {
+                analyzeJobService.failJob(
+                        queuedJob.jobId(),
+                        "queue_max_deliveries_exceeded",
+                        "측정 job 처리 재시도 한도를 초과했습니다. deliveryCount=" + queuedJob.deliveryCount()
+                );
+                acknowledgeQuietly(queuedJob);
+            } catch (Exception e) {
+                log.warn("재전달 한도 초과 job 실패 처리 중 오류. jobId={}", queuedJob.jobId(), e);
+            }
+            return;
+        }
+
+        Semaphore slots = slotOwner.slots();
+        if (!slots.tryAcquire()) {
+            // 처리 여유가 없으면 큐에 돌려보내 다른 노드나 다음 poll 이 바로 가져가게 한다.
+            log.warn("측정 워커 슬롯 부족으로 메시지 반납. jobId={} lane={}", queuedJob.jobId(), slotOwner.lane().id());
+            requeueQuietly(queuedJob);
+            return;
+        }
+        try {
+            executor.execute(() -> run(queuedJob, slots));
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            log.warn("측정 워커 종료 중이라 메시지 반납. jobId={}", queuedJob.jobId());
+            requeueQuietly(queuedJob);
+        }
+    }
+
+    private void run(QueuedJob queuedJob, Semaphore slots) {
+        try {
+            boolean handled = analyzeJobService.processJob(queuedJob.jobId());
+            if (!handled) {
+                // 실행 직전에 회로가 열린 경우: 새 메시지로 다시 적재하고 기존 메시지는 ACK 한다.
+                analyzeJobQueueService.enqueue(queuedJob.jobId(), queuedJob.lane());
+            }
+            acknowledgeQuietly(queuedJob);
+        } catch (Exception e) {
+            // processJob 내부에서 job 실패 처리가 끝나지 않은 경우이므로 ACK 하지 않고 reclaim에 맡긴다.
+            log.error("측정 job 워커 실행 실패. jobId={}", queuedJob.jobId(), e);
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * @return 읽기에 실패하면 null
+     */
+    private List<QueuedJob> pollQuietly(AnalyzeJobLane lane, int count) {
+        try {
+            return analyzeJobQueueService.poll(lane, count);
+        } catch (Exception e) {
+            log.warn("측정 job 큐 읽기 실패. lane={} reason={}", lane.id(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 실행하지 못한 메시지를 새 메시지로 다시 적재하고 기존 메시지는 ACK 한다.
+     * 적재에 실패하면 ACK 하지 않고 pending 으로 남겨 reclaim 에 맡긴다.
+     */
+    private void requeueQuietly(QueuedJob queuedJob) {
+        try {
+            analyzeJobQueueService.enqueue(queuedJob.jobId(), queuedJob.lane());
+        } catch (Exception e) {
+            log.warn("측정 job 메시지 반납 실패, reclaim 대기. jobId={} reason={}", queuedJob.jobId(), e.getMessage());
+            return;
+        }
+        acknowledgeQuietly(queuedJob);
+    }
+
+    private void acknowledgeQuietly(QueuedJob queuedJob) {
+        try {
+            analyzeJobQueueService.acknowledge(queuedJob);
+        } catch (Exception e) {
+            log.warn("측정 job 메시지 ACK 실패. jobId={} recordId={}", queuedJob.jobId(), queuedJob.recordId(), e);
+        }
+    }
+
+    private record LaneSlots(AnalyzeJobLane lane, int concurrency, int reserved, boolean borrowEnabled, Semaphore slots) {
+
+        LaneSlots(AnalyzeJobLane lane, int concurrency, int reserved, boolean borrowEnabled) {
+            this(lane, Math.max(1, concurrency), Math.max(0, reserved), borrowEnabled, new Semaphore(Math.max(1, concurrency)));
+        }
+
+        /**
+         * 다른 lane에 빌려줄 수 있는 슬롯 수. reserved 만큼은 자기 lane 몫으로 남긴다.
+         */
+        int lendable() {
+            return Math.max(0, slots.availablePermits() - reserved);
+        }
+    }
+}
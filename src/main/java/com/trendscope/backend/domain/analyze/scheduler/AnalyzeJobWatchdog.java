@@ -0,0 +1,107 @@
+package com.trendscope.backend.domain.analyze.scheduler;
+
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobService;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 노드 종료 등으로 QUEUED/RUNNING에 멈춘 측정 job을 찾아 다시 적재하거나 실패 처리한다.
+ * 기동 직후 1회, 이후 주기적으로 실행하며 Redis 락으로 클러스터에서 한 노드만 sweep 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyzeJobWatchdog {
+
+    // Key Convention: 도메인:리소스:용도
+    private static final String LOCK_KEY = "analyze:lock:watchdog";
+
+    private final AnalyzeJobRepository analyzeJobRepository;
+    private final AnalyzeJobService analyzeJobService;
+    private final RedisLockUtil redisLockUtil;
+
+    @Value("${app.analyze.watchdog.enabled:true}")
+    private boolean watchdogEnabled;
+
+    @Value("${app.analyze.watchdog.queued-threshold-ms:1800000}")
+    private long queuedThresholdMs;
+
+    @Value("${app.analyze.watchdog.running-threshold-ms:1200000}")
+    private long runningThresholdMs;
+
+    @Value("${app.analyze.watchdog.max-recoveries:2}")
+    private int maxRecoveries;
+
+    @Value("${app.analyze.watchdog.batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void sweepOnStartup() {
+        sweep("startup");
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.analyze.watchdog.interval-ms:60000}",
+            initialDelayString = "${app.analyze.watchdog.interval-ms:60000}"
+    )
+    public void sweepPeriodically() {
+        sweep("scheduled");
+    }
+
+    private void sweep(String trigger) {
+        if (!watchdogEnabled) {
+            return;
+        }
+
+        Optional<String> lockToken;
+        try {
+            lockToken = redisLockUtil.tryLock(LOCK_KEY, Duration.ofMinutes(5));
+        } catch (Exception e) {
+            log.warn("측정 job watchdog 락 획득 실패. trigger={} reason={}", trigger, e.getMessage());
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 동기 Modal 호출(read timeout)보다 짧으면 정상 실행 중인 job을 회수하게 된다.
+            LocalDateTime queuedBefore = now.minus(Duration.ofMillis(Math.max(60_000L, queuedThresholdMs)));
+            LocalDateTime runningBefore = now.minus(Duration.ofMillis(Math.max(60_000L, runningThresholdMs)));
+
+            List<String> jobIds = analyzeJobRepository.findStuckJobIds(
+                    queuedBefore,
+                    runningBefore,
+                    PageRequest.of(0, Math.max(1, Math.min(batchSize, 500)))
+            );
+            int recovered = 0;
+            for (String jobId : jobIds) {
+                try {
+                    analyzeJobService.recoverStuckJob(jobId, queuedBefore, runningBefore, maxRecoveries);
+                    recovered++;
+                } catch (Exception e) {
+                    log.warn("정체된 측정 job 복구 실패. jobId={}", jobId, e);
+                }
+            }
+            if (recovered > 0) {
+                log.info("측정 job watchdog sweep 완료. trigger={} recovered={}", trigger, recovered);
+            }
+        } finally {
+            redisLockUtil.unlock(LOCK_KEY, lockToken.get());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.trendscope.backend.domain.analyze.scheduler;
+
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Modal 비동기 모드에서 제출된 call의 결과를 backoff 주기로 확인한다.
+ * callback이 유실되어도 이 poller가 결과를 회수한다.
+ * <p>
+ * 결과 조회는 HTTP 왕복이므로 공유 스케줄러 스레드가 아니라 전용 풀에서 병렬로 보내고,
+ * 이번 tick 의 조회가 모두 끝난 뒤 반환한다 (다음 tick 과 겹치지 않는다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyzeModalPollScheduler {
+
+    private final AnalyzeJobRepository analyzeJobRepository;
+    private final AnalyzeJobService analyzeJobService;
+
+    @Value("${modal.async.enabled:false}")
+    private boolean modalAsyncEnabled;
+
+    @Value("${modal.async.poll-batch-size:100}")
+    private int pollBatchSize;
+
+    @Value("${modal.async.poll-parallelism:8}")
+    private int pollParallelism;
+
+    private ExecutorService pollExecutor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.pollExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(pollParallelism, 64)), runnable -> {
+            Thread thread = new Thread(runnable, "modal-poll-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pollExecutor.shutdown();
+        try {
+            if (!pollExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                pollExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pollExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${modal.async.poll-interval-ms:2000}")
+    public void pollDueModalCalls() {
+        if (!modalAsyncEnabled) {
+            return;
+        }
+
+        List<String> jobIds = analyzeJobRepository.findModalPollDueJobIds(
+                LocalDateTime.now(),
+                PageRequest.of(0, Math.max(1, Math.min(pollBatchSize, 500)))
+        );
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        CompletableFuture.allOf(jobIds.stream()
+                .map(jobId -> CompletableFuture.runAsync(() -> poll(jobId), pollExecutor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+    }
+
+    private void poll(String jobId) {
+        try {
+            analyzeJobService.pollModalResult(jobId);
+        } catch (Exception e) {
+            log.warn("Modal 결과 polling 실패. jobId={}", jobId, e);
+        }
+    }
+}
@@ -1,26 +1,42 @@
 package com.trendscope.backend.domain.analyze.scheduler;
 
-import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
 import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
-import com.trendscope.backend.global.util.S3Util;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeRetentionRow;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobStatusCacheService;
+import com.trendscope.backend.domain.analyze.service.AnalyzeShareSnapshotService;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
-
+import java.util.stream.Stream;
+
+/**
+ * 측정 데이터 보존기간 정리.
+ * <p>
+ * (completedAt, id) keyset으로 대상 행을 청크 단위로 읽고, 청크마다 짧은 트랜잭션 하나로 DB를 갱신하면서
+ * S3 오브젝트 삭제를 tombstone 으로 예약한다. 적체된 행이 많아도 트랜잭션/커넥션을 청크 시간 이상 붙잡지 않으며,
+ * 실제 S3 삭제는 {@link com.trendscope.backend.global.s3.scheduler.S3GarbageCollectionWorker}가 재시도와 함께 처리한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AnalyzeRetentionScheduler {
 
+    // 모델 보존기간이 지난 행을 처음부터 읽기 위한 keyset 시작점 (completed_at 은 이보다 항상 크다)
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final AnalyzeJobRepository analyzeJobRepository;
-    private final S3Util s3Util;
+    private final S3ObjectTombstoneService s3ObjectTombstoneService;
+    private final AnalyzeJobStatusCacheService analyzeJobStatusCacheService;
+    private final AnalyzeShareSnapshotService analyzeShareSnapshotService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.analyze.photo-retention-days:1}")
     private long photoRetentionDays;
@@ -28,13 +44,12 @@ public class AnalyzeRetentionScheduler {
     @Value("${app.analyze.model-retention-days:365}")
     private long modelRetentionDays;
 
-    @Value("${app.analyze.retention-batch-size:200}")
+    @Value("${app.analyze.retention-batch-size:1000}")
     private int retentionBatchSize;
 
     @Scheduled(cron = "${app.analyze.retention-cron:0 15 4 * * *}")
-    @Transactional
     public void purgeExpiredAnalyzeData() {
-        int batchSize = Math.max(1, Math.min(retentionBatchSize, 500));
+        int batchSize = Math.max(1, Math.min(retentionBatchSize, 5000));
         long photoDays = Math.max(1, photoRetentionDays);
         long modelDays = Math.max(photoDays, modelRetentionDays);
 
@@ -58,26 +73,38 @@ public class AnalyzeRetentionScheduler {
 
     private long purgeExpiredInputPhotos(LocalDateTime photoCutoff, LocalDateTime modelCutoff, int batchSize) {
         long scrubbedRows = 0L;
+        // (modelCutoff, Long.MAX_VALUE) 이후부터 읽으면 completedAt > modelCutoff 조건과 같다.
+        LocalDateTime afterCompletedAt = modelCutoff;
+        long afterId = Long.MAX_VALUE;
 
         while (true) {
-            List<AnalyzeJobEntity> targets = analyzeJobRepository
-                    .findPhotoPurgeTargets(photoCutoff, modelCutoff, PageRequest.of(0, batchSize))
-                    .getContent();
-            if (targets.isEmpty()) {
+            List<AnalyzeRetentionRow> rows = analyzeJobRepository.findPhotoPurgeRowsAfter(
+                    photoCutoff,
+                    afterCompletedAt,
+                    afterId,
+                    PageRequest.of(0, batchSize)
+            );
+            if (rows.isEmpty()) {
                 break;
             }
 
-            for (AnalyzeJobEntity job : targets) {
-                safeDelete(job.getFrontImageKey());
-                safeDelete(job.getSideImageKey());
-                job.clearInputImageKeys();
-            }
-
-            analyzeJobRepository.saveAll(targets);
-            analyzeJobRepository.flush();
-            scrubbedRows += targets.size();
-
-            if (targets.size() < batchSize) {
+            List<Long> ids = rows.stream().map(AnalyzeRetentionRow::id).toList();
+            List<String> jobIds = rows.stream().map(AnalyzeRetentionRow::jobId).toList();
+            List<String> objectKeys = rows.stream()
+                    .flatMap(row -> Stream.of(row.frontImageKey(), row.sideImageKey()))
+                    .toList();
+            Integer updated = transactionTemplate.execute(status -> {
+                s3ObjectTombstoneService.record(objectKeys, S3ObjectTombstoneService.REASON_ANALYZE_PHOTO_RETENTION);
+                int count = analyzeJobRepository.clearInputImageKeysByIdIn(ids, LocalDateTime.now());
+                analyzeJobStatusCacheService.evict(jobIds);
+                return count;
+            });
+            scrubbedRows += updated == null ? 0 : updated;
+
+            AnalyzeRetentionRow last = rows.get(rows.size() - 1);
+            afterCompletedAt = last.completedAt();
+            afterId = last.id();
+            if (rows.size() < batchSize) {
                 break;
             }
         }
@@ -87,40 +114,40 @@ public class AnalyzeRetentionScheduler {
 
     private long purgeExpiredAnalyzeJobs(LocalDateTime modelCutoff, int batchSize) {
         long deletedRows = 0L;
+        LocalDateTime afterCompletedAt = KEYSET_START;
+        long afterId = 0L;
 
         while (true) {
-            List<AnalyzeJobEntity> targets = analyzeJobRepository
-                    .findByCompletedAtBeforeOrderByCompletedAtAsc(modelCutoff, PageRequest.of(0, batchSize))
-                    .getContent();
-            if (targets.isEmpty()) {
+            List<AnalyzeRetentionRow> rows = analyzeJobRepository.findModelPurgeRowsAfter(
+                    modelCutoff,
+                    afterCompletedAt,
+                    afterId,
+                    PageRequest.of(0, batchSize)
+            );
+            if (rows.isEmpty()) {
                 break;
             }
 
-            for (AnalyzeJobEntity job : targets) {
-                safeDelete(job.getFrontImageKey());
-                safeDelete(job.getSideImageKey());
-                safeDelete(job.getGlbObjectKey());
-            }
-
-            analyzeJobRepository.deleteAllInBatch(targets);
-            analyzeJobRepository.flush();
-            deletedRows += targets.size();
-
-            if (targets.size() < batchSize) {
+            List<Long> ids = rows.stream().map(AnalyzeRetentionRow::id).toList();
+            List<String> jobIds = rows.stream().map(AnalyzeRetentionRow::jobId).toList();
+            List<String> objectKeys = rows.stream()
+                    .flatMap(row -> Stream.of(row.frontImageKey(), row.sideImageKey(), row.glbObjectKey()))
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                s3ObjectTombstoneService.record(objectKeys, S3ObjectTombstoneService.REASON_ANALYZE_MODEL_RETENTION);
+                analyzeJobRepository.deleteAllByIdInBatch(ids);
+                analyzeJobStatusCacheService.evict(jobIds);
+                analyzeShareSnapshotService.evict(jobIds);
+            });
+            deletedRows += rows.size();
+
+            AnalyzeRetentionRow last = rows.get(rows.size() - 1);
+            afterCompletedAt = last.completedAt();
+            afterId = last.id();
+            if (rows.size() < batchSize) {
                 break;
             }
         }
         return deletedRows;
     }
-
-    private void safeDelete(String objectKey) {
-        if (objectKey == null || objectKey.isBlank()) {
-            return;
-        }
-        try {
-            s3Util.deleteObject(objectKey);
-        } catch (Exception e) {
-            log.warn("S3 object delete failed. key={}", objectKey, e);
-        }
-    }
 }
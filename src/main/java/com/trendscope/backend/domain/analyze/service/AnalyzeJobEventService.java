@@ -0,0 +1,171 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendscope.backend.domain.analyze.dto.AnalyzeJobStatusEventDTO;
+import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 측정 job 상태 변경을 SSE로 push 한다.
+ * <p>
+ * 상태 변경은 Redis pub/sub 채널로 발행되고, 모든 노드가 구독해 자기 노드에 연결된 emitter에만 전달한다.
+ * 이벤트에는 상태만 담고, 결과 JSON/GLB URL은 종료 이벤트 수신 후 클라이언트가 상세 조회 API로 1회 가져간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeJobEventService implements MessageListener {
+
+    // Key Convention: 도메인:리소스:용도
+    public static final String JOB_STATUS_CHANNEL = "analyze:channel:job-status";
+
+    private static final String EVENT_NAME = "status";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AnalyzeJobRepository analyzeJobRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.analyze.sse.timeout-ms:600000}")
+    private long emitterTimeoutMs;
+
+    private final Map<String, Set<SseEmitter>> emittersByJobId = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(JOB_STATUS_CHANNEL));
+    }
+
+    public SseEmitter subscribe(String username, String jobId) {
+        AnalyzeJobEntity job = analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)
+                .orElseThrow(() -> new IllegalArgumentException("측정 job을 찾을 수 없습니다."));
+
+        SseEmitter emitter = new SseEmitter(Math.max(10_000L, emitterTimeoutMs));
+        if (isTerminal(job.getStatus())) {
+            send(emitter, toEvent(job));
+            emitter.complete();
+            return emitter;
+        }
+
+        register(jobId, emitter);
+        // 등록 이후의 변경은 pub/sub으로 받으므로, 등록 직전 상태를 한 번 더 읽어 새 emitter 에만 초기 이벤트로 보낸다.
+        AnalyzeJobEntity latest = analyzeJobRepository.findByJobId(jobId).orElse(job);
+        deliver(jobId, emitter, toEvent(latest));
+        return emitter;
+    }
+
+    /**
+     * 상태 변경을 모든 노드에 알린다. 발행 실패는 조회 API로 복구 가능하므로 본 흐름을 막지 않는다.
+     */
+    public void publish(AnalyzeJobEntity job) {
+        try {
+            String payload = objectMapper.writeValueAsString(toEvent(job));
+            redisTemplate.convertAndSend(JOB_STATUS_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("측정 job 상태 이벤트 발행 실패. jobId={} status={} reason={}",
+                    job.getJobId(), job.getStatus(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            AnalyzeJobStatusEventDTO event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8),
+                    AnalyzeJobStatusEventDTO.class
+            );
+            dispatch(event);
+        } catch (Exception e) {
+            log.warn("측정 job 상태 이벤트 처리 실패. reason={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.analyze.sse.heartbeat-ms:15000}")
+    public void sendHeartbeat() {
+        emittersByJobId.forEach((jobId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } catch (Exception e) {
+                    remove(jobId, emitter);
+                }
+            }
+        });
+    }
+
+    private void dispatch(AnalyzeJobStatusEventDTO event) {
+        Set<SseEmitter> emitters = emittersByJobId.get(event.jobId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            deliver(event.jobId(), emitter, event);
+        }
+    }
+
+    /**
+     * emitter 하나에 이벤트를 보내고, 전송 실패나 종료 이벤트면 연결을 정리한다.
+     */
+    private void deliver(String jobId, SseEmitter emitter, AnalyzeJobStatusEventDTO event) {
+        if (!send(emitter, event)) {
+            remove(jobId, emitter);
+            return;
+        }
+        if (isTerminal(event.status())) {
+            emitter.complete();
+            remove(jobId, emitter);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, AnalyzeJobStatusEventDTO event) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            return true;
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void register(String jobId, SseEmitter emitter) {
+        emittersByJobId.computeIfAbsent(jobId, key -> new CopyOnWriteArraySet<>()).add(emitter);
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> remove(jobId, emitter));
+        emitter.onError(e -> remove(jobId, emitter));
+    }
+
+    private void remove(String jobId, SseEmitter emitter) {
+        emittersByJobId.computeIfPresent(jobId, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private AnalyzeJobStatusEventDTO toEvent(AnalyzeJobEntity job) {
+        return new AnalyzeJobStatusEventDTO(job.getJobId(), job.getStatus(), job.getErrorCode(), LocalDateTime.now());
+    }
+
+    private boolean isTerminal(AnalyzeJobStatus status) {
+        return status == AnalyzeJobStatus.COMPLETED || status == AnalyzeJobStatus.FAILED;
+    }
+}
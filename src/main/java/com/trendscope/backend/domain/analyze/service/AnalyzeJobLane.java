@@ -0,0 +1,41 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+import com.trendscope.backend.global.config.RedisStreamsConfig;
+
+import java.util.Locale;
+
+/**
+ * 측정 job 실행 lane. measurementModel 기준으로 나누며 lane마다 별도 스트림/동시 실행 한도/Modal endpoint를 가진다.
+ * 느린 premium job이 몰려도 quick job이 같은 줄에서 기다리지 않게 하기 위함이다.
+ */
+public enum AnalyzeJobLane {
+    QUICK("quick"),
+    PREMIUM("premium");
+
+    private final String id;
+
+    AnalyzeJobLane(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String streamKey() {
+        return RedisStreamsConfig.ANALYZE_JOB_STREAM_KEY_PREFIX + id;
+    }
+
+    /**
+     * measurementModel이 비어 있는 기존 job은 mode로 판단한다 (QUICK_1VIEW -> quick).
+     */
+    public static AnalyzeJobLane of(AnalyzeJobEntity job) {
+        String model = job.getMeasurementModel();
+        if (model != null && !model.isBlank()) {
+            return QUICK.id.equals(model.trim().toLowerCase(Locale.ROOT)) ? QUICK : PREMIUM;
+        }
+        return job.getMode() == AnalyzeMode.QUICK_1VIEW ? QUICK : PREMIUM;
+    }
+}
@@ -0,0 +1,247 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.trendscope.backend.global.config.RedisStreamsConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Streams 기반 측정 job 큐.
+ * <p>
+ * start 요청은 jobId만 {@link AnalyzeJobLane} 별 스트림에 적재하고, 각 노드의 워커가 consumer group으로 lane별 처리 여유만큼 가져간다.
+ * 처리 완료 후 XACK 하며, 노드가 죽어 ACK 되지 않은 메시지는 일정 시간 이후 다른 노드가 XCLAIM으로 회수한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeJobQueueService {
+
+    private static final String FIELD_JOB_ID = "jobId";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.analyze.queue.consumer-name:}")
+    private String configuredConsumerName;
+
+    @Value("${app.analyze.queue.max-length:100000}")
+    private long maxLength;
+
+    private volatile String consumerName;
+    private final Set<AnalyzeJobLane> readyGroups = ConcurrentHashMap.newKeySet();
+
+    public RecordId enqueue(String jobId, AnalyzeJobLane lane) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("큐에 적재할 jobId가 비어 있습니다.");
+        }
+        ensureConsumerGroup(lane);
+
+        Map<String, String> body = new HashMap<>();
+        body.put(FIELD_JOB_ID, jobId);
+        RecordId recordId = redisTemplate.opsForStream()
+                .add(StreamRecords.newRecord().in(lane.streamKey()).ofMap(body));
+        log.info("측정 job 큐 적재. jobId={} lane={} recordId={}", jobId, lane.id(), recordId);
+        return recordId;
+    }
+
+    /**
+     * 이 노드가 해당 lane에서 처리할 수 있는 만큼(count)만 새 메시지를 가져온다.
+     * 블로킹 읽기는 공유 커넥션을 잡아두므로 사용하지 않는다.
+     */
+    public List<QueuedJob> poll(AnalyzeJobLane lane, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        ensureConsumerGroup(lane);
+
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            records = redisTemplate.opsForStream().read(
+                    Consumer.from(RedisStreamsConfig.ANALYZE_JOB_CONSUMER_GROUP, consumerName()),
+                    StreamReadOptions.empty().count(count),
+                    StreamOffset.create(lane.streamKey(), ReadOffset.lastConsumed())
+            );
+        } catch (Exception e) {
+            if (containsMessage(e, "NOGROUP")) {
+                // Redis가 초기화된 경우 다음 poll에서 group을 다시 만든다.
+                readyGroups.remove(lane);
+            }
+            throw e;
+        }
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<QueuedJob> jobs = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            jobs.add(toQueuedJob(lane, record, 1L));
+        }
+        return jobs;
+    }
+
+    /**
+     * minIdle 이상 ACK 되지 않은 pending 메시지를 이 노드로 회수한다.
+     */
+    public List<QueuedJob> claimStale(AnalyzeJobLane lane, Duration minIdle, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        ensureConsumerGroup(lane);
+
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(
+                lane.streamKey(),
+                RedisStreamsConfig.ANALYZE_JOB_CONSUMER_GROUP,
+                Range.unbounded(),
+                count
+        );
+        if (pendingMessages == null || pendingMessages.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> deliveryCounts = new HashMap<>();
+        List<RecordId> staleIds = new ArrayList<>();
+        for (PendingMessage message : pendingMessages) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            staleIds.add(message.getId());
+            deliveryCounts.put(message.getIdAsString(), message.getTotalDeliveryCount());
+        }
+        if (staleIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                lane.streamKey(),
+                RedisStreamsConfig.ANALYZE_JOB_CONSUMER_GROUP,
+                consumerName(),
+                minIdle,
+                staleIds.toArray(new RecordId[0])
+        );
+        if (claimed == null || claimed.isEmpty()) {
+            return List.of();
+        }
+
+        List<QueuedJob> jobs = new ArrayList<>(claimed.size());
+        for (MapRecord<String, Object, Object> record : claimed) {
+            // XCLAIM 자체가 전달 횟수를 1 증가시킨다.
+            long deliveryCount = deliveryCounts.getOrDefault(record.getId().getValue(), 1L) + 1L;
+            jobs.add(toQueuedJob(lane, record, deliveryCount));
+        }
+        log.warn("미확인 측정 job 메시지 회수. lane={} count={} consumer={}", lane.id(), jobs.size(), consumerName());
+        return jobs;
+    }
+
+    public void acknowledge(QueuedJob queuedJob) {
+        redisTemplate.opsForStream().acknowledge(
+                queuedJob.lane().streamKey(),
+                RedisStreamsConfig.ANALYZE_JOB_CONSUMER_GROUP,
+                queuedJob.recordId()
+        );
+    }
+
+    /**
+     * ACK 된 메시지도 스트림에는 남으므로 길이를 근사치로 제한한다.
+     */
+    public void trim(AnalyzeJobLane lane) {
+        redisTemplate.opsForStream().trim(lane.streamKey(), Math.max(1000L, maxLength), true);
+    }
+
+    public String consumerName() {
+        String name = consumerName;
+        if (name == null) {
+            synchronized (this) {
+                if (consumerName == null) {
+                    consumerName = resolveConsumerName();
+                }
+                name = consumerName;
+            }
+        }
+        return name;
+    }
+
+    private void ensureConsumerGroup(AnalyzeJobLane lane) {
+        if (readyGroups.contains(lane)) {
+            return;
+        }
+        byte[] streamKey = lane.streamKey().getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    streamKey,
+                    RedisStreamsConfig.ANALYZE_JOB_CONSUMER_GROUP,
+                    ReadOffset.from("0-0"),
+                    true
+            ));
+            log.info("측정 job consumer group 생성. stream={} group={}",
+                    lane.streamKey(), RedisStreamsConfig.ANALYZE_JOB_CONSUMER_GROUP);
+        } catch (Exception e) {
+            if (!containsMessage(e, "BUSYGROUP")) {
+                throw e;
+            }
+        }
+        readyGroups.add(lane);
+    }
+
+    private QueuedJob toQueuedJob(AnalyzeJobLane lane, MapRecord<String, Object, Object> record, long deliveryCount) {
+        Object jobId = record.getValue().get(FIELD_JOB_ID);
+        return new QueuedJob(lane, record.getId(), jobId == null ? null : jobId.toString(), deliveryCount);
+    }
+
+    private String resolveConsumerName() {
+        if (configuredConsumerName != null && !configuredConsumerName.isBlank()) {
+            return configuredConsumerName.trim();
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+    }
+
+    private boolean containsMessage(Throwable throwable, String token) {
+        Throwable cursor = throwable;
+        while (cursor != null) {
+            if (cursor.getMessage() != null && cursor.getMessage().contains(token)) {
+                return true;
+            }
+            if (cursor.getCause() == cursor) {
+                break;
+            }
+            cursor = cursor.getCause();
+        }
+        return false;
+    }
+
+    public record QueuedJob(
+            AnalyzeJobLane lane,
+            RecordId recordId,
+            String jobId,
+            long deliveryCount
+    ) {
+    }
+}
@@ -8,12 +8,16 @@ import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
 import com.trendscope.backend.domain.user.dto.TicketTransactionResponseDTO;
 import com.trendscope.backend.domain.measurement.repository.MeasurementRecommendationHistoryRepository;
+import com.trendscope.backend.domain.measurement.service.AnalyzeJobMeasurementService;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobListRow;
 import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.TicketType;
 import com.trendscope.backend.domain.user.repository.UserRepository;
 import com.trendscope.backend.domain.user.service.TicketLedgerService;
 import com.trendscope.backend.global.exception.UpstreamServiceException;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
+import com.trendscope.backend.global.util.KeysetCursor;
 import com.trendscope.backend.global.util.S3Util;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,11 +29,14 @@ import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -46,6 +53,15 @@ public class AnalyzeJobService {
     private final AnalyzeShareTokenService analyzeShareTokenService;
     private final MeasurementRecommendationHistoryRepository measurementRecommendationHistoryRepository;
     private final ObjectMapper objectMapper;
+    private final AnalyzeJobQueueService analyzeJobQueueService;
+    private final AnalyzeJobEventService analyzeJobEventService;
+    private final ModalCallGuard modalCallGuard;
+    private final AnalyzeResultReuseService analyzeResultReuseService;
+    private final AnalyzeJobMeasurementService analyzeJobMeasurementService;
+    private final AnalyzeJobStatusCacheService analyzeJobStatusCacheService;
+    private final AnalyzeShareSnapshotService analyzeShareSnapshotService;
+    private final S3ObjectTombstoneService s3ObjectTombstoneService;
+    private final AnalyzeStageTimingService analyzeStageTimingService;
 
     @Value("${app.analyze.upload-url-expire-minutes:10}")
     private long uploadUrlExpireMinutes;
@@ -53,9 +69,33 @@ public class AnalyzeJobService {
     @Value("${app.analyze.download-url-expire-minutes:30}")
     private long downloadUrlExpireMinutes;
 
+    @Value("${app.analyze.share-snapshot.max-age-seconds:3600}")
+    private long shareSnapshotMaxAgeSeconds;
+
     @Value("${app.frontend-base-url:http://localhost:5173}")
     private String frontendBaseUrl;
 
+    @Value("${modal.read-timeout-ms:600000}")
+    private long modalReadTimeoutMs;
+
+    @Value("${modal.async.enabled:false}")
+    private boolean modalAsyncEnabled;
+
+    @Value("${modal.async.callback-url:}")
+    private String modalCallbackUrl;
+
+    @Value("${modal.async.initial-poll-delay-ms:5000}")
+    private long modalInitialPollDelayMs;
+
+    @Value("${modal.async.max-poll-delay-ms:60000}")
+    private long modalMaxPollDelayMs;
+
+    @Value("${modal.async.poll-lease-ms:30000}")
+    private long modalPollLeaseMs;
+
+    @Value("${modal.async.max-wait-ms:1800000}")
+    private long modalMaxWaitMs;
+
     @Transactional
     public AnalyzeUploadUrlsResponseDTO issueUploadUrls(String username, AnalyzeUploadUrlsRequestDTO dto) {
         UserEntity user = userRepository.findByUsernameAndIsLock(username, false)
@@ -136,15 +176,18 @@ public class AnalyzeJobService {
         job.markQueued();
         analyzeJobRepository.save(job);
 
+        // 티켓 hold/상태 변경이 커밋된 이후에만 워커가 job을 볼 수 있도록 커밋 후 큐에 적재한다.
         if (TransactionSynchronizationManager.isActualTransactionActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
-                    CompletableFuture.runAsync(() -> processJob(jobId));
+                    analyzeJobEventService.publish(job);
+                    enqueueJob(job);
                 }
             });
         } else {
-            CompletableFuture.runAsync(() -> processJob(jobId));
+            analyzeJobEventService.publish(job);
+            enqueueJob(job);
         }
 
         return new AnalyzeJobStartResponseDTO(
@@ -155,11 +198,39 @@ public class AnalyzeJobService {
         );
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 종료된 job은 상태 캐시에서 응답하고 GLB URL만 새로 붙인다. 캐시 적중 시 DB 트랜잭션을 열지 않도록 메서드 트랜잭션을 두지 않는다.
+     */
     public AnalyzeJobStatusResponseDTO getJob(String username, String jobId) {
+        Optional<AnalyzeJobStatusResponseDTO> cached = analyzeJobStatusCacheService.get(username, jobId);
+        if (cached.isPresent()) {
+            return withGlbDownloadUrl(cached.get());
+        }
+
         AnalyzeJobEntity job = analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)
                 .orElseThrow(() -> new IllegalArgumentException("측정 job을 찾을 수 없습니다."));
-        return toStatusResponse(job);
+        AnalyzeJobStatusResponseDTO response = toStatusResponse(job);
+        analyzeJobStatusCacheService.put(username, response);
+        return response;
+    }
+
+    /**
+     * 조건부 조회(ETag)용 job 버전. job이 없으면 null.
+     */
+    public String getJobVersion(String username, String jobId) {
+        return analyzeJobStatusCacheService.get(username, jobId)
+                .map(AnalyzeJobStatusResponseDTO::updatedDate)
+                .or(() -> analyzeJobRepository.findUpdatedDateByJobIdAndUsername(jobId, username))
+                .map(updatedDate -> updatedDate + "|" + downloadUrlWindow())
+                .orElse(null);
+    }
+
+    public String getMyJobsVersion(String username) {
+        long count = analyzeJobRepository.countByUserUsername(username);
+        String latest = analyzeJobRepository.findLatestUpdatedDateByUsername(username)
+                .map(LocalDateTime::toString)
+                .orElse("-");
+        return count + "|" + latest + "|" + downloadUrlWindow();
     }
 
     @Transactional(readOnly = true)
@@ -172,20 +243,70 @@ public class AnalyzeJobService {
         }
 
         AnalyzeShareTokenService.IssuedShareToken issuedToken = analyzeShareTokenService.issueToken(job.getJobId());
+        // 공유 페이지 조회가 DB를 거치지 않도록 발급 시점에 공개 스냅샷을 만들어 둔다.
+        analyzeShareSnapshotService.put(toSharedSnapshot(job));
         String shareUrl = buildShareUrl(issuedToken.token());
         return new AnalyzeJobShareResponseDTO(issuedToken.token(), shareUrl, issuedToken.expiresAt());
     }
 
-    @Transactional(readOnly = true)
-    public AnalyzeSharedJobResponseDTO getSharedJob(String token) {
+    /**
+     * 공유 결과 조회. 발급 시 저장한 스냅샷으로 응답하고, 스냅샷이 없을 때(발급 이전 토큰, Redis 유실)만 DB에서 다시 만든다.
+     * GLB는 presigned URL 대신 redirect 경로(modelUrl)를 내려주므로 응답 전체를 공개 캐시에 오래 둘 수 있다.
+     *
+     * @param modelUrl {@link #getSharedModelUrl(String)}로 연결되는 공유 GLB 경로
+     */
+    public SharedJobView getSharedJob(String token, String modelUrl) {
+        AnalyzeShareTokenService.VerifiedShareToken verified = analyzeShareTokenService.verify(token);
+        AnalyzeShareSnapshotService.SharedSnapshot snapshot = loadSharedSnapshot(verified.jobId());
+        AnalyzeSharedJobResponseDTO cached = snapshot.response();
+
+        AnalyzeSharedJobResponseDTO response = new AnalyzeSharedJobResponseDTO(
+                cached.jobId(),
+                cached.mode(),
+                cached.status(),
+                hasText(snapshot.glbObjectKey()) ? modelUrl : null,
+                cached.heightCm(),
+                cached.weightKg(),
+                cached.gender(),
+                cached.measurementModel(),
+                cached.result(),
+                cached.completedAt(),
+                cached.createdDate()
+        );
+        long tokenRemainingSeconds = Math.max(0L, verified.expiresAt().getEpochSecond() - Instant.now().getEpochSecond());
+        long maxAgeSeconds = Math.min(Math.max(0L, shareSnapshotMaxAgeSeconds), tokenRemainingSeconds);
+        return new SharedJobView(response, Duration.ofSeconds(maxAgeSeconds));
+    }
+
+    /**
+     * 공유 결과 GLB의 presigned URL. 공유 응답을 캐시해 두어도 GLB 다운로드 시점마다 유효한 URL로 redirect 된다.
+     */
+    public String getSharedModelUrl(String token) {
         String jobId = analyzeShareTokenService.extractJobId(token);
+        String glbObjectKey = loadSharedSnapshot(jobId).glbObjectKey();
+        if (!hasText(glbObjectKey)) {
+            throw new IllegalArgumentException("공유된 3D 모델이 없습니다.");
+        }
+        Duration downloadExpiry = Duration.ofMinutes(Math.max(1, downloadUrlExpireMinutes));
+        return s3Util.createPresignedGetUrl(glbObjectKey, downloadExpiry);
+    }
+
+    private AnalyzeShareSnapshotService.SharedSnapshot loadSharedSnapshot(String jobId) {
+        Optional<AnalyzeShareSnapshotService.SharedSnapshot> cached = analyzeShareSnapshotService.get(jobId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         AnalyzeJobEntity job = analyzeJobRepository.findByJobId(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("공유된 측정 결과를 찾을 수 없습니다."));
-
         if (job.getStatus() != AnalyzeJobStatus.COMPLETED || !hasText(job.getResultJson())) {
             throw new IllegalArgumentException("공유 가능한 측정 결과가 아닙니다.");
         }
+        AnalyzeShareSnapshotService.SharedSnapshot snapshot = toSharedSnapshot(job);
+        analyzeShareSnapshotService.put(snapshot);
+        return snapshot;
+    }
 
+    private AnalyzeShareSnapshotService.SharedSnapshot toSharedSnapshot(AnalyzeJobEntity job) {
         JsonNode result;
         try {
             result = objectMapper.readTree(job.getResultJson());
@@ -193,42 +314,57 @@ public class AnalyzeJobService {
             throw new IllegalArgumentException("공유 결과 데이터가 손상되었습니다.");
         }
 
-        Duration downloadExpiry = Duration.ofMinutes(Math.max(1, downloadUrlExpireMinutes));
-        String glbDownloadUrl = hasText(job.getGlbObjectKey())
-                ? s3Util.createPresignedGetUrl(job.getGlbObjectKey(), downloadExpiry)
-                : null;
-
-        return new AnalyzeSharedJobResponseDTO(
-                job.getJobId(),
-                job.getMode(),
-                job.getStatus(),
-                glbDownloadUrl,
-                job.getHeightCm(),
-                job.getWeightKg(),
-                job.getGender(),
-                job.getMeasurementModel(),
-                result,
-                job.getCompletedAt(),
-                job.getCreatedDate()
+        return new AnalyzeShareSnapshotService.SharedSnapshot(
+                job.getGlbObjectKey(),
+                new AnalyzeSharedJobResponseDTO(
+                        job.getJobId(),
+                        job.getMode(),
+                        job.getStatus(),
+                        null,
+                        job.getHeightCm(),
+                        job.getWeightKg(),
+                        job.getGender(),
+                        job.getMeasurementModel(),
+                        result,
+                        job.getCompletedAt(),
+                        job.getCreatedDate()
+                )
         );
     }
 
     @Transactional(readOnly = true)
     public AnalyzeJobListResponseDTO getMyJobs(String username, int size) {
+        return getMyJobs(username, size, null);
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyzeJobListResponseDTO getMyJobs(String username, int size, String cursor) {
         int safeSize = Math.max(1, Math.min(size, MAX_LIST_SIZE));
-        List<AnalyzeJobListItemDTO> jobs = analyzeJobRepository
-                .findByUserUsernameOrderByCreatedDateDesc(username, PageRequest.of(0, safeSize))
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // 다음 페이지 존재 여부를 COUNT 대신 한 건 더 읽어서 판단한다.
+        PageRequest pageRequest = PageRequest.of(0, safeSize + 1);
+        List<AnalyzeJobListRow> rows = after == null
+                ? analyzeJobRepository.findListRowsByUsername(username, pageRequest)
+                : analyzeJobRepository.findListRowsByUsernameBefore(username, after.createdDate(), after.id(), pageRequest);
+        String nextCursor = null;
+        if (rows.size() > safeSize) {
+            rows = rows.subList(0, safeSize);
+            AnalyzeJobListRow last = rows.get(safeSize - 1);
+            nextCursor = new KeysetCursor(last.createdDate(), last.id()).encode();
+        }
+
+        List<AnalyzeJobListItemDTO> jobs = rows
                 .stream()
-                .map(job -> new AnalyzeJobListItemDTO(
-                        job.getJobId(),
-                        job.getMode(),
-                        job.getStatus(),
-                        job.getGlbObjectKey(),
-                        job.getCreatedDate(),
-                        job.getCompletedAt()
+                .map(row -> new AnalyzeJobListItemDTO(
+                        row.jobId(),
+                        row.mode(),
+                        row.status(),
+                        row.glbObjectKey(),
+                        row.createdDate(),
+                        row.completedAt()
                 ))
                 .toList();
-        return new AnalyzeJobListResponseDTO(username, jobs);
+        return new AnalyzeJobListResponseDTO(username, jobs, nextCursor);
     }
 
     @Transactional
@@ -240,9 +376,11 @@ public class AnalyzeJobService {
             throw new IllegalArgumentException("진행 중인 측정 기록은 삭제할 수 없습니다.");
         }
 
-        deleteS3ObjectQuietly(job.getFrontImageKey());
-        deleteS3ObjectQuietly(job.getSideImageKey());
-        deleteS3ObjectQuietly(job.getGlbObjectKey());
+        // S3 삭제는 행 삭제와 같은 트랜잭션에 예약만 하고, GC 워커가 커밋 이후 비동기로 처리한다.
+        s3ObjectTombstoneService.record(
+                Arrays.asList(job.getFrontImageKey(), job.getSideImageKey(), job.getGlbObjectKey()),
+                S3ObjectTombstoneService.REASON_ANALYZE_JOB_DELETED
+        );
 
         // 운영 DB 스키마 편차(예: 마이그레이션 미적용)가 있어도 가능한 범위에서 삭제를 진행한다.
         try {
@@ -256,6 +394,8 @@ public class AnalyzeJobService {
             );
         }
         analyzeJobRepository.delete(job);
+        analyzeJobStatusCacheService.evict(job.getJobId());
+        analyzeShareSnapshotService.evict(job.getJobId());
     }
 
     @Transactional
@@ -263,53 +403,394 @@ public class AnalyzeJobService {
         return analyzeJobRepository.deleteByCompletedAtBefore(cutoff);
     }
 
-    private void processJob(String jobId) {
+    /**
+     * 큐 워커가 호출하는 job 실행 진입점. 같은 메시지가 재전달되거나 중복 적재될 수 있으므로
+     * QUEUED → RUNNING 을 조건부 UPDATE 로 선점한 워커만 결과 재사용/Modal 호출을 진행하고, 나머지는 아무 작업 없이 ACK 한다.
+     * 워커가 죽어 RUNNING 에 남은 job 은 watchdog 이 다시 QUEUED 로 돌려 재적재한다.
+     *
+     * @return false면 Modal 회로 차단/동시 호출 한도로 실행하지 못해 job이 QUEUED로 남았으므로 다시 적재해야 한다.
+     */
+    public boolean processJob(String jobId) {
+        ModalCallGuard.Permit permit = null;
+        AnalyzeStageTimings timings = new AnalyzeStageTimings();
         try {
             AnalyzeJobEntity job = analyzeJobRepository.findByJobId(jobId)
                     .orElseThrow(() -> new IllegalArgumentException("측정 job을 찾을 수 없습니다."));
+            if (isTerminal(job.getStatus())) {
+                log.info("이미 종료된 측정 job 메시지 건너뜀. jobId={} status={}", jobId, job.getStatus());
+                return true;
+            }
+            // DB timestamp 정밀도(µs)로 맞춰야 releaseQueuedJobClaim / watchdog 의 startedAt 비교가 맞는다.
+            LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            if (analyzeJobRepository.claimQueuedJob(jobId, startedAt) != 1) {
+                // 중복 적재된 메시지: 다른 워커가 이미 선점했거나 Modal 비동기 call이 진행 중이다.
+                log.info("실행 중인 측정 job 중복 메시지 건너뜀. jobId={} status={}", jobId, job.getStatus());
+                return true;
+            }
+            recordQueueWait(job, timings);
+            job.markRunning(startedAt);
 
-            job.markRunning();
-            analyzeJobRepository.save(job);
-
-            Map<String, Object> payload = buildModalPayload(job);
-            JsonNode modalResponse = modalAnalyzeClient.analyze(payload);
-
-            boolean success = modalResponse.path("success").asBoolean(false);
-            if (success) {
-                job.markCompleted(modalResponse.toString());
-                analyzeJobRepository.save(job);
-                consumeHeldTicket(job);
-                return;
+            Optional<String> reusedResult = timings.time(
+                    AnalyzeStageTimings.RESULT_REUSE,
+                    () -> analyzeResultReuseService.reuse(job)
+            );
+            if (reusedResult.isPresent()) {
+                completeFromReusedResult(job, reusedResult.get(), timings);
+                return true;
             }
 
-            String errorCode = text(modalResponse, "error");
-            if (!hasText(errorCode)) {
-                errorCode = "analyze_failed";
+            permit = modalCallGuard.tryAcquire().orElse(null);
+            if (permit == null) {
+                log.info("Modal 호출 제한으로 측정 job 보류. jobId={} circuit={}", jobId, modalCallGuard.getState());
+                analyzeJobRepository.releaseQueuedJobClaim(jobId, startedAt, LocalDateTime.now());
+                return false;
             }
-            String detail = text(modalResponse, "detail");
-            if (!hasText(detail)) {
-                detail = modalResponse.toString();
+
+            analyzeJobEventService.publish(job);
+
+            Map<String, Object> payload = timings.time(AnalyzeStageTimings.PRESIGN, () -> buildModalPayload(job));
+            if (modalAsyncEnabled) {
+                // 비동기 모드의 permit 은 submit 왕복에만 쓰고 finally 에서 반납한다 (한도는 submit 속도만 제한, ModalCallGuard 참고).
+                submitToModal(job, payload, permit, timings);
+                return true;
             }
-            job.markFailed(errorCode, detail);
-            analyzeJobRepository.save(job);
-            releaseHeldTicket(job);
+            JsonNode modalResponse = callModal(permit, () -> modalAnalyzeClient.analyze(payload, AnalyzeJobLane.of(job), timings));
+            completeFromModal(job, modalResponse, timings);
         } catch (UpstreamServiceException e) {
             String errorCode = hasText(e.getErrorCode()) ? e.getErrorCode() : "modal_call_failed";
             String detail = safeErrorDetail(e);
             log.error("측정 job 업스트림 호출 실패. jobId={} errorCode={}", jobId, errorCode, e);
-            analyzeJobRepository.findByJobId(jobId).ifPresent(job -> {
-                job.markFailed(errorCode, detail);
-                analyzeJobRepository.save(job);
-                releaseHeldTicket(job);
-            });
+            analyzeJobRepository.findByJobId(jobId).ifPresent(job -> failJobEntity(job, errorCode, detail, timings));
         } catch (Exception e) {
             log.error("측정 job 처리 실패. jobId={}", jobId, e);
-            analyzeJobRepository.findByJobId(jobId).ifPresent(job -> {
-                job.markFailed("modal_call_failed", safeErrorDetail(e));
+            analyzeJobRepository.findByJobId(jobId)
+                    .ifPresent(job -> failJobEntity(job, "modal_call_failed", safeErrorDetail(e), timings));
+        } finally {
+            if (permit != null) {
+                permit.release();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비동기 모드에서 poll 예정 시각이 지난 job의 Modal 결과를 한 번 조회한다.
+     * 처리 중(202)이면 지수 backoff로 다음 조회 시각을 잡고, max-wait를 넘기면 실패 처리한다.
+     */
+    public void pollModalResult(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        // DB timestamp 정밀도(µs)로 맞춰야 rescheduleModalPoll 의 lease 비교가 맞는다.
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(Math.max(1000L, modalPollLeaseMs))).truncatedTo(ChronoUnit.MICROS);
+        if (analyzeJobRepository.claimModalPoll(jobId, now, leaseUntil) != 1) {
+            return;
+        }
+
+        AnalyzeJobEntity job = analyzeJobRepository.findByJobId(jobId).orElse(null);
+        if (job == null || isTerminal(job.getStatus()) || !hasText(job.getModalCallId())) {
+            return;
+        }
+
+        AnalyzeStageTimings timings = new AnalyzeStageTimings();
+        try {
+            Optional<JsonNode> result = modalAnalyzeClient.fetchResult(job.getModalCallId(), AnalyzeJobLane.of(job), timings);
+            if (result.isPresent()) {
+                if (!claimModalResult(job)) {
+                    return;
+                }
+                recordModalAsyncWait(job, timings);
+                completeFromModalSafely(job, result.get(), timings);
+                return;
+            }
+            scheduleNextModalPoll(job, leaseUntil, null, timings);
+        } catch (UpstreamServiceException e) {
+            int upstreamStatus = e.getUpstreamStatus();
+            if (upstreamStatus == 404 || upstreamStatus == 410) {
+                // call id가 만료되었거나 존재하지 않으면 더 기다려도 결과를 받을 수 없다.
+                log.error("Modal call 결과를 찾을 수 없습니다. jobId={} callId={}", jobId, job.getModalCallId(), e);
+                if (claimModalResult(job)) {
+                    failJobEntity(job, e.getErrorCode(), safeErrorDetail(e), timings);
+                }
+                return;
+            }
+            scheduleNextModalPoll(job, leaseUntil, e, timings);
+        } catch (Exception e) {
+            scheduleNextModalPoll(job, leaseUntil, e, timings);
+        }
+    }
+
+    /**
+     * Modal callback으로 받은 결과를 반영한다. 이미 종료된 job이면 false(중복 수신)를 반환한다.
+     */
+    public boolean completeFromModalCallback(String jobId, String callId, JsonNode modalResponse) {
+        AnalyzeJobEntity job = analyzeJobRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("측정 job을 찾을 수 없습니다."));
+        if (isTerminal(job.getStatus())) {
+            return false;
+        }
+        if (!hasText(job.getModalCallId()) || !job.getModalCallId().equals(callId)) {
+            throw new IllegalArgumentException("Modal call id가 측정 job과 일치하지 않습니다.");
+        }
+        if (!claimModalResult(job)) {
+            return false;
+        }
+        AnalyzeStageTimings timings = new AnalyzeStageTimings();
+        recordModalAsyncWait(job, timings);
+        completeFromModalSafely(job, modalResponse, timings);
+        return true;
+    }
+
+    /**
+     * watchdog이 찾은 정체 job을 복구한다. 조회 이후 상태가 바뀌었을 수 있으므로 기준 시각을 다시 확인한 뒤,
+     * 복구 한도 내면 다시 큐에 적재하고 한도를 넘기면 실패 처리 후 hold 티켓을 해제한다.
+     * 재적재는 관측한 startedAt/submittedAt 그대로일 때만 조건부 UPDATE 로 반영하므로, 그 사이 워커가 선점한 job은 건드리지 않는다.
+     * 동기 모드는 Modal 호출 한 번(요청 + 303 이후 대기)이 read timeout 두 배까지 걸릴 수 있어 그보다 오래된 실행만 정체로 본다.
+     */
+    public void recoverStuckJob(String jobId, LocalDateTime queuedBefore, LocalDateTime runningBefore, int maxRecoveries) {
+        AnalyzeJobEntity job = analyzeJobRepository.findByJobId(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        boolean stuckQueued = job.getStatus() == AnalyzeJobStatus.QUEUED
+                && job.getSubmittedAt() != null
+                && job.getSubmittedAt().isBefore(queuedBefore);
+        boolean stuckRunning = job.getStatus() == AnalyzeJobStatus.RUNNING
+                && !hasText(job.getModalCallId())
+                && job.getStartedAt() != null
+                && job.getStartedAt().isBefore(stuckRunningBefore(runningBefore));
+        if (!stuckQueued && !stuckRunning) {
+            return;
+        }
+
+        int recoveryCount = job.getRecoveryCount() == null ? 0 : job.getRecoveryCount();
+        if (recoveryCount >= Math.max(0, maxRecoveries)) {
+            log.error("정체된 측정 job 복구 한도 초과로 실패 처리. jobId={} status={} recoveryCount={}",
+                    jobId, job.getStatus(), recoveryCount);
+            failJobEntity(job, "job_stuck", "측정 job이 " + job.getStatus() + " 상태로 정체되어 실패 처리되었습니다.");
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = stuckQueued
+                ? analyzeJobRepository.requeueStuckQueuedJob(jobId, job.getSubmittedAt(), now)
+                : analyzeJobRepository.requeueStuckRunningJob(jobId, job.getStartedAt(), now);
+        if (requeued != 1) {
+            log.info("정체 job 복구 건너뜀: 조회 이후 상태가 바뀌었습니다. jobId={}", jobId);
+            return;
+        }
+
+        log.warn("정체된 측정 job 재적재. jobId={} status={} recoveryCount={}", jobId, job.getStatus(), recoveryCount);
+        analyzeJobRepository.findByJobId(jobId).ifPresent(recovered -> {
+            analyzeJobEventService.publish(recovered);
+            enqueueJob(recovered);
+        });
+    }
+
+    private LocalDateTime stuckRunningBefore(LocalDateTime runningBefore) {
+        if (modalAsyncEnabled) {
+            return runningBefore;
+        }
+        LocalDateTime syncCallBefore = LocalDateTime.now()
+                .minus(Duration.ofMillis(Math.max(0L, modalReadTimeoutMs) * 2 + 60_000L));
+        return runningBefore.isBefore(syncCallBefore) ? runningBefore : syncCallBefore;
+    }
+
+    /**
+     * 재시도 한도를 넘긴 메시지 등 더 이상 실행하지 않을 job을 실패 처리하고 hold 티켓을 해제한다.
+     */
+    public void failJob(String jobId, String errorCode, String detail) {
+        analyzeJobRepository.findByJobId(jobId).ifPresent(job -> {
+            if (isTerminal(job.getStatus())) {
+                return;
+            }
+            failJobEntity(job, errorCode, detail);
+        });
+    }
+
+    private void submitToModal(
+            AnalyzeJobEntity job,
+            Map<String, Object> payload,
+            ModalCallGuard.Permit permit,
+            AnalyzeStageTimings timings
+    ) {
+        if (hasText(modalCallbackUrl)) {
+            payload.put("callback_url", modalCallbackUrl.trim());
+        }
+        String callId = callModal(permit, () -> modalAnalyzeClient.submit(payload, AnalyzeJobLane.of(job), timings));
+        job.markModalSubmitted(callId, LocalDateTime.now().plus(Duration.ofMillis(Math.max(1000L, modalInitialPollDelayMs))));
+        // 비동기 모드는 결과 수신이 다른 실행에서 일어나므로 여기까지의 구간을 먼저 저장한다.
+        analyzeStageTimingService.merge(job, timings);
+        analyzeJobRepository.save(job);
+        log.info("측정 job Modal 비동기 제출. jobId={} callId={}", job.getJobId(), callId);
+    }
+
+    private <T> T callModal(ModalCallGuard.Permit permit, Supplier<T> call) {
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    private void completeFromModal(AnalyzeJobEntity job, JsonNode modalResponse, AnalyzeStageTimings timings) {
+        boolean success = modalResponse.path("success").asBoolean(false);
+        if (success) {
+            timings.time(AnalyzeStageTimings.RESULT_PERSIST, () -> {
+                job.markCompleted(modalResponse.toString());
                 analyzeJobRepository.save(job);
-                releaseHeldTicket(job);
+                analyzeJobMeasurementService.record(job, modalResponse);
             });
+            timings.time(AnalyzeStageTimings.TICKET_SETTLEMENT, () -> consumeHeldTicket(job));
+            saveStageTimings(job, timings);
+            analyzeJobEventService.publish(job);
+            return;
+        }
+
+        String errorCode = text(modalResponse, "error");
+        if (!hasText(errorCode)) {
+            errorCode = "analyze_failed";
+        }
+        String detail = text(modalResponse, "detail");
+        if (!hasText(detail)) {
+            detail = modalResponse.toString();
+        }
+        failJobEntity(job, errorCode, detail, timings);
+    }
+
+    private void completeFromReusedResult(AnalyzeJobEntity job, String resultJson, AnalyzeStageTimings timings) {
+        timings.time(AnalyzeStageTimings.RESULT_PERSIST, () -> {
+            job.markCompleted(resultJson);
+            analyzeJobRepository.save(job);
+            try {
+                analyzeJobMeasurementService.record(job, objectMapper.readTree(resultJson));
+            } catch (Exception e) {
+                log.warn("재사용 결과 측정값 추출 실패. jobId={} reason={}", job.getJobId(), e.getMessage());
+            }
+        });
+        timings.time(AnalyzeStageTimings.TICKET_SETTLEMENT, () -> consumeHeldTicket(job));
+        saveStageTimings(job, timings);
+        analyzeJobEventService.publish(job);
+    }
+
+    private void completeFromModalSafely(AnalyzeJobEntity job, JsonNode modalResponse, AnalyzeStageTimings timings) {
+        try {
+            completeFromModal(job, modalResponse, timings);
+        } catch (Exception e) {
+            log.error("Modal 결과 반영 실패. jobId={}", job.getJobId(), e);
+            failJobEntity(job, "modal_call_failed", safeErrorDetail(e), timings);
+        }
+    }
+
+    /**
+     * callback 과 poll 중 먼저 선점한 쪽만 결과를 반영한다. 선점하지 못하면 다른 쪽이 이미 반영 중이거나 끝냈다.
+     */
+    private boolean claimModalResult(AnalyzeJobEntity job) {
+        if (analyzeJobRepository.claimModalResult(job.getJobId(), job.getModalCallId()) == 1) {
+            return true;
+        }
+        log.info("Modal 결과를 다른 경로가 이미 반영 중. jobId={} callId={}", job.getJobId(), job.getModalCallId());
+        return false;
+    }
+
+    private void scheduleNextModalPoll(
+            AnalyzeJobEntity job,
+            LocalDateTime leaseUntil,
+            Exception cause,
+            AnalyzeStageTimings timings
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startedAt = job.getStartedAt() == null ? now : job.getStartedAt();
+        if (startedAt.plus(Duration.ofMillis(Math.max(60_000L, modalMaxWaitMs))).isBefore(now)) {
+            if (!claimModalResult(job)) {
+                return;
+            }
+            String detail = cause == null
+                    ? "Modal 비동기 처리 대기 시간을 초과했습니다. callId=" + job.getModalCallId()
+                    : safeErrorDetail(cause);
+            log.error("Modal 비동기 처리 대기 시간 초과. jobId={} callId={}", job.getJobId(), job.getModalCallId());
+            recordModalAsyncWait(job, timings);
+            failJobEntity(job, "MODAL_ASYNC_TIMEOUT", detail, timings);
+            return;
+        }
+        if (cause != null) {
+            log.warn("Modal 결과 조회 실패, 다음 주기에 재시도. jobId={} reason={}", job.getJobId(), cause.getMessage());
         }
+
+        int attempts = job.getModalPollAttempts() == null ? 0 : job.getModalPollAttempts();
+        long baseDelayMs = Math.max(1000L, modalInitialPollDelayMs);
+        long delayMs = Math.min(Math.max(baseDelayMs, modalMaxPollDelayMs), baseDelayMs << Math.min(attempts, 10));
+        // 동시에 제출된 job들이 같은 시각에 몰리지 않도록 ±20% jitter를 준다.
+        delayMs = (long) (delayMs * ThreadLocalRandom.current().nextDouble(0.8d, 1.2d));
+        // 엔티티 전체를 저장하면 그 사이 callback 이 반영한 종료 상태를 덮어쓰므로 poll lease 를 조건으로 갱신한다.
+        analyzeStageTimingService.merge(job, timings);
+        analyzeJobRepository.rescheduleModalPoll(
+                job.getJobId(),
+                job.getModalCallId(),
+                leaseUntil,
+                now.plus(Duration.ofMillis(delayMs)),
+                job.getStageTimings()
+        );
+    }
+
+    private void failJobEntity(AnalyzeJobEntity job, String errorCode, String detail) {
+        failJobEntity(job, errorCode, detail, new AnalyzeStageTimings());
+    }
+
+    private void failJobEntity(AnalyzeJobEntity job, String errorCode, String detail, AnalyzeStageTimings timings) {
+        timings.time(AnalyzeStageTimings.RESULT_PERSIST, () -> {
+            job.markFailed(hasText(errorCode) ? errorCode : "modal_call_failed", detail);
+            analyzeJobRepository.save(job);
+        });
+        timings.time(AnalyzeStageTimings.TICKET_SETTLEMENT, () -> releaseHeldTicket(job));
+        saveStageTimings(job, timings);
+        analyzeJobEventService.publish(job);
+    }
+
+    /**
+     * 종료된 job의 구간 시간을 저장하고 히스토그램에 기록한다. 실패해도 job 처리 결과에는 영향을 주지 않는다.
+     */
+    private void saveStageTimings(AnalyzeJobEntity job, AnalyzeStageTimings timings) {
+        try {
+            analyzeStageTimingService.complete(job, timings);
+            analyzeJobRepository.save(job);
+        } catch (Exception e) {
+            log.warn("측정 job 구간 시간 저장 실패. jobId={} reason={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void recordQueueWait(AnalyzeJobEntity job, AnalyzeStageTimings timings) {
+        if (job.getSubmittedAt() != null) {
+            timings.record(
+                    AnalyzeStageTimings.QUEUE_WAIT,
+                    Duration.between(job.getSubmittedAt(), LocalDateTime.now()).toMillis()
+            );
+        }
+    }
+
+    // 비동기 모드는 submit 시각을 따로 두지 않으므로 RUNNING 시작부터 결과 수신까지를 대기 시간으로 본다.
+    private void recordModalAsyncWait(AnalyzeJobEntity job, AnalyzeStageTimings timings) {
+        if (job.getStartedAt() != null) {
+            timings.record(
+                    AnalyzeStageTimings.MODAL_ASYNC_WAIT,
+                    Duration.between(job.getStartedAt(), LocalDateTime.now()).toMillis()
+            );
+        }
+    }
+
+    private void enqueueJob(AnalyzeJobEntity job) {
+        String jobId = job.getJobId();
+        try {
+            analyzeJobQueueService.enqueue(jobId, AnalyzeJobLane.of(job));
+        } catch (Exception e) {
+            log.error("측정 job 큐 적재 실패. jobId={}", jobId, e);
+            failJob(jobId, "queue_enqueue_failed", safeErrorDetail(e));
+        }
+    }
+
+    private boolean isTerminal(AnalyzeJobStatus status) {
+        return status == AnalyzeJobStatus.COMPLETED || status == AnalyzeJobStatus.FAILED;
     }
 
     private Map<String, Object> buildModalPayload(AnalyzeJobEntity job) {
@@ -380,6 +861,46 @@ public class AnalyzeJobService {
         );
     }
 
+    /**
+     * 응답에 포함된 GLB presigned URL이 만료되기 전에 클라이언트가 새 응답을 받도록 ETag에 섞는 시간 구간.
+     * S3Util presign 캐시가 URL을 만료 직전까지 재사용하므로 만료 시간의 1/4 단위로 끊는다.
+     */
+    private long downloadUrlWindow() {
+        long expiryMillis = Duration.ofMinutes(Math.max(1, downloadUrlExpireMinutes)).toMillis();
+        return System.currentTimeMillis() / Math.max(60_000L, expiryMillis / 4);
+    }
+
+    private AnalyzeJobStatusResponseDTO withGlbDownloadUrl(AnalyzeJobStatusResponseDTO response) {
+        if (response.status() != AnalyzeJobStatus.COMPLETED || !hasText(response.glbObjectKey())) {
+            return response;
+        }
+        Duration downloadExpiry = Duration.ofMinutes(Math.max(1, downloadUrlExpireMinutes));
+        return new AnalyzeJobStatusResponseDTO(
+                response.jobId(),
+                response.mode(),
+                response.status(),
+                response.frontImageKey(),
+                response.sideImageKey(),
+                response.glbObjectKey(),
+                s3Util.createPresignedGetUrl(response.glbObjectKey(), downloadExpiry),
+                response.heightCm(),
+                response.weightKg(),
+                response.gender(),
+                response.qualityMode(),
+                response.normalizeWithAnny(),
+                response.measurementModel(),
+                response.outputPose(),
+                response.errorCode(),
+                response.errorDetail(),
+                response.result(),
+                response.queuedAt(),
+                response.startedAt(),
+                response.completedAt(),
+                response.createdDate(),
+                response.updatedDate()
+        );
+    }
+
     private String buildShareUrl(String token) {
         String baseUrl = hasText(frontendBaseUrl) ? frontendBaseUrl.trim() : "http://localhost:5173";
         if (baseUrl.endsWith("/")) {
@@ -389,17 +910,6 @@ public class AnalyzeJobService {
         return baseUrl + "/share/result/" + encodedToken;
     }
 
-    private void deleteS3ObjectQuietly(String objectKey) {
-        if (!hasText(objectKey)) {
-            return;
-        }
-        try {
-            s3Util.deleteObject(objectKey);
-        } catch (Exception e) {
-            log.warn("측정 기록 삭제 중 S3 오브젝트 삭제 실패. key={}", objectKey, e);
-        }
-    }
-
     private String normalizeGender(String gender) {
         if (!hasText(gender)) {
             throw new IllegalArgumentException("gender는 필수입니다.");
@@ -450,9 +960,8 @@ public class AnalyzeJobService {
     private void consumeHeldTicket(AnalyzeJobEntity job) {
         try {
             TicketType ticketType = inferRequiredTicketType(job);
-            String username = resolveUsername(job);
             TicketTransactionResponseDTO response = ticketLedgerService.consumeHeldForAnalyze(
-                    username,
+                    resolveUserId(job),
                     ticketType,
                     job.getJobId()
             );
@@ -472,9 +981,8 @@ public class AnalyzeJobService {
     private void releaseHeldTicket(AnalyzeJobEntity job) {
         try {
             TicketType ticketType = inferRequiredTicketType(job);
-            String username = resolveUsername(job);
             TicketTransactionResponseDTO response = ticketLedgerService.releaseHeldForAnalyze(
-                    username,
+                    resolveUserId(job),
                     ticketType,
                     job.getJobId()
             );
@@ -491,14 +999,10 @@ public class AnalyzeJobService {
         }
     }
 
-    private String resolveUsername(AnalyzeJobEntity job) {
-        Long userId = Optional.ofNullable(job.getUser())
+    private Long resolveUserId(AnalyzeJobEntity job) {
+        return Optional.ofNullable(job.getUser())
                 .map(UserEntity::getId)
                 .orElseThrow(() -> new IllegalStateException("측정 job 사용자 식별자(userId)를 찾을 수 없습니다."));
-
-        return userRepository.findById(userId)
-                .map(UserEntity::getUsername)
-                .orElseThrow(() -> new IllegalStateException("측정 job 사용자를 찾을 수 없습니다. userId=" + userId));
     }
 
     private String text(JsonNode node, String field) {
@@ -525,4 +1029,13 @@ public class AnalyzeJobService {
         }
         return throwable.getClass().getSimpleName();
     }
+
+    /**
+     * @param maxAge 공개 캐시(Cache-Control max-age)에 둘 수 있는 기간. 공유 토큰 만료 시각을 넘지 않는다.
+     */
+    public record SharedJobView(
+            AnalyzeSharedJobResponseDTO response,
+            Duration maxAge
+    ) {
+    }
 }
@@ -0,0 +1,201 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trendscope.backend.domain.analyze.dto.AnalyzeJobStatusResponseDTO;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종료(COMPLETED/FAILED)된 측정 job 상태 응답 캐시. 노드 로컬(Caffeine) → Redis 순으로 조회한다.
+ * <p>
+ * 종료된 job의 응답은 presigned GLB URL을 제외하면 바뀌지 않으므로 URL을 비운 상태로 저장하고, 조회 시 다시 붙인다.
+ * 삭제/보존기간 정리로 내용이 바뀌면 Redis 키를 지우고 pub/sub으로 모든 노드의 로컬 캐시를 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeJobStatusCacheService implements MessageListener {
+
+    // Key Convention: 도메인:리소스:용도
+    public static final String STATUS_CACHE_KEY_PREFIX = "analyze:cache:status:";
+    public static final String STATUS_CACHE_EVICT_CHANNEL = "analyze:channel:status-cache-evict";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.analyze.status-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.analyze.status-cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${app.analyze.status-cache.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @Value("${app.analyze.status-cache.redis-ttl-seconds:86400}")
+    private long redisTtlSeconds;
+
+    private Cache<String, CachedJobStatus> localCache;
+
+    @PostConstruct
+    void init() {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, localMaxSize))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1L, localTtlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "analyze.job-status");
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(STATUS_CACHE_EVICT_CHANNEL));
+    }
+
+    /**
+     * 요청 사용자 소유의 캐시 항목만 반환한다. 반환값의 glbDownloadUrl은 항상 null.
+     */
+    public Optional<AnalyzeJobStatusResponseDTO> get(String username, String jobId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedJobStatus cached = localCache.getIfPresent(jobId);
+        if (cached == null) {
+            cached = readShared(jobId);
+            if (cached != null) {
+                localCache.put(jobId, cached);
+            }
+        }
+        if (cached == null || !cached.username().equals(username)) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.response());
+    }
+
+    public void put(String username, AnalyzeJobStatusResponseDTO response) {
+        if (!enabled || !isTerminal(response.status())) {
+            return;
+        }
+        CachedJobStatus cached = new CachedJobStatus(username, withoutDownloadUrl(response));
+        localCache.put(response.jobId(), cached);
+        try {
+            redisTemplate.opsForValue().set(
+                    STATUS_CACHE_KEY_PREFIX + response.jobId(),
+                    objectMapper.writeValueAsString(cached),
+                    Duration.ofSeconds(Math.max(60L, redisTtlSeconds))
+            );
+        } catch (Exception e) {
+            log.warn("측정 job 상태 캐시 저장 실패. jobId={} reason={}", response.jobId(), e.getMessage());
+        }
+    }
+
+    public void evict(String jobId) {
+        evict(List.of(jobId));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다. 커밋 전에 지우면 그 사이 조회가 이전 상태를 다시 캐시할 수 있다.
+     */
+    public void evict(Collection<String> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            return;
+        }
+        List<String> targets = List.copyOf(jobIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(targets);
+                }
+            });
+            return;
+        }
+        evictNow(targets);
+    }
+
+    private void evictNow(List<String> jobIds) {
+        localCache.invalidateAll(jobIds);
+        try {
+            redisTemplate.delete(jobIds.stream().map(jobId -> STATUS_CACHE_KEY_PREFIX + jobId).toList());
+            redisTemplate.convertAndSend(STATUS_CACHE_EVICT_CHANNEL, objectMapper.writeValueAsString(jobIds));
+        } catch (Exception e) {
+            log.warn("측정 job 상태 캐시 무효화 실패. jobCount={} reason={}", jobIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] jobIds = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), String[].class);
+            localCache.invalidateAll(List.of(jobIds));
+        } catch (Exception e) {
+            log.warn("측정 job 상태 캐시 무효화 메시지 처리 실패. reason={}", e.getMessage());
+        }
+    }
+
+    private CachedJobStatus readShared(String jobId) {
+        try {
+            Object value = redisTemplate.opsForValue().get(STATUS_CACHE_KEY_PREFIX + jobId);
+            if (value == null) {
+                return null;
+            }
+            return objectMapper.readValue(value.toString(), CachedJobStatus.class);
+        } catch (Exception e) {
+            log.warn("측정 job 상태 캐시 조회 실패. jobId={} reason={}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    private AnalyzeJobStatusResponseDTO withoutDownloadUrl(AnalyzeJobStatusResponseDTO response) {
+        return new AnalyzeJobStatusResponseDTO(
+                response.jobId(),
+                response.mode(),
+                response.status(),
+                response.frontImageKey(),
+                response.sideImageKey(),
+                response.glbObjectKey(),
+                null,
+                response.heightCm(),
+                response.weightKg(),
+                response.gender(),
+                response.qualityMode(),
+                response.normalizeWithAnny(),
+                response.measurementModel(),
+                response.outputPose(),
+                response.errorCode(),
+                response.errorDetail(),
+                response.result(),
+                response.queuedAt(),
+                response.startedAt(),
+                response.completedAt(),
+                response.createdDate(),
+                response.updatedDate()
+        );
+    }
+
+    private boolean isTerminal(AnalyzeJobStatus status) {
+        return status == AnalyzeJobStatus.COMPLETED || status == AnalyzeJobStatus.FAILED;
+    }
+
+    record CachedJobStatus(String username, AnalyzeJobStatusResponseDTO response) {
+    }
+}
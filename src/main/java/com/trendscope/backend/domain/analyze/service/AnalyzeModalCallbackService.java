@@ -0,0 +1,98 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Modal 비동기 모드 완료 callback 처리.
+ * <p>
+ * Modal 측은 raw body를 modal.async.callback-secret으로 HMAC-SHA256 서명한 hex 값을 X-Modal-Signature 헤더로 보낸다.
+ * body 형식: {"job_id": "...", "call_id": "...", "result": {analyze 응답}}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeModalCallbackService {
+
+    private final ObjectMapper objectMapper;
+    private final AnalyzeJobService analyzeJobService;
+
+    @Value("${modal.async.callback-secret:}")
+    private String callbackSecret;
+
+    public String processCallback(String rawPayload, String signatureHeader) {
+        if (!isValidSignature(rawPayload, signatureHeader)) {
+            throw new SecurityException("유효하지 않은 Modal callback signature 입니다.");
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(rawPayload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Modal callback payload JSON 파싱 실패", e);
+        }
+
+        String jobId = root.path("job_id").asText("");
+        String callId = root.path("call_id").asText("");
+        if (!hasText(jobId) || !hasText(callId)) {
+            throw new IllegalArgumentException("Modal callback에 job_id/call_id가 없습니다.");
+        }
+        JsonNode result = root.path("result");
+        if (result.isMissingNode() || result.isNull()) {
+            result = root;
+        }
+
+        boolean applied = analyzeJobService.completeFromModalCallback(jobId, callId, result);
+        if (!applied) {
+            log.info("Modal callback 중복 수신. jobId={} callId={}", jobId, callId);
+            return "IGNORED_DUPLICATE";
+        }
+        return "PROCESSED";
+    }
+
+    private boolean isValidSignature(String rawPayload, String signatureHeader) {
+        if (!hasText(callbackSecret)) {
+            log.error("modal.async.callback-secret이 비어있어 signature 검증 불가");
+            return false;
+        }
+        if (!hasText(signatureHeader) || rawPayload == null) {
+            return false;
+        }
+
+        String normalized = signatureHeader.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("sha256=")) {
+            normalized = normalized.substring("sha256=".length());
+        }
+        String expected = hmacSha256Hex(rawPayload, callbackSecret);
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8),
+                normalized.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private String hmacSha256Hex(String payload, String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Modal callback signature 검증 초기화 실패", e);
+        }
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
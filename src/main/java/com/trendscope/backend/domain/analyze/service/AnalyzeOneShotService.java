@@ -5,6 +5,7 @@ import com.trendscope.backend.domain.analyze.dto.AnalyzeOneShotRequestDTO;
 import com.trendscope.backend.domain.analyze.dto.AnalyzeOneShotResponseDTO;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
 import com.trendscope.backend.global.exception.FeatureDisabledException;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
 import com.trendscope.backend.global.util.S3Util;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -26,10 +28,14 @@ public class AnalyzeOneShotService {
 
     private final S3Util s3Util;
     private final ModalAnalyzeClient modalAnalyzeClient;
+    private final S3ObjectTombstoneService s3ObjectTombstoneService;
 
     @Value("${app.analyze.download-url-expire-minutes:30}")
     private long downloadUrlExpireMinutes;
 
+    @Value("${modal.read-timeout-ms:600000}")
+    private long modalReadTimeoutMs;
+
     @Value("${app.analyze.one-shot.enabled:false}")
     private boolean oneShotEnabled;
 
@@ -63,12 +69,20 @@ public class AnalyzeOneShotService {
         String glbKey = prefix + "/output/body.glb";
         String debugGlbKey = prefix + "/output/debug_joints.glb";
 
+        Duration expiry = Duration.ofMinutes(Math.max(1, downloadUrlExpireMinutes));
+        // one-shot 결과는 DB에 남지 않으므로 업로드 전에 삭제를 예약한다. GLB 다운로드 URL은 Modal 응답 후에 발급되므로
+        // 동기 Modal 호출이 걸릴 수 있는 최대 시간(read timeout)까지 더해, 그 URL이 만료된 뒤 GC 워커가 지운다.
+        s3ObjectTombstoneService.record(
+                Arrays.asList(frontKey, sideKey, glbKey, debugGlbKey),
+                S3ObjectTombstoneService.REASON_ANALYZE_ONE_SHOT,
+                expiry.plusMillis(Math.max(0L, modalReadTimeoutMs))
+        );
+
         s3Util.uploadMultipartFile(frontKey, dto.getFrontImage());
         if (sideKey != null && dto.getSideImage() != null && !dto.getSideImage().isEmpty()) {
             s3Util.uploadMultipartFile(sideKey, dto.getSideImage());
         }
 
-        Duration expiry = Duration.ofMinutes(Math.max(1, downloadUrlExpireMinutes));
         String frontImageUrl = s3Util.createPresignedGetUrl(frontKey, expiry);
         String sideImageUrl = sideKey == null ? null : s3Util.createPresignedGetUrl(sideKey, expiry);
         String glbUploadUrl = s3Util.createPresignedPutUrl(glbKey, expiry);
@@ -0,0 +1,139 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.user.entity.UserEntity;
+import com.trendscope.backend.global.util.S3Util;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 동일 입력 재측정 시 Modal 호출 없이 이전 결과를 재사용한다.
+ * <p>
+ * 입력 digest = SHA-256(사용자 id, 정면/측면 S3 ETag, 정규화된 키/몸무게/성별, 측정 모델, output pose 등).
+ * 같은 digest로 완료된 job이 있으면 result_json을 그대로 쓰고 GLB는 S3 서버 측 복사로 새 job 경로에 만든다.
+ * 원본 job이 삭제되면 digest 인덱스도 함께 사라지므로 별도 캐시 무효화가 필요 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeResultReuseService {
+
+    private static final String DIGEST_VERSION = "v1";
+    private static final String METRIC_NAME = "analyze.result.reuse";
+
+    private final AnalyzeJobRepository analyzeJobRepository;
+    private final S3Util s3Util;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.analyze.result-reuse.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * job의 입력 digest를 계산해 기록하고, 재사용 가능한 결과가 있으면 GLB를 복사한 뒤 result_json을 반환한다.
+     * 입력 오브젝트 조회/복사 중 오류는 재사용 실패로만 처리하고 정상 Modal 경로로 넘긴다.
+     */
+    public Optional<String> reuse(AnalyzeJobEntity job) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            String digest = computeInputDigest(job);
+            if (digest == null) {
+                record("skipped");
+                return Optional.empty();
+            }
+            job.assignInputDigest(digest);
+
+            AnalyzeJobEntity source = analyzeJobRepository
+                    .findReusableCompletedJobs(digest, job.getJobId(), PageRequest.of(0, 1))
+                    .stream()
+                    .findFirst()
+                    .orElse(null);
+            if (source == null || !hasText(source.getGlbObjectKey())) {
+                record("miss");
+                return Optional.empty();
+            }
+
+            if (!source.getGlbObjectKey().equals(job.getGlbObjectKey())) {
+                s3Util.copyObject(source.getGlbObjectKey(), job.getGlbObjectKey());
+            }
+            log.info("동일 입력 측정 결과 재사용. jobId={} sourceJobId={}", job.getJobId(), source.getJobId());
+            record("hit");
+            return Optional.of(source.getResultJson());
+        } catch (Exception e) {
+            log.warn("측정 결과 재사용 실패, Modal 호출로 진행. jobId={} reason={}", job.getJobId(), e.getMessage());
+            record("error");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 입력 이미지 ETag를 확인할 수 없으면 null (재사용하지 않는다).
+     */
+    String computeInputDigest(AnalyzeJobEntity job) {
+        Long userId = Optional.ofNullable(job.getUser()).map(UserEntity::getId).orElse(null);
+        if (userId == null || job.getHeightCm() == null || job.getWeightKg() == null) {
+            return null;
+        }
+        String frontETag = s3Util.getObjectETag(job.getFrontImageKey()).orElse(null);
+        if (frontETag == null) {
+            return null;
+        }
+        String sideETag = "";
+        if (hasText(job.getSideImageKey())) {
+            sideETag = s3Util.getObjectETag(job.getSideImageKey()).orElse(null);
+            if (sideETag == null) {
+                return null;
+            }
+        }
+
+        String material = String.join("|",
+                DIGEST_VERSION,
+                String.valueOf(userId),
+                job.getMode().name(),
+                frontETag,
+                sideETag,
+                String.format(Locale.ROOT, "%.1f", job.getHeightCm()),
+                String.format(Locale.ROOT, "%.1f", job.getWeightKg()),
+                normalize(job.getGender()),
+                normalize(job.getMeasurementModel()),
+                normalize(job.getQualityMode()),
+                String.valueOf(Boolean.TRUE.equals(job.getNormalizeWithAnny())),
+                hasText(job.getOutputPose()) ? job.getOutputPose().trim().toUpperCase(Locale.ROOT) : "PHOTO_POSE"
+        );
+        return sha256Hex(material);
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter(METRIC_NAME, "outcome", outcome).increment();
+    }
+
+    private String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String normalize(String value) {
+        return hasText(value) ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendscope.backend.domain.analyze.dto.AnalyzeSharedJobResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 공유 링크로 공개되는 측정 결과 스냅샷 저장소(Redis).
+ * <p>
+ * 공유 링크 발급 시점의 완료 결과를 presigned URL 없이 저장해 두고, 공유 페이지 조회는 DB를 거치지 않고 이 스냅샷으로 응답한다.
+ * GLB는 스냅샷에 URL 대신 object key만 두고 조회 시점에 redirect 로 presign 하므로 스냅샷 자체는 바뀌지 않는다.
+ * job 삭제/보존기간 만료 시 함께 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeShareSnapshotService {
+
+    // Key Convention: 도메인:리소스:용도
+    public static final String SHARE_SNAPSHOT_KEY_PREFIX = "analyze:cache:share-snapshot:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.analyze.share-token-expire-hours:72}")
+    private long shareTokenExpireHours;
+
+    public Optional<SharedSnapshot> get(String jobId) {
+        try {
+            Object value = redisTemplate.opsForValue().get(SHARE_SNAPSHOT_KEY_PREFIX + jobId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value.toString(), SharedSnapshot.class));
+        } catch (Exception e) {
+            log.warn("공유 결과 스냅샷 조회 실패. jobId={} reason={}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 가장 최근에 발급된 공유 토큰보다 먼저 만료되지 않도록 토큰 유효기간만큼 보관한다.
+     */
+    public void put(SharedSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(
+                    SHARE_SNAPSHOT_KEY_PREFIX + snapshot.response().jobId(),
+                    objectMapper.writeValueAsString(snapshot),
+                    Duration.ofHours(Math.max(1L, shareTokenExpireHours))
+            );
+        } catch (Exception e) {
+            log.warn("공유 결과 스냅샷 저장 실패. jobId={} reason={}", snapshot.response().jobId(), e.getMessage());
+        }
+    }
+
+    public void evict(String jobId) {
+        evict(List.of(jobId));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지운다.
+     */
+    public void evict(Collection<String> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            return;
+        }
+        List<String> targets = List.copyOf(jobIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(targets);
+                }
+            });
+            return;
+        }
+        evictNow(targets);
+    }
+
+    private void evictNow(List<String> jobIds) {
+        try {
+            redisTemplate.delete(jobIds.stream().map(jobId -> SHARE_SNAPSHOT_KEY_PREFIX + jobId).toList());
+        } catch (Exception e) {
+            log.warn("공유 결과 스냅샷 삭제 실패. jobCount={} reason={}", jobIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * @param response glbDownloadUrl은 항상 null 로 저장한다.
+     */
+    public record SharedSnapshot(String glbObjectKey, AnalyzeSharedJobResponseDTO response) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.trendscope.backend.domain.analyze.service;
 
+import com.trendscope.backend.global.util.JwtClaimsCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
@@ -26,7 +27,11 @@ public class AnalyzeShareTokenService {
     @Value("${app.analyze.share-token-expire-hours:72}")
     private long shareTokenExpireHours;
 
+    @Value("${app.analyze.share-token-cache-size:10000}")
+    private long shareTokenCacheSize;
+
     private SecretKey secretKey;
+    private JwtClaimsCache claimsCache;
 
     @PostConstruct
     public void initialize() {
@@ -34,6 +39,8 @@ public class AnalyzeShareTokenService {
                 jwtSecret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        // 인기 공유 링크는 같은 토큰이 반복 조회되므로 검증된 claims를 만료 시각까지 재사용한다.
+        this.claimsCache = new JwtClaimsCache(Jwts.parser().verifyWith(secretKey).build(), shareTokenCacheSize);
     }
 
     public IssuedShareToken issueToken(String jobId) {
@@ -57,16 +64,16 @@ public class AnalyzeShareTokenService {
     }
 
     public String extractJobId(String token) {
+        return verify(token).jobId();
+    }
+
+    public VerifiedShareToken verify(String token) {
         if (token == null || token.isBlank()) {
             throw new IllegalArgumentException("공유 토큰이 비어 있습니다.");
         }
 
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = claimsCache.parse(token);
 
             String type = claims.get("type", String.class);
             if (!SHARE_TOKEN_TYPE.equals(type)) {
@@ -77,12 +84,18 @@ public class AnalyzeShareTokenService {
             if (jobId == null || jobId.isBlank()) {
                 throw new IllegalArgumentException("유효하지 않은 공유 토큰입니다.");
             }
-            return jobId;
+            return new VerifiedShareToken(jobId, claims.getExpiration().toInstant());
         } catch (JwtException e) {
             throw new IllegalArgumentException("공유 링크가 만료되었거나 유효하지 않습니다.");
         }
     }
 
+    public record VerifiedShareToken(
+            String jobId,
+            Instant expiresAt
+    ) {
+    }
+
     public record IssuedShareToken(
             String token,
             LocalDateTime expiresAt
@@ -0,0 +1,132 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendscope.backend.domain.analyze.dto.AnalyzeStageTimingStatsResponseDTO;
+import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 job 실행 구간별 소요 시간 기록/집계.
+ * <p>
+ * 실행 단위로 측정한 {@link AnalyzeStageTimings}를 analyze_job.stage_timings 에 누적 병합하고(재시도·비동기 poll 포함),
+ * job이 종료되면 구간별 Micrometer 타이머(p50/p95, histogram)에 기록한다.
+ * 저장된 값은 {@link #getStats(int, AnalyzeMode, AnalyzeJobStatus)}로 기간별 분위수를 조회할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeStageTimingService {
+
+    private static final String METRIC_NAME = "analyze.job.stage";
+    private static final TypeReference<LinkedHashMap<String, Long>> TIMINGS_TYPE = new TypeReference<>() {
+    };
+
+    private final AnalyzeJobRepository analyzeJobRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이번 실행에서 측정한 구간을 job에 누적한다. 저장은 호출자가 한다.
+     */
+    public void merge(AnalyzeJobEntity job, AnalyzeStageTimings timings) {
+        if (timings == null || timings.isEmpty()) {
+            return;
+        }
+        Map<String, Long> merged = read(job);
+        timings.asMap().forEach((stage, millis) -> merged.merge(stage, millis, Long::sum));
+        write(job, merged);
+    }
+
+    /**
+     * 종료된 job의 구간을 병합하고 전체 소요 시간을 채운 뒤 타이머에 기록한다. 저장은 호출자가 한다.
+     */
+    public void complete(AnalyzeJobEntity job, AnalyzeStageTimings timings) {
+        Map<String, Long> merged = read(job);
+        if (timings != null) {
+            timings.asMap().forEach((stage, millis) -> merged.merge(stage, millis, Long::sum));
+        }
+        if (job.getQueuedAt() != null && job.getCompletedAt() != null) {
+            merged.put(
+                    AnalyzeStageTimings.TOTAL,
+                    Math.max(0L, Duration.between(job.getQueuedAt(), job.getCompletedAt()).toMillis())
+            );
+        }
+        if (merged.isEmpty()) {
+            return;
+        }
+        write(job, merged);
+
+        String mode = job.getMode() == null ? "unknown" : job.getMode().name();
+        String outcome = job.getStatus() == null ? "unknown" : job.getStatus().name();
+        merged.forEach((stage, millis) -> Timer.builder(METRIC_NAME)
+                .description("측정 job 실행 구간별 소요 시간")
+                .tag("stage", stage.endsWith("_ms") ? stage.substring(0, stage.length() - 3) : stage)
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(millis, TimeUnit.MILLISECONDS));
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyzeStageTimingStatsResponseDTO getStats(int hours, AnalyzeMode mode, AnalyzeJobStatus status) {
+        int windowHours = Math.max(1, Math.min(hours, 24 * 30));
+        LocalDateTime since = LocalDateTime.now().minusHours(windowHours);
+        return new AnalyzeStageTimingStatsResponseDTO(
+                since,
+                mode,
+                status,
+                analyzeJobRepository.aggregateStageTimings(
+                                since,
+                                mode == null ? null : mode.name(),
+                                status == null ? null : status.name()
+                        )
+                        .stream()
+                        .map(row -> new AnalyzeStageTimingStatsResponseDTO.StageStat(
+                                row.getStage(),
+                                row.getSamples(),
+                                row.getP50(),
+                                row.getP95(),
+                                row.getMax()
+                        ))
+                        .toList()
+        );
+    }
+
+    private Map<String, Long> read(AnalyzeJobEntity job) {
+        String stored = job.getStageTimings();
+        if (stored == null || stored.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(stored, TIMINGS_TYPE);
+        } catch (Exception e) {
+            log.warn("측정 job 구간 시간 파싱 실패, 새로 기록. jobId={} reason={}", job.getJobId(), e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+    private void write(AnalyzeJobEntity job, Map<String, Long> timings) {
+        try {
+            job.recordStageTimings(objectMapper.writeValueAsString(timings));
+        } catch (Exception e) {
+            log.warn("측정 job 구간 시간 저장 실패. jobId={} reason={}", job.getJobId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 측정 job 한 번의 실행 구간별 소요 시간(ms). 같은 구간을 여러 번 기록하면 누적한다.
+ * <p>
+ * 스레드 간 공유하지 않는 호출 단위 객체이며, 완료 시 analyze_job.stage_timings(jsonb)에 병합 저장된다.
+ */
+public final class AnalyzeStageTimings {
+
+    // QUEUED(마지막 적재) → RUNNING 까지 큐 대기
+    public static final String QUEUE_WAIT = "queue_wait_ms";
+    // 동일 입력 결과 재사용 조회 (S3 HEAD + digest 조회, hit 시 GLB 복사 포함)
+    public static final String RESULT_REUSE = "result_reuse_ms";
+    // Modal 입력/출력 presigned URL 발급
+    public static final String PRESIGN = "presign_ms";
+    // 동기 호출: Modal 응답(또는 303)까지 첫 요청 왕복
+    public static final String MODAL_REQUEST = "modal_request_ms";
+    // 동기 호출: 303 리다이렉트 이후 결과 대기 GET
+    public static final String MODAL_REDIRECT_WAIT = "modal_redirect_wait_ms";
+    // Modal 응답이 보고한 추론 시간 (compute_ms 필드가 있을 때만)
+    public static final String MODAL_COMPUTE = "modal_compute_ms";
+    // 동기 호출 전체 시간에서 Modal 보고 추론 시간을 뺀 나머지 (네트워크/콜드스타트/대기)
+    public static final String MODAL_NETWORK = "modal_network_ms";
+    // 비동기 호출: submit 왕복
+    public static final String MODAL_SUBMIT = "modal_submit_ms";
+    // 비동기 호출: RUNNING 시작부터 결과 수신(poll/callback)까지
+    public static final String MODAL_ASYNC_WAIT = "modal_async_wait_ms";
+    // 비동기 호출: 결과 조회 왕복 (poll 마다 누적)
+    public static final String MODAL_RESULT_FETCH = "modal_result_fetch_ms";
+    // 결과 반영 (job 저장 + 측정값 추출)
+    public static final String RESULT_PERSIST = "result_persist_ms";
+    // hold 티켓 확정 차감/해제
+    public static final String TICKET_SETTLEMENT = "ticket_settlement_ms";
+    // 최초 적재(queuedAt) → 종료(completedAt)
+    public static final String TOTAL = "total_ms";
+
+    private final Map<String, Long> stages = new LinkedHashMap<>();
+
+    public <T> T time(String stage, Supplier<T> action) {
+        long startedNanos = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(stage, (System.nanoTime() - startedNanos) / 1_000_000L);
+        }
+    }
+
+    public void time(String stage, Runnable action) {
+        time(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void record(String stage, long millis) {
+        stages.merge(stage, Math.max(0L, millis), Long::sum);
+    }
+
+    public Long get(String stage) {
+        return stages.get(stage);
+    }
+
+    public boolean isEmpty() {
+        return stages.isEmpty();
+    }
+
+    public Map<String, Long> asMap() {
+        return Collections.unmodifiableMap(stages);
+    }
+}
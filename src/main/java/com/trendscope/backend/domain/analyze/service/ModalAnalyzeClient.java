@@ -3,18 +3,19 @@ package com.trendscope.backend.domain.analyze.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trendscope.backend.global.exception.UpstreamServiceException;
+import com.trendscope.backend.global.upstream.UpstreamHttpClients;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
 import java.net.URI;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -22,6 +23,7 @@ import java.util.Map;
 public class ModalAnalyzeClient {
 
     private final ObjectMapper objectMapper;
+    private final UpstreamHttpClients upstreamHttpClients;
 
     @Value("${modal.base-url:}")
     private String modalBaseUrl;
@@ -29,21 +31,43 @@ public class ModalAnalyzeClient {
     @Value("${modal.analyze-path:/analyze-body}")
     private String analyzePath;
 
-    @Value("${modal.connect-timeout-ms:5000}")
-    private int connectTimeoutMs;
+    @Value("${modal.async.submit-path:/analyze-body/submit}")
+    private String submitPath;
 
-    @Value("${modal.read-timeout-ms:600000}")
-    private int readTimeoutMs;
+    @Value("${modal.async.result-path:/analyze-body/result/{callId}}")
+    private String resultPath;
+
+    // lane별 Modal endpoint. 비어 있으면 modal.base-url을 쓴다.
+    @Value("${modal.lanes.quick.base-url:}")
+    private String quickLaneBaseUrl;
+
+    @Value("${modal.lanes.premium.base-url:}")
+    private String premiumLaneBaseUrl;
 
     public JsonNode analyze(Map<String, Object> payload) {
-        if (!hasText(modalBaseUrl)) {
+        return analyze(payload, null, new AnalyzeStageTimings());
+    }
+
+    /**
+     * 동기 호출. 첫 요청 왕복과 303 이후 대기를 timings 에 나눠 기록하고,
+     * 응답에 추론 시간(compute_ms)이 있으면 나머지를 네트워크/대기 시간으로 분리한다.
+     *
+     * @param lane null이면 기본 endpoint
+     */
+    public JsonNode analyze(Map<String, Object> payload, AnalyzeJobLane lane, AnalyzeStageTimings timings) {
+        if (!hasText(modalBaseUrl) && !hasText(laneBaseUrl(lane))) {
             throw new IllegalArgumentException("modal.base-url가 설정되지 않았습니다.");
         }
 
-        RestClient client = buildClient();
+        RestClient client = upstreamHttpClients.modal();
+        String analyzeUri = resolve(lane, analyzePath);
 
         try {
-            ResponseEntity<String> response = postForEntity(client, analyzePath, payload);
+            long startedNanos = System.nanoTime();
+            ResponseEntity<String> response = timings.time(
+                    AnalyzeStageTimings.MODAL_REQUEST,
+                    () -> postForEntity(client, analyzeUri, payload)
+            );
 
             if (response.getStatusCode().is3xxRedirection()) {
                 String location = response.getHeaders().getFirst("Location");
@@ -51,7 +75,7 @@ public class ModalAnalyzeClient {
                         "Modal analyze 리다이렉트 수신 status={} location={} path={}",
                         response.getStatusCode(),
                         location,
-                        analyzePath
+                        analyzeUri
                 );
                 if (!hasText(location)) {
                     throw new UpstreamServiceException(
@@ -62,12 +86,13 @@ public class ModalAnalyzeClient {
                     );
                 }
                 // 303 See Other must be followed with GET.
-                response = getForEntity(client, location);
+                response = timings.time(AnalyzeStageTimings.MODAL_REDIRECT_WAIT, () -> getForEntity(client, location));
             }
+            long callMillis = (System.nanoTime() - startedNanos) / 1_000_000L;
 
             String rawResponse = response.getBody();
             if (!hasText(rawResponse)) {
-                log.warn("Modal analyze 빈 응답 수신 status={} path={}", response.getStatusCode(), analyzePath);
+                log.warn("Modal analyze 빈 응답 수신 status={} path={}", response.getStatusCode(), analyzeUri);
                 throw new UpstreamServiceException(
                         "MODAL_EMPTY_RESPONSE",
                         "Modal analyze 응답 본문이 비어 있습니다. status=" + response.getStatusCode(),
@@ -75,7 +100,9 @@ public class ModalAnalyzeClient {
                         null
                 );
             }
-            return objectMapper.readTree(rawResponse);
+            JsonNode modalResponse = objectMapper.readTree(rawResponse);
+            recordComputeSplit(modalResponse, callMillis, timings);
+            return modalResponse;
         } catch (RestClientResponseException e) {
             String body = e.getResponseBodyAsString();
             log.warn("Modal analyze 호출 실패 status={} body={}", e.getStatusCode(), body);
@@ -106,14 +133,154 @@ public class ModalAnalyzeClient {
         }
     }
 
-    private RestClient buildClient() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Math.max(1000, connectTimeoutMs));
-        requestFactory.setReadTimeout(Math.max(1000, readTimeoutMs));
-        return RestClient.builder()
-                .baseUrl(modalBaseUrl)
-                .requestFactory(requestFactory)
-                .build();
+    /**
+     * 비동기 모드: Modal에 작업만 제출하고 call id를 돌려받는다. GPU 처리 완료까지 스레드를 잡지 않는다.
+     */
+    public String submit(Map<String, Object> payload) {
+        return submit(payload, null, new AnalyzeStageTimings());
+    }
+
+    public String submit(Map<String, Object> payload, AnalyzeJobLane lane, AnalyzeStageTimings timings) {
+        if (!hasText(modalBaseUrl) && !hasText(laneBaseUrl(lane))) {
+            throw new IllegalArgumentException("modal.base-url가 설정되지 않았습니다.");
+        }
+
+        try {
+            ResponseEntity<String> response = timings.time(
+                    AnalyzeStageTimings.MODAL_SUBMIT,
+                    () -> postForEntity(upstreamHttpClients.modal(), resolve(lane, submitPath), payload)
+            );
+            String rawResponse = response.getBody();
+            String callId = hasText(rawResponse)
+                    ? objectMapper.readTree(rawResponse).path("call_id").asText("")
+                    : "";
+            if (!hasText(callId)) {
+                throw new UpstreamServiceException(
+                        "MODAL_SUBMIT_NO_CALL_ID",
+                        "Modal submit 응답에 call_id가 없습니다. status=" + response.getStatusCode(),
+                        response.getStatusCode().value(),
+                        null
+                );
+            }
+            return callId;
+        } catch (UpstreamServiceException e) {
+            throw e;
+        } catch (RestClientResponseException e) {
+            throw toUpstreamException("submit", e);
+        } catch (Exception e) {
+            String rootCause = rootCauseMessage(e);
+            log.warn("Modal submit 호출 중 오류 발생. rootCause={}", rootCause, e);
+            throw new UpstreamServiceException(
+                    "MODAL_CALL_EXCEPTION",
+                    "Modal submit 호출 중 오류가 발생했습니다. cause=" + rootCause,
+                    0,
+                    e
+            );
+        }
+    }
+
+    /**
+     * 비동기 모드: 제출된 call의 결과를 조회한다. 아직 처리 중이면(202) empty를 반환한다.
+     */
+    public Optional<JsonNode> fetchResult(String callId) {
+        return fetchResult(callId, null, new AnalyzeStageTimings());
+    }
+
+    /**
+     * @param lane submit 한 lane. call id는 제출한 endpoint에서만 조회된다.
+     */
+    public Optional<JsonNode> fetchResult(String callId, AnalyzeJobLane lane, AnalyzeStageTimings timings) {
+        if (!hasText(callId)) {
+            throw new IllegalArgumentException("Modal call id가 비어 있습니다.");
+        }
+
+        try {
+            ResponseEntity<String> response = timings.time(
+                    AnalyzeStageTimings.MODAL_RESULT_FETCH,
+                    () -> upstreamHttpClients.modalPoll().get()
+                            .uri(resolve(lane, resultPath), callId)
+                            .retrieve()
+                            .toEntity(String.class)
+            );
+            if (response.getStatusCode().value() == 202) {
+                return Optional.empty();
+            }
+            String rawResponse = response.getBody();
+            if (!hasText(rawResponse)) {
+                throw new UpstreamServiceException(
+                        "MODAL_EMPTY_RESPONSE",
+                        "Modal result 응답 본문이 비어 있습니다. status=" + response.getStatusCode(),
+                        response.getStatusCode().value(),
+                        null
+                );
+            }
+            return Optional.of(objectMapper.readTree(rawResponse));
+        } catch (UpstreamServiceException e) {
+            throw e;
+        } catch (RestClientResponseException e) {
+            throw toUpstreamException("result", e);
+        } catch (Exception e) {
+            String rootCause = rootCauseMessage(e);
+            log.warn("Modal result 조회 중 오류 발생. callId={} rootCause={}", callId, rootCause);
+            throw new UpstreamServiceException(
+                    "MODAL_CALL_EXCEPTION",
+                    "Modal result 조회 중 오류가 발생했습니다. cause=" + rootCause,
+                    0,
+                    e
+            );
+        }
+    }
+
+    private String laneBaseUrl(AnalyzeJobLane lane) {
+        if (lane == null) {
+            return null;
+        }
+        return lane == AnalyzeJobLane.QUICK ? quickLaneBaseUrl : premiumLaneBaseUrl;
+    }
+
+    /**
+     * lane endpoint가 설정되어 있으면 절대 URL로, 아니면 기본 client base-url 기준 경로로 돌려준다.
+     */
+    private String resolve(AnalyzeJobLane lane, String path) {
+        String baseUrl = laneBaseUrl(lane);
+        if (!hasText(baseUrl)) {
+            return path;
+        }
+        String base = baseUrl.trim();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        return base + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    private void recordComputeSplit(JsonNode modalResponse, long callMillis, AnalyzeStageTimings timings) {
+        JsonNode computeMs = modalResponse.path("compute_ms");
+        if (!computeMs.isNumber()) {
+            return;
+        }
+        long compute = Math.min(callMillis, Math.max(0L, computeMs.asLong()));
+        timings.record(AnalyzeStageTimings.MODAL_COMPUTE, compute);
+        timings.record(AnalyzeStageTimings.MODAL_NETWORK, callMillis - compute);
+    }
+
+    private UpstreamServiceException toUpstreamException(String operation, RestClientResponseException e) {
+        String body = e.getResponseBodyAsString();
+        log.warn("Modal {} 호출 실패 status={} body={}", operation, e.getStatusCode(), body);
+        int statusCode = e.getStatusCode().value();
+        if (statusCode == 404 && containsStoppedAppSignal(body)) {
+            return new UpstreamServiceException(
+                    "MODAL_ENDPOINT_STOPPED",
+                    "Modal endpoint가 중지 상태입니다. modal serve/deploy 후 다시 시도하세요.",
+                    statusCode,
+                    e
+            );
+        }
+        return new UpstreamServiceException(
+                "MODAL_CALL_FAILED",
+                "Modal " + operation + " 호출 실패: " + e.getStatusCode(),
+                statusCode,
+                e
+        );
     }
 
     private ResponseEntity<String> postForEntity(RestClient client, String uriOrPath, Map<String, Object> payload) {
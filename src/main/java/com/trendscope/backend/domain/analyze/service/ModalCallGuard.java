@@ -0,0 +1,221 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.trendscope.backend.global.exception.UpstreamServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Modal 호출 앞단의 circuit breaker + AIMD 동시 호출 제한.
+ * <p>
+ * 연속 업스트림 실패가 임계치를 넘으면 OPEN 되어 일정 시간 호출을 막고, 이후 HALF_OPEN 에서 probe 1건으로 회복을 확인한다.
+ * 동시 호출 한도는 지연이 목표 이내인 성공마다 조금씩 늘리고(additive increase), 실패/지연 초과 시 비율로 줄인다(multiplicative decrease).
+ * 워커는 {@link #availablePermits()} 만큼만 큐에서 꺼내므로, 회로가 열린 동안 job은 QUEUED 상태로 큐에 남는다.
+ * <p>
+ * permit 은 HTTP 호출 한 번 동안만 잡는다. 동기 모드에서는 추론이 끝날 때까지이므로 한도가 Modal 동시 실행 수가 되지만,
+ * 비동기 모드({@code modal.async.enabled})에서는 submit 응답을 받으면 바로 반납하므로 한도는 submit 속도만 제한하고
+ * 이미 제출되어 실행 중인 call 수는 제한하지 않는다 (실행 수는 Modal 쪽 concurrency 설정으로 제한한다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModalCallGuard {
+
+    public enum CircuitState {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${modal.guard.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${modal.guard.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${modal.guard.initial-limit:4}")
+    private int initialLimit;
+
+    @Value("${modal.guard.min-limit:1}")
+    private int minLimit;
+
+    @Value("${modal.guard.max-limit:32}")
+    private int maxLimit;
+
+    @Value("${modal.guard.target-latency-ms:120000}")
+    private long targetLatencyMs;
+
+    @Value("${modal.guard.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAtMillis = 0L;
+    private boolean probeInFlight = false;
+    private double limit;
+    private int inFlight = 0;
+    private double latencyEwmaMs = 0d;
+
+    @PostConstruct
+    void init() {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(minLimit, maxLimit);
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+
+        Gauge.builder("modal.circuit.state", this, guard -> guard.getState().ordinal())
+                .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+                .register(meterRegistry);
+        Gauge.builder("modal.concurrency.limit", this, ModalCallGuard::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("modal.concurrency.in_flight", this, ModalCallGuard::getInFlight)
+                .register(meterRegistry);
+        Gauge.builder("modal.latency.ewma", this, ModalCallGuard::getLatencyEwmaMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 지금 새로 시작할 수 있는 Modal 호출 수. 회로가 열려 있으면 0.
+     */
+    public synchronized int availablePermits() {
+        refreshState();
+        if (state == CircuitState.OPEN) {
+            return 0;
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            return probeInFlight ? 0 : 1;
+        }
+        return Math.max(0, (int) Math.floor(limit) - inFlight);
+    }
+
+    public synchronized Optional<Permit> tryAcquire() {
+        if (availablePermits() <= 0) {
+            return Optional.empty();
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            probeInFlight = true;
+        }
+        inFlight++;
+        return Optional.of(new Permit(this));
+    }
+
+    public synchronized CircuitState getState() {
+        refreshState();
+        return state;
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized double getLatencyEwmaMs() {
+        return latencyEwmaMs;
+    }
+
+    synchronized void onSuccess(long latencyMs) {
+        latencyEwmaMs = latencyEwmaMs == 0d ? latencyMs : (latencyEwmaMs * 0.8d) + (latencyMs * 0.2d);
+        consecutiveFailures = 0;
+        if (state != CircuitState.CLOSED) {
+            log.info("Modal circuit 회복. state={} -> CLOSED", state);
+            state = CircuitState.CLOSED;
+        }
+        if (latencyMs <= Math.max(1L, targetLatencyMs)) {
+            limit = Math.min(maxLimit, limit + (1d / Math.max(1d, limit)));
+        } else {
+            decreaseLimit();
+        }
+    }
+
+    synchronized void onFailure(boolean upstreamFault) {
+        if (!upstreamFault) {
+            return;
+        }
+        decreaseLimit();
+        consecutiveFailures++;
+        if (state == CircuitState.HALF_OPEN || consecutiveFailures >= Math.max(1, failureThreshold)) {
+            if (state != CircuitState.OPEN) {
+                log.warn("Modal circuit OPEN. consecutiveFailures={} openDurationMs={}", consecutiveFailures, openDurationMs);
+            }
+            state = CircuitState.OPEN;
+            openedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    synchronized void release(boolean probe) {
+        inFlight = Math.max(0, inFlight - 1);
+        if (probe) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 업스트림 장애로 볼 실패인지 판단한다. 잘못된 요청(4xx) 등 입력 문제는 회로에 반영하지 않는다.
+     */
+    static boolean isUpstreamFault(Throwable throwable) {
+        if (!(throwable instanceof UpstreamServiceException upstream)) {
+            return true;
+        }
+        int status = upstream.getUpstreamStatus();
+        return status == 0
+                || status >= 500
+                || status == 429
+                || status == 408
+                || "MODAL_ENDPOINT_STOPPED".equals(upstream.getErrorCode());
+    }
+
+    private void decreaseLimit() {
+        double ratio = backoffRatio <= 0d || backoffRatio >= 1d ? 0.7d : backoffRatio;
+        limit = Math.max(minLimit, limit * ratio);
+    }
+
+    private void refreshState() {
+        if (state == CircuitState.OPEN
+                && System.currentTimeMillis() - openedAtMillis >= Math.max(1000L, openDurationMs)) {
+            state = CircuitState.HALF_OPEN;
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 획득한 호출 슬롯. 결과를 기록한 뒤 반드시 {@link #release()} 해야 한다.
+     */
+    public static final class Permit {
+
+        private final ModalCallGuard guard;
+        private final boolean probe;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        Permit(ModalCallGuard guard) {
+            this.guard = guard;
+            this.probe = guard.state == CircuitState.HALF_OPEN;
+        }
+
+        public void success() {
+            guard.onSuccess((System.nanoTime() - startedNanos) / 1_000_000L);
+        }
+
+        public void failure(Throwable cause) {
+            guard.onFailure(isUpstreamFault(cause));
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                guard.release(probe);
+            }
+        }
+    }
+}
@@ -8,7 +8,9 @@ import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.SocialProviderType;
 import com.trendscope.backend.domain.user.entity.enums.TicketType;
 import com.trendscope.backend.domain.user.entity.enums.UserRoleType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceRow;
 import com.trendscope.backend.domain.user.repository.UserRepository;
+import com.trendscope.backend.domain.user.service.TicketLedgerService;
 import com.trendscope.backend.global.jwt.service.JwtService;
 import com.trendscope.backend.global.jwt.service.RedisService;
 import jakarta.servlet.http.Cookie;
@@ -31,11 +33,13 @@ import java.util.UUID;
 public class EmailOtpAuthService {
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final String REVIEW_TOP_UP_REF_PREFIX = "review_top_up";
 
     private final RedisService redisService;
     private final EmailOtpDeliveryService emailOtpDeliveryService;
     private final UserRepository userRepository;
     private final JwtService jwtService;
+    private final TicketLedgerService ticketLedgerService;
 
     @Value("${app.auth.email-otp.ttl-seconds:300}")
     private long otpTtlSeconds;
@@ -96,7 +100,9 @@ public class EmailOtpAuthService {
             }
             UserEntity reviewUser = findOrCreateOtpUser(normalizedEmail);
             ensureReviewTicketBalances(reviewUser);
-            return issueTokens(reviewUser, normalizeDeviceId(dto.getDeviceId()), response);
+            // 보충은 원장 + 잔액 UPDATE(또는 Redis 카운터)로 반영되므로 엔티티 대신 현재 잔액을 다시 읽는다.
+            TicketBalanceRow balances = ticketLedgerService.getBalances(reviewUser.getUsername());
+            return issueTokens(reviewUser, balances.total(), normalizeDeviceId(dto.getDeviceId()), response);
         }
 
         String savedHash = redisService.getStringValue(otpKey(normalizedEmail));
@@ -120,10 +126,10 @@ public class EmailOtpAuthService {
         redisService.deleteKey(attemptKey);
 
         UserEntity user = findOrCreateOtpUser(normalizedEmail);
-        return issueTokens(user, normalizeDeviceId(dto.getDeviceId()), response);
+        return issueTokens(user, user.getTicketBalance(), normalizeDeviceId(dto.getDeviceId()), response);
     }
 
-    private AuthLoginResponseDTO issueTokens(UserEntity user, String deviceId, HttpServletResponse response) {
+    private AuthLoginResponseDTO issueTokens(UserEntity user, int ticketBalance, String deviceId, HttpServletResponse response) {
         String username = user.getUsername();
         String accessToken = jwtService.createAccessToken(username);
         String refreshToken = jwtService.createRefreshToken(username);
@@ -134,24 +140,17 @@ public class EmailOtpAuthService {
                 user.getUsername(),
                 user.isSocialAccount(),
                 user.getEmail(),
-                user.getTicketBalance()
+                ticketBalance
         );
         return new AuthLoginResponseDTO(accessToken, userResponse);
     }
 
+    /**
+     * 리뷰 계정 잔액을 설정값까지 채운다. checkpoint/Redis 카운터와 어긋나지 않도록 GRANT 원장으로 반영한다.
+     */
     private void ensureReviewTicketBalances(UserEntity user) {
-        int targetQuick = Math.max(reviewQuickTicketBalance, 0);
-        int targetPremium = Math.max(reviewPremiumTicketBalance, 0);
-
-        int quickGap = targetQuick - user.getQuickTicketBalance();
-        if (quickGap > 0) {
-            user.changeTicketBalance(TicketType.QUICK, quickGap);
-        }
-
-        int premiumGap = targetPremium - user.getPremiumTicketBalance();
-        if (premiumGap > 0) {
-            user.changeTicketBalance(TicketType.PREMIUM, premiumGap);
-        }
+        ticketLedgerService.topUp(user.getUsername(), TicketType.QUICK, reviewQuickTicketBalance, REVIEW_TOP_UP_REF_PREFIX);
+        ticketLedgerService.topUp(user.getUsername(), TicketType.PREMIUM, reviewPremiumTicketBalance, REVIEW_TOP_UP_REF_PREFIX);
     }
 
     private boolean isReviewBypassEmail(String normalizedEmail) {
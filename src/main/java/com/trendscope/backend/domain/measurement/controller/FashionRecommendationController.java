@@ -6,12 +6,14 @@ import com.trendscope.backend.domain.measurement.dto.FashionRecommendationReques
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationResponseDTO;
 import com.trendscope.backend.domain.measurement.service.FashionRecommendationService;
 import com.trendscope.backend.global.util.ApiResponse;
+import com.trendscope.backend.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,20 +31,36 @@ public class FashionRecommendationController {
         return ApiResponse.ok(fashionRecommendationService.recommend(currentUsername(), dto));
     }
 
-    @Operation(summary = "패션 추천 이력 목록", description = "내 추천 이력을 최신순으로 조회합니다.")
+    @Operation(summary = "패션 추천 이력 목록", description = "내 추천 이력을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/fashion-recommendation/history")
     public ApiResponse<FashionRecommendationHistoryListResponseDTO> history(
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
-        return ApiResponse.ok(fashionRecommendationService.getHistory(currentUsername(), size));
+        String username = currentUsername();
+        if (ETagUtils.checkNotModified(
+                webRequest,
+                fashionRecommendationService.getHistoryVersion(username),
+                size,
+                String.valueOf(cursor)
+        )) {
+            return null;
+        }
+        return ApiResponse.ok(fashionRecommendationService.getHistory(username, size, cursor));
     }
 
     @Operation(summary = "패션 추천 이력 상세", description = "userSeq로 단건 추천 이력을 조회합니다.")
     @GetMapping("/fashion-recommendation/history/{userSeq}")
     public ApiResponse<FashionRecommendationHistoryDetailResponseDTO> historyDetail(
-            @PathVariable Long userSeq
+            @PathVariable Long userSeq,
+            WebRequest webRequest
     ) {
-        return ApiResponse.ok(fashionRecommendationService.getHistoryDetail(currentUsername(), userSeq));
+        String username = currentUsername();
+        if (ETagUtils.checkNotModified(webRequest, fashionRecommendationService.getHistoryDetailVersion(username, userSeq))) {
+            return null;
+        }
+        return ApiResponse.ok(fashionRecommendationService.getHistoryDetail(username, userSeq));
     }
 
     private String currentUsername() {
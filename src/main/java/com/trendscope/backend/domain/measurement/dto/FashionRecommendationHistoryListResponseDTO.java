@@ -4,6 +4,7 @@ import java.util.List;
 
 public record FashionRecommendationHistoryListResponseDTO(
         String username,
-        List<FashionRecommendationHistoryItemDTO> histories
+        List<FashionRecommendationHistoryItemDTO> histories,
+        String nextCursor
 ) {
 }
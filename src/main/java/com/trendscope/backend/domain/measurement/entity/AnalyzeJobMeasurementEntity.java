@@ -0,0 +1,87 @@
+package com.trendscope.backend.domain.measurement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 측정 결과(result_json)에서 추출한 길이/둘레 값. analyze_job과 1:1이며 job 삭제 시 함께 삭제된다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "analyze_job_measurement",
+        indexes = {
+                @Index(name = "idx_analyze_job_measurement_model", columnList = "measurement_model")
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyzeJobMeasurementEntity {
+
+    @Id
+    @Column(name = "analyze_job_id")
+    private Long analyzeJobId;
+
+    @Column(name = "measurement_model", nullable = false, length = 20)
+    private String measurementModel;
+
+    @Column(name = "shoulder_width_cm")
+    private Double shoulderWidthCm;
+
+    @Column(name = "arm_length_cm")
+    private Double armLengthCm;
+
+    @Column(name = "leg_length_cm")
+    private Double legLengthCm;
+
+    @Column(name = "torso_length_cm")
+    private Double torsoLengthCm;
+
+    @Column(name = "inseam_cm")
+    private Double inseamCm;
+
+    @Column(name = "chest_cm")
+    private Double chestCm;
+
+    @Column(name = "waist_cm")
+    private Double waistCm;
+
+    @Column(name = "hip_cm")
+    private Double hipCm;
+
+    @Column(name = "thigh_cm")
+    private Double thighCm;
+
+    @Column(name = "chest_axis_m")
+    private Double chestAxisM;
+
+    @Column(name = "waist_axis_m")
+    private Double waistAxisM;
+
+    @Column(name = "hip_axis_m")
+    private Double hipAxisM;
+
+    @Column(name = "thigh_axis_m")
+    private Double thighAxisM;
+
+    @Column(name = "body_shape", length = 30)
+    private String bodyShape;
+
+    @CreatedDate
+    @Column(name = "created_date", updatable = false)
+    private LocalDateTime createdDate;
+
+    @LastModifiedDate
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+}
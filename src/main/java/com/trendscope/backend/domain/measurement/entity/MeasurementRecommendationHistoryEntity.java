@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
 @Table(
         name = "measurement_recommendation_history",
         indexes = {
-                @Index(name = "idx_measurement_recommendation_history_user_created", columnList = "user_id,created_date")
+                @Index(name = "idx_measurement_recommendation_history_user_created_id", columnList = "user_id,created_date DESC,id DESC")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_measurement_recommendation_history_user_seq", columnNames = {"user_id", "user_seq"}),
@@ -0,0 +1,7 @@
+package com.trendscope.backend.domain.measurement.repository;
+
+import com.trendscope.backend.domain.measurement.entity.AnalyzeJobMeasurementEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AnalyzeJobMeasurementRepository extends JpaRepository<AnalyzeJobMeasurementEntity, Long> {
+}
@@ -1,13 +1,14 @@
 package com.trendscope.backend.domain.measurement.repository;
 
 import com.trendscope.backend.domain.measurement.entity.MeasurementRecommendationHistoryEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MeasurementRecommendationHistoryRepository extends JpaRepository<MeasurementRecommendationHistoryEntity, Long> {
@@ -20,7 +21,41 @@ public interface MeasurementRecommendationHistoryRepository extends JpaRepositor
 
     Optional<MeasurementRecommendationHistoryEntity> findTopByUser_IdOrderByUserSeqDesc(Long userId);
 
-    Page<MeasurementRecommendationHistoryEntity> findByUser_UsernameOrderByCreatedDateDesc(String username, Pageable pageable);
+    @Query("""
+            select new com.trendscope.backend.domain.measurement.repository.RecommendationHistoryListRow(
+                h.id, h.userSeq, h.analyzeJob.jobId, h.mode, h.measurementModel,
+                h.frontImageKey, h.sideImageKey, h.glbObjectKey, h.createdDate
+            )
+            from MeasurementRecommendationHistoryEntity h
+            where h.user.username = :username
+            order by h.createdDate desc, h.id desc
+            """)
+    List<RecommendationHistoryListRow> findListRowsByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("""
+            select new com.trendscope.backend.domain.measurement.repository.RecommendationHistoryListRow(
+                h.id, h.userSeq, h.analyzeJob.jobId, h.mode, h.measurementModel,
+                h.frontImageKey, h.sideImageKey, h.glbObjectKey, h.createdDate
+            )
+            from MeasurementRecommendationHistoryEntity h
+            where h.user.username = :username
+              and (h.createdDate < :createdDate or (h.createdDate = :createdDate and h.id < :id))
+            order by h.createdDate desc, h.id desc
+            """)
+    List<RecommendationHistoryListRow> findListRowsByUsernameBefore(
+            @Param("username") String username,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    long countByUser_Username(String username);
+
+    @Query("select max(h.id) from MeasurementRecommendationHistoryEntity h where h.user.username = :username")
+    Optional<Long> findLatestIdByUsername(@Param("username") String username);
+
+    @Query("select h.id from MeasurementRecommendationHistoryEntity h where h.user.username = :username and h.userSeq = :userSeq")
+    Optional<Long> findIdByUsernameAndUserSeq(@Param("username") String username, @Param("userSeq") Long userSeq);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from MeasurementRecommendationHistoryEntity h where h.analyzeJob.id = :analyzeJobId")
@@ -0,0 +1,22 @@
+package com.trendscope.backend.domain.measurement.repository;
+
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 이력 목록 조회용 projection. result_json/llm_response_json은 읽지 않는다.
+ * id는 keyset 커서 생성에만 쓰고 응답에는 노출하지 않는다.
+ */
+public record RecommendationHistoryListRow(
+        Long id,
+        Long userSeq,
+        String jobId,
+        AnalyzeMode mode,
+        String measurementModel,
+        String frontImageKey,
+        String sideImageKey,
+        String glbObjectKey,
+        LocalDateTime createdDate
+) {
+}
@@ -0,0 +1,135 @@
+package com.trendscope.backend.domain.measurement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+import com.trendscope.backend.domain.measurement.entity.AnalyzeJobMeasurementEntity;
+import com.trendscope.backend.domain.measurement.repository.AnalyzeJobMeasurementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 측정 완료 시 result_json의 lengths/circumferences/body_shape를 analyze_job_measurement 컬럼으로 추출해 두고,
+ * 추천 입력 생성 등에서 JSON 재파싱 없이 사용할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyzeJobMeasurementService {
+
+    private static final int MAX_BODY_SHAPE_LENGTH = 30;
+
+    private final AnalyzeJobMeasurementRepository analyzeJobMeasurementRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 성공 결과만 기록한다. 추출 실패는 측정 완료를 막지 않도록 로그만 남긴다(조회 측은 result_json으로 fallback).
+     */
+    public void record(AnalyzeJobEntity job, JsonNode result) {
+        if (job.getId() == null || result == null || !result.path("success").asBoolean(false)) {
+            return;
+        }
+        try {
+            JsonNode lengths = result.path("lengths");
+            JsonNode circumferences = result.path("circumferences");
+            String bodyShape = result.path("body_shape").isTextual() ? result.path("body_shape").asText().trim() : null;
+            if (bodyShape != null && bodyShape.length() > MAX_BODY_SHAPE_LENGTH) {
+                bodyShape = bodyShape.substring(0, MAX_BODY_SHAPE_LENGTH);
+            }
+
+            AnalyzeJobMeasurementEntity measurement = AnalyzeJobMeasurementEntity.builder()
+                    .analyzeJobId(job.getId())
+                    .measurementModel(resolveMeasurementModel(job))
+                    .shoulderWidthCm(number(lengths, "shoulder_width_cm"))
+                    .armLengthCm(number(lengths, "arm_length_cm"))
+                    .legLengthCm(number(lengths, "leg_length_cm"))
+                    .torsoLengthCm(number(lengths, "torso_length_cm"))
+                    .inseamCm(number(lengths, "inseam_cm"))
+                    .chestCm(number(circumferences, "chest_cm"))
+                    .waistCm(number(circumferences, "waist_cm"))
+                    .hipCm(number(circumferences, "hip_cm"))
+                    .thighCm(number(circumferences, "thigh_cm"))
+                    .chestAxisM(number(circumferences, "chest_axis_m"))
+                    .waistAxisM(number(circumferences, "waist_axis_m"))
+                    .hipAxisM(number(circumferences, "hip_axis_m"))
+                    .thighAxisM(number(circumferences, "thigh_axis_m"))
+                    .bodyShape(bodyShape)
+                    .build();
+            analyzeJobMeasurementRepository.save(measurement);
+        } catch (Exception e) {
+            log.warn("측정값 컬럼 추출 실패. jobId={} reason={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    public Optional<AnalyzeJobMeasurementEntity> find(Long analyzeJobId) {
+        if (analyzeJobId == null) {
+            return Optional.empty();
+        }
+        return analyzeJobMeasurementRepository.findById(analyzeJobId);
+    }
+
+    public ObjectNode toLengthsNode(AnalyzeJobMeasurementEntity measurement) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("shoulder_width_cm", measurement.getShoulderWidthCm());
+        node.put("arm_length_cm", measurement.getArmLengthCm());
+        node.put("leg_length_cm", measurement.getLegLengthCm());
+        node.put("torso_length_cm", measurement.getTorsoLengthCm());
+        node.put("inseam_cm", measurement.getInseamCm());
+        return node;
+    }
+
+    public ObjectNode toCircumferencesNode(AnalyzeJobMeasurementEntity measurement) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("chest_cm", measurement.getChestCm());
+        node.put("waist_cm", measurement.getWaistCm());
+        node.put("hip_cm", measurement.getHipCm());
+        node.put("thigh_cm", measurement.getThighCm());
+        node.put("chest_axis_m", measurement.getChestAxisM());
+        node.put("waist_axis_m", measurement.getWaistAxisM());
+        node.put("hip_axis_m", measurement.getHipAxisM());
+        node.put("thigh_axis_m", measurement.getThighAxisM());
+        return node;
+    }
+
+    /**
+     * 측정값 행은 success 결과에서만 기록되지만, 길이 값이 하나도 없으면 추천에 쓸 수 있는 성공 결과로 보지 않는다.
+     */
+    public boolean isSuccessfulMeasurement(AnalyzeJobMeasurementEntity measurement) {
+        return measurement.getShoulderWidthCm() != null
+                || measurement.getArmLengthCm() != null
+                || measurement.getLegLengthCm() != null
+                || measurement.getTorsoLengthCm() != null
+                || measurement.getInseamCm() != null;
+    }
+
+    /**
+     * premium 결과인데 둘레 값이 하나도 없으면 추출 당시 circumferences가 없던 것으로 본다.
+     */
+    public boolean hasCircumferences(AnalyzeJobMeasurementEntity measurement) {
+        return measurement.getChestCm() != null
+                || measurement.getWaistCm() != null
+                || measurement.getHipCm() != null
+                || measurement.getThighCm() != null;
+    }
+
+    private String resolveMeasurementModel(AnalyzeJobEntity job) {
+        if (job.getMeasurementModel() != null && !job.getMeasurementModel().isBlank()) {
+            return job.getMeasurementModel().trim().toLowerCase(Locale.ROOT);
+        }
+        return job.getMode() == AnalyzeMode.QUICK_1VIEW ? "quick" : "premium";
+    }
+
+    private Double number(JsonNode group, String field) {
+        JsonNode value = group == null ? null : group.path(field);
+        if (value == null || !value.isNumber()) {
+            return null;
+        }
+        return value.asDouble();
+    }
+}
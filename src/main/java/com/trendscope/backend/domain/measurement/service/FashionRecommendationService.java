@@ -3,19 +3,22 @@ package com.trendscope.backend.domain.measurement.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
 import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeRecommendationSourceRow;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationHistoryDetailResponseDTO;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationHistoryItemDTO;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationHistoryListResponseDTO;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationRequestDTO;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationResponseDTO;
+import com.trendscope.backend.domain.measurement.entity.AnalyzeJobMeasurementEntity;
 import com.trendscope.backend.domain.measurement.entity.MeasurementRecommendationHistoryEntity;
 import com.trendscope.backend.domain.measurement.repository.MeasurementRecommendationHistoryRepository;
+import com.trendscope.backend.domain.measurement.repository.RecommendationHistoryListRow;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.repository.UserRepository;
+import com.trendscope.backend.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -34,43 +37,44 @@ public class FashionRecommendationService {
     private final MeasurementRecommendationHistoryRepository historyRepository;
     private final OpenAiFashionClient openAiFashionClient;
     private final ObjectMapper objectMapper;
+    private final AnalyzeJobMeasurementService analyzeJobMeasurementService;
 
     @Transactional
     public FashionRecommendationResponseDTO recommend(String username, FashionRecommendationRequestDTO dto) {
         UserEntity lockedUser = userRepository.findByUsernameForUpdate(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        AnalyzeJobEntity job = analyzeJobRepository.findByJobIdAndUserUsername(dto.getJobId(), username)
+        AnalyzeRecommendationSourceRow source = analyzeJobRepository.findRecommendationSource(dto.getJobId(), username)
                 .orElseThrow(() -> new IllegalArgumentException("측정 job을 찾을 수 없습니다."));
 
-        MeasurementRecommendationHistoryEntity existing = historyRepository.findByAnalyzeJob_Id(job.getId()).orElse(null);
+        MeasurementRecommendationHistoryEntity existing = historyRepository.findByAnalyzeJob_Id(source.id()).orElse(null);
         if (existing != null) {
-            return toRecommendationResponse(existing);
+            return toRecommendationResponse(source.jobId(), existing);
         }
 
-        if (job.getStatus() != AnalyzeJobStatus.COMPLETED) {
+        if (source.status() != AnalyzeJobStatus.COMPLETED) {
             throw new IllegalArgumentException("측정이 완료된 job만 추천 생성이 가능합니다.");
         }
-        if (!hasText(job.getResultJson())) {
-            throw new IllegalArgumentException("측정 결과 JSON이 비어 있습니다.");
-        }
 
-        JsonNode rawResult;
-        try {
-            rawResult = objectMapper.readTree(job.getResultJson());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("저장된 측정 결과 JSON 파싱에 실패했습니다.", e);
-        }
-        if (!rawResult.path("success").asBoolean(false)) {
-            throw new IllegalArgumentException("측정 실패 결과에서는 추천을 생성할 수 없습니다.");
+        String measurementModel = inferMeasurementModel(source);
+        // 완료 시 추출해 둔 측정값 컬럼이 있으면 result_json을 읽지 않는다(추출 전 기록만 JSON fallback).
+        AnalyzeJobMeasurementEntity measurement = analyzeJobMeasurementService.find(source.id()).orElse(null);
+        JsonNode aiInput;
+        String resultJson;
+        if (measurement != null) {
+            aiInput = buildAiInput(measurement, measurementModel, source.gender());
+            // 이력에는 추천 입력으로 쓴 측정값(lengths/circumferences/body_shape)을 남긴다.
+            resultJson = aiInput.toString();
+        } else {
+            resultJson = analyzeJobRepository.findResultJsonById(source.id())
+                    .filter(this::hasText)
+                    .orElseThrow(() -> new IllegalArgumentException("측정 결과 JSON이 비어 있습니다."));
+            aiInput = buildAiInput(parseCompletedResult(resultJson), measurementModel, source.gender());
         }
-
-        String measurementModel = inferMeasurementModel(job);
-        JsonNode aiInput = buildAiInput(rawResult, measurementModel, job.getGender());
         JsonNode recommendation = openAiFashionClient.recommend(
                 aiInput,
                 measurementModel,
-                job.getGender(),
+                source.gender(),
                 dto.getLanguage(),
                 dto.getLocation()
         );
@@ -82,30 +86,61 @@ public class FashionRecommendationService {
         MeasurementRecommendationHistoryEntity history = MeasurementRecommendationHistoryEntity.builder()
                 .user(lockedUser)
                 .userSeq(nextUserSeq)
-                .analyzeJob(job)
-                .mode(job.getMode())
+                .analyzeJob(analyzeJobRepository.getReferenceById(source.id()))
+                .mode(source.mode())
                 .measurementModel(measurementModel)
-                .frontImageKey(job.getFrontImageKey())
-                .sideImageKey(job.getSideImageKey())
-                .glbObjectKey(job.getGlbObjectKey())
-                .resultJson(rawResult.toString())
+                .frontImageKey(source.frontImageKey())
+                .sideImageKey(source.sideImageKey())
+                .glbObjectKey(source.glbObjectKey())
+                .resultJson(resultJson)
                 .llmResponseJson(recommendation.toString())
                 .llmModel(openAiFashionClient.modelName())
                 .promptVersion(openAiFashionClient.promptVersion())
                 .build();
         historyRepository.save(history);
-        return toRecommendationResponse(history);
+        return toRecommendationResponse(source.jobId(), history);
+    }
+
+    /**
+     * 조건부 조회(ETag)용 이력 목록 버전. 이력은 추가/삭제만 되므로 건수와 최신 id로 변경을 판단한다.
+     */
+    public String getHistoryVersion(String username) {
+        long count = historyRepository.countByUser_Username(username);
+        return count + "|" + historyRepository.findLatestIdByUsername(username).orElse(0L);
+    }
+
+    /**
+     * 조건부 조회(ETag)용 이력 상세 버전. 이력이 없으면 null.
+     */
+    public String getHistoryDetailVersion(String username, Long userSeq) {
+        if (userSeq == null || userSeq < 1L) {
+            return null;
+        }
+        return historyRepository.findIdByUsernameAndUserSeq(username, userSeq)
+                .map(String::valueOf)
+                .orElse(null);
     }
 
     @Transactional(readOnly = true)
-    public FashionRecommendationHistoryListResponseDTO getHistory(String username, int size) {
+    public FashionRecommendationHistoryListResponseDTO getHistory(String username, int size, String cursor) {
         int safeSize = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
-        List<FashionRecommendationHistoryItemDTO> histories = historyRepository
-                .findByUser_UsernameOrderByCreatedDateDesc(username, PageRequest.of(0, safeSize))
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest pageRequest = PageRequest.of(0, safeSize + 1);
+        List<RecommendationHistoryListRow> rows = after == null
+                ? historyRepository.findListRowsByUsername(username, pageRequest)
+                : historyRepository.findListRowsByUsernameBefore(username, after.createdDate(), after.id(), pageRequest);
+        String nextCursor = null;
+        if (rows.size() > safeSize) {
+            rows = rows.subList(0, safeSize);
+            RecommendationHistoryListRow last = rows.get(safeSize - 1);
+            nextCursor = new KeysetCursor(last.createdDate(), last.id()).encode();
+        }
+
+        List<FashionRecommendationHistoryItemDTO> histories = rows
                 .stream()
                 .map(this::toHistoryItem)
                 .toList();
-        return new FashionRecommendationHistoryListResponseDTO(username, histories);
+        return new FashionRecommendationHistoryListResponseDTO(username, histories, nextCursor);
     }
 
     @Transactional(readOnly = true)
@@ -119,6 +154,43 @@ public class FashionRecommendationService {
         return toHistoryDetail(history);
     }
 
+    private JsonNode parseCompletedResult(String resultJson) {
+        JsonNode rawResult;
+        try {
+            rawResult = objectMapper.readTree(resultJson);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("저장된 측정 결과 JSON 파싱에 실패했습니다.", e);
+        }
+        if (!rawResult.path("success").asBoolean(false)) {
+            throw new IllegalArgumentException("측정 실패 결과에서는 추천을 생성할 수 없습니다.");
+        }
+        return rawResult;
+    }
+
+    private JsonNode buildAiInput(AnalyzeJobMeasurementEntity measurement, String measurementModel, String gender) {
+        if (!analyzeJobMeasurementService.isSuccessfulMeasurement(measurement)) {
+            throw new IllegalArgumentException("측정 실패 결과에서는 추천을 생성할 수 없습니다.");
+        }
+        ObjectNode input = objectMapper.createObjectNode();
+        input.put("success", true);
+        input.put("gender", normalizeGender(gender));
+        input.set("lengths", analyzeJobMeasurementService.toLengthsNode(measurement));
+
+        if ("premium".equals(measurementModel)) {
+            if (!analyzeJobMeasurementService.hasCircumferences(measurement)) {
+                throw new IllegalArgumentException("premium 결과에 circumferences 필드가 없습니다.");
+            }
+            input.set("circumferences", analyzeJobMeasurementService.toCircumferencesNode(measurement));
+
+            String bodyShapeText = measurement.getBodyShape();
+            if (hasText(bodyShapeText) && !"unknown".equalsIgnoreCase(bodyShapeText.trim())) {
+                input.put("body_shape", bodyShapeText.trim());
+            }
+        }
+
+        return input;
+    }
+
     private JsonNode buildAiInput(JsonNode rawResult, String measurementModel, String gender) {
         ObjectNode input = objectMapper.createObjectNode();
         input.put("success", true);
@@ -158,31 +230,31 @@ public class FashionRecommendationService {
         return "other";
     }
 
-    private String inferMeasurementModel(AnalyzeJobEntity job) {
-        if (hasText(job.getMeasurementModel())) {
-            return job.getMeasurementModel().trim().toLowerCase();
+    private String inferMeasurementModel(AnalyzeRecommendationSourceRow source) {
+        if (hasText(source.measurementModel())) {
+            return source.measurementModel().trim().toLowerCase();
         }
-        return job.getMode() == AnalyzeMode.QUICK_1VIEW ? "quick" : "premium";
+        return source.mode() == AnalyzeMode.QUICK_1VIEW ? "quick" : "premium";
     }
 
-    private FashionRecommendationResponseDTO toRecommendationResponse(MeasurementRecommendationHistoryEntity history) {
+    private FashionRecommendationResponseDTO toRecommendationResponse(String jobId, MeasurementRecommendationHistoryEntity history) {
         return new FashionRecommendationResponseDTO(
-                history.getAnalyzeJob().getJobId(),
+                jobId,
                 history.getMeasurementModel(),
                 parseJson(history.getLlmResponseJson(), "llmResponseJson")
         );
     }
 
-    private FashionRecommendationHistoryItemDTO toHistoryItem(MeasurementRecommendationHistoryEntity history) {
+    private FashionRecommendationHistoryItemDTO toHistoryItem(RecommendationHistoryListRow row) {
         return new FashionRecommendationHistoryItemDTO(
-                history.getUserSeq(),
-                history.getAnalyzeJob().getJobId(),
-                history.getMode(),
-                history.getMeasurementModel(),
-                history.getFrontImageKey(),
-                history.getSideImageKey(),
-                history.getGlbObjectKey(),
-                history.getCreatedDate()
+                row.userSeq(),
+                row.jobId(),
+                row.mode(),
+                row.measurementModel(),
+                row.frontImageKey(),
+                row.sideImageKey(),
+                row.glbObjectKey(),
+                row.createdDate()
         );
     }
 
@@ -3,12 +3,12 @@ package com.trendscope.backend.domain.measurement.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trendscope.backend.global.exception.UpstreamServiceException;
+import com.trendscope.backend.global.upstream.UpstreamHttpClients;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
@@ -234,9 +234,7 @@ public class OpenAiFashionClient {
             """;
 
     private final ObjectMapper objectMapper;
-
-    @Value("${openai.base-url:https://api.openai.com}")
-    private String openAiBaseUrl;
+    private final UpstreamHttpClients upstreamHttpClients;
 
     @Value("${openai.api-key:}")
     private String openAiApiKey;
@@ -247,9 +245,6 @@ public class OpenAiFashionClient {
     @Value("${openai.model:gpt-4.1-mini}")
     private String openAiModel;
 
-    @Value("${openai.timeout-ms:60000}")
-    private int timeoutMs;
-
     public String modelName() {
         return openAiModel;
     }
@@ -321,7 +316,7 @@ public class OpenAiFashionClient {
         body.put("response_format", Map.of("type", "json_object"));
         body.put("messages", buildMessages(inputJson, measurementModel, gender, targetLanguage, locationHint, strictRetry));
 
-        RestClient client = buildClient();
+        RestClient client = upstreamHttpClients.openAi();
         try {
             ResponseEntity<String> response = client.post()
                     .uri(chatCompletionsPath)
@@ -397,17 +392,6 @@ public class OpenAiFashionClient {
         );
     }
 
-    private RestClient buildClient() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        int safeTimeout = Math.max(1000, timeoutMs);
-        requestFactory.setConnectTimeout(safeTimeout);
-        requestFactory.setReadTimeout(safeTimeout);
-        return RestClient.builder()
-                .baseUrl(openAiBaseUrl)
-                .requestFactory(requestFactory)
-                .build();
-    }
-
     private String stripCodeFence(String content) {
         String trimmed = content.trim();
         if (!trimmed.startsWith("```")) {
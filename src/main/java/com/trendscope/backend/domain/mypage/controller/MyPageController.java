@@ -3,6 +3,7 @@ package com.trendscope.backend.domain.mypage.controller;
 import com.trendscope.backend.domain.mypage.dto.MyPageSummaryResponseDTO;
 import com.trendscope.backend.domain.mypage.service.MyPageService;
 import com.trendscope.backend.global.util.ApiResponse;
+import com.trendscope.backend.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,12 +26,16 @@ public class MyPageController {
     @GetMapping("/summary")
     public ApiResponse<MyPageSummaryResponseDTO> summary(
             @RequestParam(defaultValue = "20") int ticketSize,
-            @RequestParam(defaultValue = "20") int analyzeSize
+            @RequestParam(defaultValue = "20") int analyzeSize,
+            WebRequest webRequest
     ) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         if (username == null || username.isBlank()) {
             throw new IllegalArgumentException("인증 사용자 정보를 찾을 수 없습니다.");
         }
+        if (ETagUtils.checkNotModified(webRequest, myPageService.getSummaryVersion(username), ticketSize, analyzeSize)) {
+            return null;
+        }
         return ApiResponse.ok(myPageService.getSummary(username, ticketSize, analyzeSize));
     }
 }
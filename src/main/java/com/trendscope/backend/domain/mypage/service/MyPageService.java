@@ -18,6 +18,17 @@ public class MyPageService {
     private final TicketLedgerService ticketLedgerService;
     private final AnalyzeJobService analyzeJobService;
 
+    /**
+     * 조건부 조회(ETag)용 마이페이지 요약 버전. 사용자를 찾을 수 없으면 null.
+     */
+    public String getSummaryVersion(String username) {
+        String ticketVersion = ticketLedgerService.getSummaryVersion(username);
+        if (ticketVersion == null) {
+            return null;
+        }
+        return ticketVersion + "|" + analyzeJobService.getMyJobsVersion(username);
+    }
+
     @Transactional(readOnly = true)
     public MyPageSummaryResponseDTO getSummary(String username, int ticketSize, int analyzeSize) {
         TicketSummaryResponseDTO ticket = ticketLedgerService.getSummary(username, ticketSize);
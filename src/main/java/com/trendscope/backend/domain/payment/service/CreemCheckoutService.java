@@ -7,6 +7,7 @@ import com.trendscope.backend.domain.payment.dto.CreemCheckoutCreateResponseDTO;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.TicketType;
 import com.trendscope.backend.domain.user.repository.UserRepository;
+import com.trendscope.backend.global.upstream.UpstreamHttpClients;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,9 +26,7 @@ public class CreemCheckoutService {
 
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
-
-    @Value("${creem.base-url:https://test-api.creem.io}")
-    private String creemBaseUrl;
+    private final UpstreamHttpClients upstreamHttpClients;
 
     @Value("${creem.api-key:}")
     private String creemApiKey;
@@ -76,9 +75,7 @@ public class CreemCheckoutService {
         customer.put("email", user.getEmail());
         body.put("customer", customer);
 
-        RestClient client = RestClient.builder()
-                .baseUrl(creemBaseUrl)
-                .build();
+        RestClient client = upstreamHttpClients.creem();
 
         try {
             String rawResponse = client.post()
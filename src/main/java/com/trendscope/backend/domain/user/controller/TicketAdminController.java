@@ -0,0 +1,49 @@
+package com.trendscope.backend.domain.user.controller;
+
+import com.trendscope.backend.domain.user.dto.TicketGrantJobResponseDTO;
+import com.trendscope.backend.domain.user.dto.TicketGrantRequestDTO;
+import com.trendscope.backend.domain.user.service.TicketGrantService;
+import com.trendscope.backend.global.util.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/admin/tickets")
+@Tag(name = "Ticket Admin API", description = "티켓 일괄 지급 API (ADMIN)")
+public class TicketAdminController {
+
+    private final TicketGrantService ticketGrantService;
+
+    @Operation(
+            summary = "티켓 일괄 지급 job 생성",
+            description = "userIds 또는 가입 시각 조건으로 대상 사용자를 정해 티켓을 지급합니다. 백그라운드에서 batch 단위로 처리되며, "
+                    + "사용자당 (ticketType, refId) 한 번만 지급됩니다."
+    )
+    @PostMapping("/grants")
+    public ApiResponse<TicketGrantJobResponseDTO> createGrant(
+            @Valid @RequestBody TicketGrantRequestDTO dto
+    ) {
+        return ApiResponse.ok(ticketGrantService.createJob(dto));
+    }
+
+    @Operation(summary = "티켓 일괄 지급 진행 상황 조회", description = "처리/지급/중복 건수와 진행률을 조회합니다.")
+    @GetMapping("/grants/{jobId}")
+    public ApiResponse<TicketGrantJobResponseDTO> getGrant(@PathVariable String jobId) {
+        return ApiResponse.ok(ticketGrantService.getJob(jobId));
+    }
+
+    @Operation(summary = "티켓 일괄 지급 재개", description = "실패한 job을 마지막으로 처리한 사용자 다음부터 다시 처리합니다.")
+    @PostMapping("/grants/{jobId}/resume")
+    public ApiResponse<TicketGrantJobResponseDTO> resumeGrant(@PathVariable String jobId) {
+        return ApiResponse.ok(ticketGrantService.resume(jobId));
+    }
+}
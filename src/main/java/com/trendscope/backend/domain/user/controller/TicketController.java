@@ -5,12 +5,14 @@ import com.trendscope.backend.domain.user.dto.TicketTransactionRequestDTO;
 import com.trendscope.backend.domain.user.dto.TicketTransactionResponseDTO;
 import com.trendscope.backend.domain.user.service.TicketLedgerService;
 import com.trendscope.backend.global.util.ApiResponse;
+import com.trendscope.backend.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -47,13 +49,23 @@ public class TicketController {
         return ApiResponse.ok(ticketLedgerService.refund(username, dto));
     }
 
-    @Operation(summary = "내 티켓 요약 조회", description = "현재 티켓 잔액과 최근 거래 원장을 조회합니다.")
+    @Operation(summary = "내 티켓 요약 조회", description = "현재 티켓 잔액과 최근 거래 원장을 조회합니다. 원장 다음 페이지는 응답의 nextLedgerCursor를 cursor로 전달합니다.")
     @GetMapping("/me")
     public ApiResponse<TicketSummaryResponseDTO> myTicketSummary(
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
         String username = currentUsername();
-        return ApiResponse.ok(ticketLedgerService.getSummary(username, size));
+        if (ETagUtils.checkNotModified(
+                webRequest,
+                ticketLedgerService.getSummaryVersion(username),
+                size,
+                String.valueOf(cursor)
+        )) {
+            return null;
+        }
+        return ApiResponse.ok(ticketLedgerService.getSummary(username, size, cursor));
     }
 
     private String currentUsername() {
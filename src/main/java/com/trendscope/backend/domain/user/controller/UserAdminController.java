@@ -0,0 +1,48 @@
+package com.trendscope.backend.domain.user.controller;
+
+import com.trendscope.backend.domain.user.dto.UserRoleRequestDTO;
+import com.trendscope.backend.domain.user.service.UserService;
+import com.trendscope.backend.global.util.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/admin/users")
+@Tag(name = "User Admin API", description = "회원 잠금/권한 관리 API (ADMIN)")
+public class UserAdminController {
+
+    private final UserService userService;
+
+    @Operation(summary = "회원 잠금", description = "회원을 잠그고 refresh 토큰을 지우며, 이미 발급된 access token은 DB 상태로 재확인되어 거부됩니다.")
+    @PostMapping("/{username}/lock")
+    public ApiResponse<Boolean> lockUser(@PathVariable String username) {
+        userService.changeLock(username, true);
+        return ApiResponse.ok(true);
+    }
+
+    @Operation(summary = "회원 잠금 해제", description = "잠긴 회원을 다시 로그인할 수 있게 합니다.")
+    @PostMapping("/{username}/unlock")
+    public ApiResponse<Boolean> unlockUser(@PathVariable String username) {
+        userService.changeLock(username, false);
+        return ApiResponse.ok(true);
+    }
+
+    @Operation(summary = "회원 권한 변경", description = "권한을 바꾸고, 이미 발급된 access token은 새 권한으로 재확인되도록 무효화합니다.")
+    @PutMapping("/{username}/role")
+    public ApiResponse<Boolean> changeRole(
+            @PathVariable String username,
+            @Valid @RequestBody UserRoleRequestDTO dto
+    ) {
+        userService.changeRole(username, dto.getRoleType());
+        return ApiResponse.ok(true);
+    }
+}
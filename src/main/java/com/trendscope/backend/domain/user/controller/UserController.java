@@ -2,10 +2,10 @@ package com.trendscope.backend.domain.user.controller;
 
 import com.trendscope.backend.domain.user.dto.*;
 import com.trendscope.backend.global.jwt.service.RedisService;
-import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.service.UserService;
 import com.trendscope.backend.global.exception.FeatureDisabledException;
 import com.trendscope.backend.global.util.ApiResponse;
+import com.trendscope.backend.global.util.ETagUtils;
 import com.trendscope.backend.global.util.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -19,6 +19,7 @@ import org.springframework.security.access.AccessDeniedException;
 // import org.springframework.security.core.annotation.AuthenticationPrincipal; // Removed
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -48,7 +49,10 @@ public class UserController {
 
     @Operation(summary = "내 정보 조회", description = "유저정보 불러오기 API.")
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ApiResponse<UserResponseDTO> userMeApi() {
+    public ApiResponse<UserResponseDTO> userMeApi(WebRequest webRequest) {
+        if (ETagUtils.checkNotModified(webRequest, userService.readUserVersion())) {
+            return null;
+        }
         return ApiResponse.ok(userService.readUser());
     }
 
@@ -86,13 +90,12 @@ public class UserController {
             // @AuthenticationPrincipal CustomUserDetails user, // Removed
             @RequestBody(required = false) Map<String, String> body) {
 
-        UserEntity user = SecurityUtils.getCurrentUser();
+        String username = SecurityUtils.getCurrentUsername();
 
         String deviceId = (body != null && body.get("deviceId") != null) ? body.get("deviceId") : "unknown-device-id";
 
         // 1. Redis 삭제
-        if (user != null) {
-            String username = user.getUsername();
+        if (username != null) {
             redisService.deleteRefreshToken(username, deviceId);
         }
 
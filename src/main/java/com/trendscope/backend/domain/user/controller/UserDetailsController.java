@@ -2,7 +2,6 @@ package com.trendscope.backend.domain.user.controller;
 
 import com.trendscope.backend.domain.user.dto.UserDetailsRequestDTO;
 import com.trendscope.backend.domain.user.dto.UserDetailsResponseDTO;
-import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.service.UserDetailService;
 import com.trendscope.backend.global.util.ApiResponse;
 import com.trendscope.backend.global.util.SecurityUtils;
@@ -24,11 +23,10 @@ public class UserDetailsController {
             @Valid @RequestBody UserDetailsRequestDTO dto) {
         // @AuthenticationPrincipal CustomUserDetails user removed
 
-        UserEntity currentUser = SecurityUtils.getCurrentUser();
-        if (currentUser == null || currentUser.getUsername() == null) {
+        String username = SecurityUtils.getCurrentUsername();
+        if (username == null) {
             throw new IllegalArgumentException("인증 정보가 없습니다.");
         }
-        String username = currentUser.getUsername();
 
         log.info("save user details : {}", username);
 
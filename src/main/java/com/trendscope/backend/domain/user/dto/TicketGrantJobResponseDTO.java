@@ -0,0 +1,28 @@
+package com.trendscope.backend.domain.user.dto;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantJobStatus;
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantTarget;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+
+import java.time.LocalDateTime;
+
+public record TicketGrantJobResponseDTO(
+        String jobId,
+        TicketType ticketType,
+        int quantity,
+        String refId,
+        TicketGrantTarget target,
+        LocalDateTime joinedFrom,
+        LocalDateTime joinedTo,
+        TicketGrantJobStatus status,
+        long totalTargets,
+        long processedTargets,
+        long grantedCount,
+        long skippedCount,
+        double progressPercent,
+        String errorMessage,
+        LocalDateTime createdDate,
+        LocalDateTime updatedDate,
+        LocalDateTime completedDate
+) {
+}
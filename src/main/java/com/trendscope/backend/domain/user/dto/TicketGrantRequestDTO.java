@@ -0,0 +1,36 @@
+package com.trendscope.backend.domain.user.dto;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TicketGrantRequestDTO {
+
+    @Schema(description = "티켓 타입", example = "QUICK")
+    @NotNull(message = "ticketType은 필수입니다.")
+    private TicketType ticketType;
+
+    @Schema(description = "사용자당 지급 수량 (미입력 시 1)", example = "1")
+    private Integer quantity;
+
+    @Schema(description = "캠페인 참조 ID. 사용자당 (ticketType, refId) 한 번만 지급됩니다.", example = "campaign_2026_autumn")
+    @NotBlank(message = "refId는 필수입니다.")
+    private String refId;
+
+    @Schema(description = "지급 대상 사용자 id. 비어 있으면 joinedFrom/joinedTo 조건의 잠기지 않은 사용자 전체가 대상입니다.")
+    private List<Long> userIds;
+
+    @Schema(description = "조건 지급: 가입 시각 하한 (포함)", example = "2026-01-01T00:00:00")
+    private LocalDateTime joinedFrom;
+
+    @Schema(description = "조건 지급: 가입 시각 상한 (미포함)", example = "2026-10-01T00:00:00")
+    private LocalDateTime joinedTo;
+}
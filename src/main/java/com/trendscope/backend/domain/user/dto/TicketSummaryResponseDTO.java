@@ -7,6 +7,7 @@ public record TicketSummaryResponseDTO(
         Integer quickTicketBalance,
         Integer premiumTicketBalance,
         Integer totalTicketBalance,
-        List<TicketLedgerItemResponseDTO> recentLedger
+        List<TicketLedgerItemResponseDTO> recentLedger,
+        String nextLedgerCursor
 ) {
 }
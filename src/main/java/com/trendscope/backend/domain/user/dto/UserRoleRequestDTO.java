@@ -0,0 +1,16 @@
+package com.trendscope.backend.domain.user.dto;
+
+import com.trendscope.backend.domain.user.entity.enums.UserRoleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UserRoleRequestDTO {
+
+    @Schema(description = "변경할 권한", example = "ADMIN")
+    @NotNull(message = "roleType은 필수입니다.")
+    private UserRoleType roleType;
+}
@@ -0,0 +1,55 @@
+package com.trendscope.backend.domain.user.entity;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/티켓 타입별 잔액 checkpoint. balance 에 ticket_ledger 에 남은 행의 delta 합을 더하면 현재 잔액이 된다.
+ * 원장 행을 보관 테이블로 옮길 때 같은 문장에서 옮긴 delta 합을 balance 에 더한다
+ * ({@link com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository#archiveSettledBefore}).
+ */
+@Entity
+@Table(
+        name = "ticket_balance_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_ticket_balance_checkpoint_user_type",
+                        columnNames = {"user_id", "ticket_type"}
+                )
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBalanceCheckpointEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ticket_type", nullable = false, length = 20)
+    private TicketType ticketType;
+
+    @Column(name = "balance", nullable = false)
+    private int balance;
+
+    @Column(name = "archived_rows", nullable = false)
+    private long archivedRows;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+}
@@ -0,0 +1,68 @@
+package com.trendscope.backend.domain.user.entity;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 잔액 카운터 모드에서 user_ 잔액에 아직 반영되지 않은 증감. 원장 행과 같은 트랜잭션에서 기록되고,
+ * {@link com.trendscope.backend.domain.user.scheduler.TicketBalanceOutboxRelay}가 사용자별로 합산해 반영한 뒤 지운다.
+ */
+@Entity
+@Table(
+        name = "ticket_balance_outbox",
+        indexes = {
+                @Index(name = "idx_ticket_balance_outbox_next_attempt", columnList = "next_attempt_at,id"),
+                @Index(name = "idx_ticket_balance_outbox_user_type", columnList = "user_id,ticket_type")
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBalanceOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ticket_type", nullable = false, length = 20)
+    private TicketType ticketType;
+
+    @Column(name = "delta", nullable = false)
+    private int delta;
+
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 반영 거부가 max-attempts 를 넘어 relay 가 더 이상 가져가지 않는 시각. 수동 확인 후 비우면 다시 반영된다.
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    public void markFailed(LocalDateTime retryAt) {
+        this.attempts++;
+        this.nextAttemptAt = retryAt;
+    }
+
+    public void deadLetter(LocalDateTime now) {
+        this.deadLetteredAt = now;
+    }
+}
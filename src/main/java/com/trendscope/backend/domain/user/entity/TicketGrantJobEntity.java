@@ -0,0 +1,146 @@
+package com.trendscope.backend.domain.user.entity;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantJobStatus;
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantTarget;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 티켓 일괄 지급 job. 대상 사용자를 id 순서로 batch 단위 처리하며 last_user_id 까지 처리했음을 기록한다.
+ * 진행 상황(처리/지급 수, last_user_id)은 지급 batch 와 같은 트랜잭션에서
+ * {@link com.trendscope.backend.domain.user.repository.TicketGrantJobRepository#advance} 로만 갱신한다.
+ */
+@Entity
+@Table(
+        name = "ticket_grant_job",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ticket_grant_job_job_id", columnNames = {"job_id"})
+        },
+        indexes = {
+                @Index(name = "idx_ticket_grant_job_status_lease", columnList = "status,lease_until")
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketGrantJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, length = 64)
+    private String jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ticket_type", nullable = false, length = 20)
+    private TicketType ticketType;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "ref_id", nullable = false)
+    private String refId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false, length = 20)
+    private TicketGrantTarget target;
+
+    @Column(name = "joined_from")
+    private LocalDateTime joinedFrom;
+
+    @Column(name = "joined_to")
+    private LocalDateTime joinedTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TicketGrantJobStatus status;
+
+    @Column(name = "total_targets", nullable = false)
+    private long totalTargets;
+
+    @Column(name = "processed_targets", nullable = false)
+    private long processedTargets;
+
+    @Column(name = "granted_count", nullable = false)
+    private long grantedCount;
+
+    @Column(name = "last_user_id", nullable = false)
+    private long lastUserId;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    // lease 를 잡은 워커 실행의 토큰. 진행/실패/양보 갱신은 이 값이 같을 때만 반영한다.
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+
+    @Column(name = "completed_date")
+    private LocalDateTime completedDate;
+
+    public void updateTotalTargets(long totalTargets) {
+        this.totalTargets = totalTargets;
+    }
+
+    public void lease(String leaseOwner, LocalDateTime leaseUntil, LocalDateTime now) {
+        this.status = TicketGrantJobStatus.RUNNING;
+        this.leaseOwner = leaseOwner;
+        this.leaseUntil = leaseUntil;
+        this.updatedDate = now;
+    }
+
+    public boolean isLeasedBy(String leaseOwner) {
+        return this.status == TicketGrantJobStatus.RUNNING && leaseOwner != null && leaseOwner.equals(this.leaseOwner);
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = TicketGrantJobStatus.COMPLETED;
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+        this.completedDate = now;
+        this.updatedDate = now;
+    }
+
+    public void fail(String errorMessage, LocalDateTime now) {
+        this.status = TicketGrantJobStatus.FAILED;
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+        this.errorMessage = errorMessage;
+        this.updatedDate = now;
+    }
+
+    /**
+     * 한 번의 실행에서 처리할 batch 수를 채웠을 때 lease 를 내려놓고 대기열로 돌린다.
+     */
+    public void yieldLease(LocalDateTime now) {
+        this.status = TicketGrantJobStatus.PENDING;
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+        this.updatedDate = now;
+    }
+
+    /**
+     * 실패한 job 을 last_user_id 다음 대상부터 다시 처리하도록 대기열로 돌린다.
+     */
+    public void resume(LocalDateTime now) {
+        this.status = TicketGrantJobStatus.PENDING;
+        this.errorMessage = null;
+        this.updatedDate = now;
+    }
+}
@@ -0,0 +1,52 @@
+package com.trendscope.backend.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 ticket_ledger 에서 옮겨진 정산 완료 원장 묶음 (감사용).
+ * entries 는 [id, ticket_type, reason, delta, ref_id, created_date] 배열의 JSONB 배열로, TOAST 압축 대상이다.
+ */
+@Entity
+@Table(
+        name = "ticket_ledger_archive",
+        indexes = {
+                @Index(name = "idx_ticket_ledger_archive_user_created", columnList = "user_id,first_created_date")
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketLedgerArchiveEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "first_created_date")
+    private LocalDateTime firstCreatedDate;
+
+    @Column(name = "last_created_date")
+    private LocalDateTime lastCreatedDate;
+
+    // jsonb 컬럼. 문자열로 다루되 저장 시 jsonb로 캐스팅한다.
+    @ColumnTransformer(write = "?::jsonb")
+    @Column(name = "entries", columnDefinition = "jsonb", nullable = false)
+    private String entries;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
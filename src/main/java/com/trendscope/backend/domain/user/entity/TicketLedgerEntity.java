@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
                 )
         },
         indexes = {
-                @Index(name = "idx_ticket_ledger_user_type_created", columnList = "user_id,ticket_type,created_date")
+                @Index(name = "idx_ticket_ledger_user_type_created", columnList = "user_id,ticket_type,created_date"),
+                @Index(name = "idx_ticket_ledger_user_created_id", columnList = "user_id,created_date DESC,id DESC")
         }
 )
 @Getter
@@ -0,0 +1,57 @@
+package com.trendscope.backend.domain.user.entity;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketReservationState;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * refId(측정 job) 단위 티켓 예약 상태. HELD 에서 CONSUMED 또는 RELEASED 로 한 번만 전이하며,
+ * 전이는 {@link com.trendscope.backend.domain.user.repository.TicketReservationRepository#transition} 조건부 UPDATE로만 한다.
+ */
+@Entity
+@Table(
+        name = "ticket_reservation",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_ticket_reservation_user_type_ref_id",
+                        columnNames = {"user_id", "ticket_type", "ref_id"}
+                )
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketReservationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ticket_type", nullable = false, length = 20)
+    private TicketType ticketType;
+
+    @Column(name = "ref_id", nullable = false)
+    private String refId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private TicketReservationState state;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+}
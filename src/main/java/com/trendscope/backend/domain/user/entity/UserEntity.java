@@ -91,6 +91,16 @@ public class UserEntity {
         this.email = email;
     }
 
+    //관리자 계정 잠금/해제
+    public void changeLock(boolean isLock) {
+        this.isLock = isLock;
+    }
+
+    //관리자 권한 변경
+    public void changeRole(UserRoleType roleType) {
+        this.roleType = roleType;
+    }
+
     public boolean isSocialAccount() {
         return this.socialProviderType != SocialProviderType.EMAIL_OTP;
     }
@@ -0,0 +1,8 @@
+package com.trendscope.backend.domain.user.entity.enums;
+
+public enum TicketGrantJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
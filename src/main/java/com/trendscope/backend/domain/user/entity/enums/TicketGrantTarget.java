@@ -0,0 +1,6 @@
+package com.trendscope.backend.domain.user.entity.enums;
+
+public enum TicketGrantTarget {
+    USER_IDS,
+    QUERY
+}
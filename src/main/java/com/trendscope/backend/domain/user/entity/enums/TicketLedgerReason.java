@@ -2,6 +2,7 @@ package com.trendscope.backend.domain.user.entity.enums;
 
 public enum TicketLedgerReason {
     PURCHASE,
+    GRANT,
     HOLD,
     CONSUME,
     RELEASE,
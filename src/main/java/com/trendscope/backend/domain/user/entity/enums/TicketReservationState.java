@@ -0,0 +1,7 @@
+package com.trendscope.backend.domain.user.entity.enums;
+
+public enum TicketReservationState {
+    HELD,
+    CONSUMED,
+    RELEASED
+}
@@ -0,0 +1,144 @@
+package com.trendscope.backend.domain.user.repository;
+
+import com.trendscope.backend.domain.user.entity.TicketBalanceCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketBalanceCheckpointRepository extends JpaRepository<TicketBalanceCheckpointEntity, Long> {
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM user_", nativeQuery = true)
+    long findMaxUserId();
+
+    /**
+     * 사용자의 누적 압축 행 수. 압축은 원장 id/잔액을 바꾸지 않으므로 티켓 요약 ETag 에 함께 넣는다.
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(c.archived_rows), 0)
+            FROM ticket_balance_checkpoint c
+            JOIN user_ u ON u.id = c.user_id
+            WHERE u.username = :username
+            """, nativeQuery = true)
+    long sumArchivedRowsByUsername(@Param("username") String username);
+
+    /**
+     * [fromUserId, toUserId) 사용자 중 checkpoint 가 없는 사용자의 기준점을 만든다.
+     * 기준 잔액 = 현재 잔액(user_ + 미반영 outbox) - 원장 delta 합. 한 문장이라 같은 스냅샷에서 계산된다.
+     * 원장 없이 들어간 잔액(가입 지급 등)은 여기서 기준 잔액에 흡수된다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO ticket_balance_checkpoint (user_id, ticket_type, balance, archived_rows, created_date, updated_date)
+            SELECT u.id,
+                   t.ticket_type,
+                   CASE t.ticket_type WHEN 'QUICK' THEN u.quick_ticket_balance ELSE u.premium_ticket_balance END
+                       + COALESCE((SELECT SUM(o.delta)
+                                   FROM ticket_balance_outbox o
+                                   WHERE o.user_id = u.id AND o.ticket_type = t.ticket_type), 0)
+                       - COALESCE((SELECT SUM(l.delta)
+                                   FROM ticket_ledger l
+                                   WHERE l.user_id = u.id AND l.ticket_type = t.ticket_type), 0),
+                   0,
+                   now(),
+                   now()
+            FROM user_ u
+            CROSS JOIN (VALUES ('QUICK'), ('PREMIUM')) AS t(ticket_type)
+            WHERE u.id >= :fromUserId
+              AND u.id < :toUserId
+            ON CONFLICT (user_id, ticket_type) DO NOTHING
+            """, nativeQuery = true)
+    int createMissingCheckpoints(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId);
+
+    /**
+     * [fromUserId, toUserId) 사용자의 cutoff 이전 정산 완료 원장을 최대 limit 행 보관 테이블로 옮기고,
+     * 옮긴 delta 합을 checkpoint 에 더한다. 삭제/보관/checkpoint 갱신이 한 문장이라 불변식이 깨지지 않는다.
+     * HELD 예약의 HOLD 행과 checkpoint 가 없는 사용자의 행은 옮기지 않는다.
+     *
+     * @return 옮긴 원장 행 수
+     */
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM ticket_ledger
+                WHERE id IN (
+                    SELECT l.id
+                    FROM ticket_ledger l
+                    WHERE l.user_id >= :fromUserId
+                      AND l.user_id < :toUserId
+                      AND l.created_date < :cutoff
+                      AND EXISTS (SELECT 1
+                                  FROM ticket_balance_checkpoint c
+                                  WHERE c.user_id = l.user_id AND c.ticket_type = l.ticket_type)
+                      AND NOT (l.reason = 'HOLD' AND EXISTS (SELECT 1
+                                                             FROM ticket_reservation r
+                                                             WHERE r.user_id = l.user_id
+                                                               AND r.ticket_type = l.ticket_type
+                                                               AND r.ref_id = l.ref_id
+                                                               AND r.state = 'HELD'))
+                    ORDER BY l.id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id, user_id, ticket_type, reason, delta, ref_id, created_date
+            ),
+            archived AS (
+                INSERT INTO ticket_ledger_archive (user_id, row_count, first_created_date, last_created_date, entries, archived_date)
+                SELECT user_id,
+                       count(*),
+                       min(created_date),
+                       max(created_date),
+                       jsonb_agg(jsonb_build_array(id, ticket_type, reason, delta, ref_id, created_date) ORDER BY id),
+                       now()
+                FROM moved
+                GROUP BY user_id
+            ),
+            checkpointed AS (
+                UPDATE ticket_balance_checkpoint c
+                SET balance = c.balance + m.delta_sum,
+                    archived_rows = c.archived_rows + m.row_count,
+                    updated_date = now()
+                FROM (SELECT user_id, ticket_type, SUM(delta) AS delta_sum, count(*) AS row_count
+                      FROM moved
+                      GROUP BY user_id, ticket_type) m
+                WHERE c.user_id = m.user_id
+                  AND c.ticket_type = m.ticket_type
+            )
+            SELECT count(*) FROM moved
+            """, nativeQuery = true)
+    long archiveSettledBefore(
+            @Param("fromUserId") long fromUserId,
+            @Param("toUserId") long toUserId,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("limit") int limit
+    );
+
+    /**
+     * [fromUserId, toUserId) 사용자 중 checkpoint.balance + 원장 tail 합이 현재 잔액과 다른 항목.
+     */
+    @Query(value = """
+            SELECT c.user_id AS userId,
+                   c.ticket_type AS ticketType,
+                   c.balance AS checkpointBalance,
+                   COALESCE(tail.delta_sum, 0) AS ledgerTail,
+                   CASE c.ticket_type WHEN 'QUICK' THEN u.quick_ticket_balance ELSE u.premium_ticket_balance END
+                       + COALESCE(pending.delta_sum, 0) AS expectedBalance
+            FROM ticket_balance_checkpoint c
+            JOIN user_ u ON u.id = c.user_id
+            LEFT JOIN LATERAL (SELECT SUM(l.delta) AS delta_sum
+                               FROM ticket_ledger l
+                               WHERE l.user_id = c.user_id AND l.ticket_type = c.ticket_type) tail ON true
+            LEFT JOIN LATERAL (SELECT SUM(o.delta) AS delta_sum
+                               FROM ticket_balance_outbox o
+                               WHERE o.user_id = c.user_id AND o.ticket_type = c.ticket_type) pending ON true
+            WHERE c.user_id >= :fromUserId
+              AND c.user_id < :toUserId
+              AND c.balance + COALESCE(tail.delta_sum, 0)
+                  <> CASE c.ticket_type WHEN 'QUICK' THEN u.quick_ticket_balance ELSE u.premium_ticket_balance END
+                     + COALESCE(pending.delta_sum, 0)
+            ORDER BY c.user_id, c.ticket_type
+            """, nativeQuery = true)
+    List<TicketBalanceMismatchRow> findMismatches(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId);
+}
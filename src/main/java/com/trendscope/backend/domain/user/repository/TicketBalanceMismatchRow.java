@@ -0,0 +1,18 @@
+package com.trendscope.backend.domain.user.repository;
+
+/**
+ * checkpoint + 원장 tail 이 현재 잔액과 다른 사용자/티켓 타입 (native query projection).
+ * expectedBalance = user_ 잔액 + 아직 반영되지 않은 outbox 증감.
+ */
+public interface TicketBalanceMismatchRow {
+
+    Long getUserId();
+
+    String getTicketType();
+
+    int getCheckpointBalance();
+
+    long getLedgerTail();
+
+    long getExpectedBalance();
+}
@@ -0,0 +1,53 @@
+package com.trendscope.backend.domain.user.repository;
+
+import com.trendscope.backend.domain.user.entity.TicketBalanceOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketBalanceOutboxRepository extends JpaRepository<TicketBalanceOutboxEntity, Long> {
+
+    /**
+     * 반영 시각이 된 항목을 잠근다. 다른 노드가 잠근 행과 dead-letter 된 행은 건너뛴다.
+     */
+    @Query(value = """
+            SELECT *
+            FROM ticket_balance_outbox
+            WHERE next_attempt_at <= :now
+              AND dead_lettered_at IS NULL
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<TicketBalanceOutboxEntity> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Redis 카운터가 가져야 할 잔액 = user_ 잔액 + 아직 반영되지 않은 outbox 증감.
+     * 한 문장으로 읽어 relay 반영 도중에도 같은 스냅샷에서 계산한다.
+     */
+    @Query("""
+            select new com.trendscope.backend.domain.user.repository.TicketBalanceRow(
+                cast(u.quickTicketBalance + coalesce((
+                    select sum(o.delta) from TicketBalanceOutboxEntity o
+                    where o.userId = u.id
+                      and o.ticketType = com.trendscope.backend.domain.user.entity.enums.TicketType.QUICK
+                ), 0) as Integer),
+                cast(u.premiumTicketBalance + coalesce((
+                    select sum(o.delta) from TicketBalanceOutboxEntity o
+                    where o.userId = u.id
+                      and o.ticketType = com.trendscope.backend.domain.user.entity.enums.TicketType.PREMIUM
+                ), 0) as Integer)
+            )
+            from UserEntity u
+            where u.id = :userId
+            """)
+    Optional<TicketBalanceRow> findExpectedBalances(@Param("userId") Long userId);
+
+    long countByNextAttemptAtLessThanEqual(LocalDateTime now);
+
+    long countByDeadLetteredAtIsNotNull();
+}
@@ -0,0 +1,15 @@
+package com.trendscope.backend.domain.user.repository;
+
+/**
+ * 조건부 UPDATE 이후 잔액 응답용 projection. 영속성 컨텍스트의 UserEntity 를 거치지 않고 현재 값을 읽는다.
+ */
+public record TicketBalanceRow(
+        Integer quickTicketBalance,
+        Integer premiumTicketBalance
+) {
+    public int total() {
+        int quick = quickTicketBalance == null ? 0 : quickTicketBalance;
+        int premium = premiumTicketBalance == null ? 0 : premiumTicketBalance;
+        return quick + premium;
+    }
+}
@@ -0,0 +1,190 @@
+package com.trendscope.backend.domain.user.repository;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 티켓 일괄 지급용 JDBC 쿼리. 사용자 수만큼 엔티티를 만들지 않고 batch 당 SQL 몇 문장으로 처리한다.
+ * <p>
+ * 대상 id 는 bigint[] 배열 하나로 넘기고, 원장 INSERT 는 uk_ticket_ledger_user_type_reason_ref_id 충돌 시 건너뛰므로
+ * 같은 batch 를 다시 실행해도 사용자당 한 번만 지급된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketGrantJdbcRepository {
+
+    // TicketLedgerEntity(@GeneratedValue SEQUENCE) 기본 sequence 와 pooled optimizer 할당 크기.
+    // nextval 값 v 는 [v - 49, v] 구간을 뜻하므로 JPA 가 쓰는 id 와 겹치지 않게 같은 방식으로 꺼내 쓴다.
+    static final String LEDGER_SEQUENCE = "ticket_ledger_seq";
+    static final int LEDGER_ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 명시 대상 목록을 저장한다. 존재하지 않는 사용자와 중복 id 는 빠진다.
+     *
+     * @return 저장된 대상 수
+     */
+    public int insertTargets(Long grantJobId, Collection<Long> userIds) {
+        Long[] ids = userIds.toArray(Long[]::new);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    INSERT INTO ticket_grant_job_target (grant_job_id, user_id)
+                    SELECT ?, u.id
+                    FROM user_ u
+                    WHERE u.id = ANY (?::bigint[])
+                    ON CONFLICT DO NOTHING
+                    """);
+            statement.setLong(1, grantJobId);
+            statement.setArray(2, connection.createArrayOf("bigint", ids));
+            return statement;
+        });
+    }
+
+    public List<Long> findTargetBatch(Long grantJobId, long afterUserId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT user_id
+                FROM ticket_grant_job_target
+                WHERE grant_job_id = ?
+                  AND user_id > ?
+                ORDER BY user_id
+                LIMIT ?
+                """, Long.class, grantJobId, afterUserId, limit);
+    }
+
+    /**
+     * 조건 지급 대상 수. 잠긴 사용자는 제외한다.
+     */
+    public long countQueryTargets(LocalDateTime joinedFrom, LocalDateTime joinedTo) {
+        List<Object> args = new ArrayList<>();
+        String where = queryCondition(joinedFrom, joinedTo, args);
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM user_ u WHERE " + where, Long.class, args.toArray());
+        return count == null ? 0L : count;
+    }
+
+    public List<Long> findQueryBatch(LocalDateTime joinedFrom, LocalDateTime joinedTo, long afterUserId, int limit) {
+        List<Object> args = new ArrayList<>();
+        String where = queryCondition(joinedFrom, joinedTo, args);
+        args.add(afterUserId);
+        args.add(limit);
+        return jdbcTemplate.queryForList(
+                "SELECT u.id FROM user_ u WHERE " + where + " AND u.id > ? ORDER BY u.id LIMIT ?",
+                Long.class,
+                args.toArray()
+        );
+    }
+
+    /**
+     * 원장 id 를 count 개 할당한다. sequence 호출은 할당 크기 단위 한 번씩이다.
+     */
+    public long[] allocateLedgerIds(int count) {
+        int blocks = (count + LEDGER_ID_ALLOCATION_SIZE - 1) / LEDGER_ID_ALLOCATION_SIZE;
+        List<Long> hiValues = jdbcTemplate.queryForList(
+                "SELECT nextval('" + LEDGER_SEQUENCE + "') FROM generate_series(1, ?)",
+                Long.class,
+                blocks
+        );
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            long hi = hiValues.get(i / LEDGER_ID_ALLOCATION_SIZE);
+            ids[i] = hi - (LEDGER_ID_ALLOCATION_SIZE - 1) + (i % LEDGER_ID_ALLOCATION_SIZE);
+        }
+        return ids;
+    }
+
+    /**
+     * 대상 사용자에게 GRANT 원장을 추가하고, 새로 추가된 사용자만 잔액을 늘린다. 한 문장이라 원장과 잔액이 함께 반영된다.
+     * balanceOutbox 이면 user_ 대신 ticket_balance_outbox 에 증감을 남긴다 (Redis 카운터 모드).
+     *
+     * @return 이번에 지급된(중복이 아닌) 사용자 id
+     */
+    public List<Long> grant(
+            List<Long> userIds,
+            long[] ledgerIds,
+            TicketType ticketType,
+            int quantity,
+            String refId,
+            boolean balanceOutbox
+    ) {
+        String balanceChange = balanceOutbox
+                ? """
+                  INSERT INTO ticket_balance_outbox (user_id, ticket_type, delta, ledger_id, attempts, next_attempt_at, created_date)
+                  SELECT i.user_id, ?, ?, i.id, 0, now(), now()
+                  FROM inserted i
+                  """
+                : """
+                  UPDATE user_ u
+                  SET quick_ticket_balance = u.quick_ticket_balance + CASE WHEN ? = 'QUICK' THEN ? ELSE 0 END,
+                      premium_ticket_balance = u.premium_ticket_balance + CASE WHEN ? = 'PREMIUM' THEN ? ELSE 0 END,
+                      updated_date = now()
+                  FROM inserted i
+                  WHERE u.id = i.user_id
+                  """;
+        String sql = """
+                WITH input AS (
+                    SELECT t.user_id, t.ledger_id
+                    FROM unnest(?::bigint[], ?::bigint[]) AS t(user_id, ledger_id)
+                ),
+                inserted AS (
+                    INSERT INTO ticket_ledger (id, user_id, delta, reason, ticket_type, ref_id, created_date)
+                    SELECT i.ledger_id, i.user_id, ?, 'GRANT', ?, ?, now()
+                    FROM input i
+                    JOIN user_ u ON u.id = i.user_id
+                    ORDER BY i.user_id
+                    ON CONFLICT ON CONSTRAINT uk_ticket_ledger_user_type_reason_ref_id DO NOTHING
+                    RETURNING id, user_id
+                ),
+                balance AS (
+                    %s
+                )
+                SELECT user_id FROM inserted ORDER BY user_id
+                """.formatted(balanceChange);
+
+        Long[] users = userIds.toArray(Long[]::new);
+        Long[] ledgers = new Long[ledgerIds.length];
+        for (int i = 0; i < ledgerIds.length; i++) {
+            ledgers[i] = ledgerIds[i];
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int index = 1;
+            statement.setArray(index++, connection.createArrayOf("bigint", users));
+            statement.setArray(index++, connection.createArrayOf("bigint", ledgers));
+            statement.setInt(index++, quantity);
+            statement.setString(index++, ticketType.name());
+            statement.setString(index++, refId);
+            if (balanceOutbox) {
+                statement.setString(index++, ticketType.name());
+                statement.setInt(index, quantity);
+            } else {
+                statement.setString(index++, ticketType.name());
+                statement.setInt(index++, quantity);
+                statement.setString(index++, ticketType.name());
+                statement.setInt(index, quantity);
+            }
+            return statement;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    private String queryCondition(LocalDateTime joinedFrom, LocalDateTime joinedTo, List<Object> args) {
+        StringBuilder where = new StringBuilder("u.is_lock = false");
+        if (joinedFrom != null) {
+            where.append(" AND u.created_date >= ?");
+            args.add(Timestamp.valueOf(joinedFrom));
+        }
+        if (joinedTo != null) {
+            where.append(" AND u.created_date < ?");
+            args.add(Timestamp.valueOf(joinedTo));
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.trendscope.backend.domain.user.repository;
+
+import com.trendscope.backend.domain.user.entity.TicketGrantJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketGrantJobRepository extends JpaRepository<TicketGrantJobEntity, Long> {
+
+    Optional<TicketGrantJobEntity> findByJobId(String jobId);
+
+    /**
+     * 처리할 job 을 잠근다. 대기 중이거나, 실행 중이지만 lease 가 끝난(처리하던 노드가 죽은) job 이 대상이다.
+     * 다른 노드가 잠근 행은 건너뛴다.
+     */
+    @Query(value = """
+            SELECT *
+            FROM ticket_grant_job
+            WHERE status = 'PENDING'
+               OR (status = 'RUNNING' AND lease_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<TicketGrantJobEntity> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * batch 처리 결과를 반영하고 lease 를 연장한다. lease 를 다른 워커가 가져갔거나 읽은 뒤 last_user_id 가 바뀌었으면 0 을 반환한다.
+     */
+    @Modifying
+    @Query("""
+            update TicketGrantJobEntity j
+            set j.lastUserId = :lastUserId,
+                j.processedTargets = j.processedTargets + :processed,
+                j.grantedCount = j.grantedCount + :granted,
+                j.leaseUntil = :leaseUntil,
+                j.updatedDate = :now
+            where j.id = :id
+              and j.lastUserId = :expectedLastUserId
+              and j.leaseOwner = :leaseOwner
+              and j.status = com.trendscope.backend.domain.user.entity.enums.TicketGrantJobStatus.RUNNING
+            """)
+    int advance(
+            @Param("id") Long id,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("expectedLastUserId") long expectedLastUserId,
+            @Param("lastUserId") long lastUserId,
+            @Param("processed") long processed,
+            @Param("granted") long granted,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -4,9 +4,12 @@ import com.trendscope.backend.domain.user.entity.TicketLedgerEntity;
 import com.trendscope.backend.domain.user.entity.enums.TicketLedgerReason;
 import com.trendscope.backend.domain.user.entity.enums.TicketType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketLedgerRepository extends JpaRepository<TicketLedgerEntity, Long> {
@@ -16,5 +19,22 @@ public interface TicketLedgerRepository extends JpaRepository<TicketLedgerEntity
             TicketLedgerReason reason,
             String refId
     );
-    Page<TicketLedgerEntity> findByUserIdOrderByCreatedDateDesc(Long userId, Pageable pageable);
+    List<TicketLedgerEntity> findByUserIdOrderByCreatedDateDescIdDesc(Long userId, Pageable pageable);
+
+    @Query("""
+            select l from TicketLedgerEntity l
+            where l.user.id = :userId
+              and (l.createdDate < :createdDate or (l.createdDate = :createdDate and l.id < :id))
+            order by l.createdDate desc, l.id desc
+            """)
+    List<TicketLedgerEntity> findPageByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 원장은 append-only 이므로 최신 id가 사용자 티켓 상태의 버전(high-water mark) 역할을 한다.
+    @Query("select max(l.id) from TicketLedgerEntity l where l.user.username = :username")
+    Optional<Long> findLatestIdByUsername(@Param("username") String username);
 }
@@ -0,0 +1,73 @@
+package com.trendscope.backend.domain.user.repository;
+
+import com.trendscope.backend.domain.user.entity.TicketReservationEntity;
+import com.trendscope.backend.domain.user.entity.enums.TicketReservationState;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TicketReservationRepository extends JpaRepository<TicketReservationEntity, Long> {
+
+    Optional<TicketReservationEntity> findByUserIdAndTicketTypeAndRefId(Long userId, TicketType ticketType, String refId);
+
+    /**
+     * from 상태인 예약만 to 로 바꾼다. 동시에 정산이 들어와도 한 요청만 1을 받는다.
+     *
+     * @return 전이된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("""
+            update TicketReservationEntity r
+            set r.state = :to, r.updatedDate = :now
+            where r.user.id = :userId
+              and r.ticketType = :ticketType
+              and r.refId = :refId
+              and r.state = :from
+            """)
+    int transition(
+            @Param("userId") Long userId,
+            @Param("ticketType") TicketType ticketType,
+            @Param("refId") String refId,
+            @Param("from") TicketReservationState from,
+            @Param("to") TicketReservationState to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 예약 테이블 도입 전 노드가 남긴 HOLD 원장을 예약 행으로 옮긴다 (V18 백필과 같은 규칙).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO ticket_reservation (user_id, ticket_type, ref_id, state, created_date, updated_date)
+            SELECT h.user_id,
+                   h.ticket_type,
+                   h.ref_id,
+                   CASE
+                       WHEN EXISTS (SELECT 1 FROM ticket_ledger c
+                                    WHERE c.user_id = h.user_id AND c.ticket_type = h.ticket_type
+                                      AND c.ref_id = h.ref_id AND c.reason = 'CONSUME') THEN 'CONSUMED'
+                       WHEN EXISTS (SELECT 1 FROM ticket_ledger r
+                                    WHERE r.user_id = h.user_id AND r.ticket_type = h.ticket_type
+                                      AND r.ref_id = h.ref_id AND r.reason = 'RELEASE') THEN 'RELEASED'
+                       ELSE 'HELD'
+                   END,
+                   h.created_date,
+                   now()
+            FROM ticket_ledger h
+            WHERE h.user_id = :userId
+              AND h.ticket_type = :ticketType
+              AND h.ref_id = :refId
+              AND h.reason = 'HOLD'
+            ON CONFLICT (user_id, ticket_type, ref_id) DO NOTHING
+            """, nativeQuery = true)
+    int backfillFromLedger(
+            @Param("userId") Long userId,
+            @Param("ticketType") String ticketType,
+            @Param("refId") String refId
+    );
+}
@@ -6,8 +6,11 @@ import com.trendscope.backend.domain.user.entity.enums.UserRoleType;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 
@@ -28,6 +31,52 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Query("SELECT u.roleType FROM UserEntity u WHERE u.username = :username")
     Optional<UserRoleType> findRoleTypeByUsername(String username);
 
+    @Query("SELECT u.updatedDate FROM UserEntity u WHERE u.username = :username AND u.isLock = false")
+    Optional<LocalDateTime> findUpdatedDateByUsername(String username);
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.username = :username AND u.isLock = false")
+    Optional<Long> findIdByUsername(String username);
+
+    @Query("""
+            SELECT new com.trendscope.backend.domain.user.repository.TicketBalanceRow(
+                u.quickTicketBalance, u.premiumTicketBalance
+            )
+            FROM UserEntity u
+            WHERE u.id = :userId
+            """)
+    Optional<TicketBalanceRow> findTicketBalancesById(Long userId);
+
+    /**
+     * 잔액을 읽지 않고 원자적으로 더한다. 음수 잔액은 user_ CHECK 제약이 막는다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_
+            SET quick_ticket_balance = quick_ticket_balance + CASE WHEN :ticketType = 'QUICK' THEN :delta ELSE 0 END,
+                premium_ticket_balance = premium_ticket_balance + CASE WHEN :ticketType = 'PREMIUM' THEN :delta ELSE 0 END,
+                updated_date = now()
+            WHERE id = :userId
+            """, nativeQuery = true)
+    int addTicketBalance(@Param("userId") Long userId, @Param("ticketType") String ticketType, @Param("delta") int delta);
+
+    /**
+     * 잔액 검사와 증감을 한 문장으로 처리한다. 결과 잔액이 음수가 되면 갱신하지 않고 0을 반환한다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_
+            SET quick_ticket_balance = quick_ticket_balance + CASE WHEN :ticketType = 'QUICK' THEN :delta ELSE 0 END,
+                premium_ticket_balance = premium_ticket_balance + CASE WHEN :ticketType = 'PREMIUM' THEN :delta ELSE 0 END,
+                updated_date = now()
+            WHERE id = :userId
+              AND CASE WHEN :ticketType = 'QUICK' THEN quick_ticket_balance ELSE premium_ticket_balance END + :delta >= 0
+            """, nativeQuery = true)
+    int addTicketBalanceIfSufficient(
+            @Param("userId") Long userId,
+            @Param("ticketType") String ticketType,
+            @Param("delta") int delta
+    );
+
     void deleteByUsername(String username);
 
 }
@@ -0,0 +1,156 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.entity.TicketBalanceOutboxEntity;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceOutboxRepository;
+import com.trendscope.backend.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ticket_balance_outbox 에 쌓인 잔액 증감을 user_ 에 반영한다 (Redis 잔액 카운터 모드).
+ * <p>
+ * 짧은 트랜잭션에서 FOR UPDATE SKIP LOCKED 로 가져온 행을 사용자/티켓 타입별로 합산해 UPDATE 한 번씩 실행하고 지운다.
+ * 요청마다 user_ 행을 갱신하지 않으므로 프로모션처럼 같은 사용자에게 요청이 몰려도 행 잠금 경합이 배치 수만큼으로 줄어든다.
+ * 합산 결과가 음수 잔액을 만들면(카운터와 DB가 어긋난 경우) 그 묶음은 남겨 두고 backoff 후 다시 시도한다.
+ * max-attempts 번 거부된 행은 dead-letter 로 남겨 더 이상 가져가지 않고, ticket.outbox.dead-lettered 지표로 알린다.
+ * dead-letter 행도 미반영 증감이므로 기대 잔액 계산에는 계속 포함된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketBalanceOutboxRelay {
+
+    private static final String METRIC_PREFIX = "ticket.outbox";
+
+    // 여러 노드가 동시에 반영할 때 user_ 행을 같은 순서로 잠그도록 정렬한다.
+    private static final Comparator<BalanceKey> LOCK_ORDER =
+            Comparator.comparing(BalanceKey::userId).thenComparing(BalanceKey::ticketType);
+
+    private final TicketBalanceOutboxRepository ticketBalanceOutboxRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.ticket.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ticket.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.ticket.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.ticket.outbox.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    @Value("${app.ticket.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    private Counter appliedCounter;
+    private Counter rejectedCounter;
+    private Counter deadLetteredCounter;
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        this.appliedCounter = meterRegistry.counter(METRIC_PREFIX + ".rows", "outcome", "applied");
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rows", "outcome", "rejected");
+        this.deadLetteredCounter = meterRegistry.counter(METRIC_PREFIX + ".rows", "outcome", "dead_lettered");
+        Gauge.builder(METRIC_PREFIX + ".dead-lettered", deadLettered, AtomicLong::get)
+                .description("반영을 포기하고 수동 확인을 기다리는 outbox 행 수 (마지막 실행 기준)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.ticket.outbox.interval-ms:1000}",
+            initialDelayString = "${app.ticket.outbox.interval-ms:1000}"
+    )
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        int limit = Math.max(1, Math.min(batchSize, 5000));
+        try {
+            for (int batch = 0; batch < Math.max(1, maxBatchesPerRun); batch++) {
+                if (relayBatch(limit) < limit) {
+                    break;
+                }
+            }
+            deadLettered.set(ticketBalanceOutboxRepository.countByDeadLetteredAtIsNotNull());
+        } catch (Exception e) {
+            log.warn("티켓 잔액 outbox 반영 실패. reason={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 이번 배치에서 가져간 outbox 행 수
+     */
+    int relayBatch(int limit) {
+        Integer claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<TicketBalanceOutboxEntity> due = ticketBalanceOutboxRepository.lockDue(now, limit);
+            if (due.isEmpty()) {
+                return 0;
+            }
+
+            Map<BalanceKey, List<TicketBalanceOutboxEntity>> groups = new TreeMap<>(LOCK_ORDER);
+            for (TicketBalanceOutboxEntity row : due) {
+                groups.computeIfAbsent(new BalanceKey(row.getUserId(), row.getTicketType()), key -> new ArrayList<>()).add(row);
+            }
+
+            List<Long> appliedIds = new ArrayList<>();
+            int rejected = 0;
+            int parked = 0;
+            for (Map.Entry<BalanceKey, List<TicketBalanceOutboxEntity>> group : groups.entrySet()) {
+                BalanceKey key = group.getKey();
+                List<TicketBalanceOutboxEntity> rows = group.getValue();
+                int delta = rows.stream().mapToInt(TicketBalanceOutboxEntity::getDelta).sum();
+                if (delta == 0 || userRepository.addTicketBalanceIfSufficient(key.userId(), key.ticketType().name(), delta) == 1) {
+                    rows.forEach(row -> appliedIds.add(row.getId()));
+                    continue;
+                }
+                rejected += rows.size();
+                log.error("티켓 잔액 outbox 반영 거부(잔액 음수). userId={} ticketType={} delta={} rows={}",
+                        key.userId(), key.ticketType(), delta, rows.size());
+                for (TicketBalanceOutboxEntity row : rows) {
+                    row.markFailed(now.plusSeconds(Math.max(1L, retryBackoffSeconds)));
+                    if (row.getAttempts() >= Math.max(1, maxAttempts)) {
+                        row.deadLetter(now);
+                        parked++;
+                        log.error("티켓 잔액 outbox dead-letter, 수동 확인 필요. outboxId={} userId={} ticketType={} delta={} attempts={}",
+                                row.getId(), row.getUserId(), row.getTicketType(), row.getDelta(), row.getAttempts());
+                    }
+                }
+            }
+
+            if (!appliedIds.isEmpty()) {
+                ticketBalanceOutboxRepository.deleteAllByIdInBatch(appliedIds);
+            }
+            appliedCounter.increment(appliedIds.size());
+            rejectedCounter.increment(rejected);
+            deadLetteredCounter.increment(parked);
+            return due.size();
+        });
+        return claimed == null ? 0 : claimed;
+    }
+
+    private record BalanceKey(Long userId, TicketType ticketType) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceOutboxRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceRow;
+import com.trendscope.backend.domain.user.service.TicketBalanceCounterService;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 티켓 잔액 카운터를 DB 기준 잔액과 비교해 어긋난 카운터를 고친다.
+ * <p>
+ * DB 기준 잔액은 user_ 잔액(relay 가 반영한 원장 증감)과 아직 반영되지 않은 outbox 증감(원장 SUM(delta)의 나머지)의 합이다.
+ * 가입 시 지급분처럼 원장 없이 들어간 잔액이 있어 원장 전체 합계 대신 이 값을 쓴다.
+ * 진행 중인 요청은 카운터를 먼저 바꾸고 커밋 후에야 outbox 가 보이므로, 같은 차이가 연속 두 번 관측된 경우에만
+ * 관측한 카운터 값 그대로일 때(compare-and-set) 고친다. Redis 락으로 클러스터에서 한 노드만 실행한다.
+ * <p>
+ * 첫 관측 기록(suspected)은 노드 메모리에만 있다. 연속 두 실행이 다른 노드에서 돌거나 재시작되면 관측이 처음부터 다시
+ * 시작되므로, 보정은 같은 노드가 연속으로 락을 잡을 때까지 늦어질 수 있다 (잘못 고치지는 않는다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketBalanceReconciler {
+
+    // Key Convention: 도메인:리소스:용도
+    private static final String LOCK_KEY = "ticket:lock:reconciler";
+
+    private final TicketBalanceCounterService ticketBalanceCounterService;
+    private final TicketBalanceOutboxRepository ticketBalanceOutboxRepository;
+    private final RedisLockUtil redisLockUtil;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.ticket.reconciler.page-size:500}")
+    private int pageSize;
+
+    // 직전 실행에서 처음 관측한 차이
+    private Map<DriftKey, Drift> suspected = new HashMap<>();
+
+    @Scheduled(
+            fixedDelayString = "${app.ticket.reconciler.interval-ms:60000}",
+            initialDelayString = "${app.ticket.reconciler.interval-ms:60000}"
+    )
+    public void reconcile() {
+        if (!ticketBalanceCounterService.isEnabled()) {
+            return;
+        }
+
+        Optional<String> lockToken;
+        try {
+            lockToken = redisLockUtil.tryLock(LOCK_KEY, Duration.ofMinutes(5));
+        } catch (Exception e) {
+            log.warn("티켓 잔액 reconciler 락 획득 실패. reason={}", e.getMessage());
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<DriftKey, Drift> observed = new HashMap<>();
+            ticketBalanceCounterService.scanUserIds(
+                    Math.max(1, Math.min(pageSize, 5000)),
+                    userIds -> userIds.forEach(userId -> reconcileUser(userId, observed))
+            );
+            suspected = observed;
+        } catch (Exception e) {
+            log.warn("티켓 잔액 reconciler 실행 실패. reason={}", e.getMessage(), e);
+        } finally {
+            redisLockUtil.unlock(LOCK_KEY, lockToken.get());
+        }
+    }
+
+    void reconcileUser(Long userId, Map<DriftKey, Drift> observed) {
+        Optional<TicketBalanceRow> counted = ticketBalanceCounterService.get(userId);
+        if (counted.isEmpty()) {
+            return;
+        }
+        Optional<TicketBalanceRow> expected = ticketBalanceOutboxRepository.findExpectedBalances(userId);
+        if (expected.isEmpty()) {
+            // 탈퇴 등으로 사용자가 없어진 카운터
+            ticketBalanceCounterService.evict(userId);
+            return;
+        }
+
+        for (TicketType ticketType : TicketType.values()) {
+            Drift drift = new Drift(balanceOf(counted.get(), ticketType), balanceOf(expected.get(), ticketType));
+            if (drift.counter() == drift.expected()) {
+                continue;
+            }
+            DriftKey key = new DriftKey(userId, ticketType);
+            if (!drift.equals(suspected.get(key))) {
+                observed.put(key, drift);
+                continue;
+            }
+            int corrected = Math.max(0, drift.expected());
+            if (ticketBalanceCounterService.compareAndSet(userId, ticketType, drift.counter(), corrected)) {
+                meterRegistry.counter("ticket.balance.reconcile", "ticket_type", ticketType.name()).increment();
+                log.warn("티켓 잔액 카운터 보정. userId={} ticketType={} counter={} expected={}",
+                        userId, ticketType, drift.counter(), drift.expected());
+            }
+        }
+    }
+
+    private int balanceOf(TicketBalanceRow balances, TicketType ticketType) {
+        Integer value = switch (ticketType) {
+            case QUICK -> balances.quickTicketBalance();
+            case PREMIUM -> balances.premiumTicketBalance();
+        };
+        return value == null ? 0 : value;
+    }
+
+    record DriftKey(Long userId, TicketType ticketType) {
+    }
+
+    record Drift(int counter, int expected) {
+    }
+}
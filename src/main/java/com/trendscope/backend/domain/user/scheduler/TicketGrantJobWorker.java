@@ -0,0 +1,77 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.service.TicketGrantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 티켓 일괄 지급 job 워커.
+ * <p>
+ * 대기 중인 job 하나를 SKIP LOCKED 로 잡아 lease 를 걸고 batch 를 순서대로 처리하며, batch 마다 lease 를 연장한다.
+ * 한 번의 실행에서 max-batches-per-run 을 채우면 lease 를 내려놓아 다른 스케줄 작업을 오래 막지 않고,
+ * 처리 중 노드가 죽으면 lease 만료 후 다른 노드가 마지막으로 커밋된 batch 다음부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketGrantJobWorker {
+
+    private final TicketGrantService ticketGrantService;
+
+    @Value("${app.ticket.grant.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ticket.grant.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.ticket.grant.max-batches-per-run:40}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.ticket.grant.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Scheduled(
+            fixedDelayString = "${app.ticket.grant.interval-ms:2000}",
+            initialDelayString = "${app.ticket.grant.interval-ms:2000}"
+    )
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        Optional<TicketGrantService.Lease> claimed;
+        try {
+            claimed = ticketGrantService.claim(leaseUntil());
+        } catch (Exception e) {
+            log.warn("티켓 일괄 지급 job 획득 실패. reason={}", e.getMessage());
+            return;
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        TicketGrantService.Lease lease = claimed.get();
+        int limit = Math.max(1, Math.min(batchSize, 5000));
+        try {
+            for (int batch = 0; batch < Math.max(1, maxBatchesPerRun); batch++) {
+                if (!ticketGrantService.processNextBatch(lease, limit, leaseUntil())) {
+                    return;
+                }
+            }
+            ticketGrantService.yieldLease(lease);
+        } catch (Exception e) {
+            log.warn("티켓 일괄 지급 batch 실패. grantJobId={} reason={}", lease.grantJobId(), e.getMessage(), e);
+            ticketGrantService.markFailed(lease, e.getMessage());
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(Math.max(30L, leaseSeconds));
+    }
+}
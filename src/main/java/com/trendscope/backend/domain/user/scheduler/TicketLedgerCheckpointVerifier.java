@@ -0,0 +1,141 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceMismatchRow;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * checkpoint + 원장 tail 이 현재 잔액(user_ + 미반영 outbox)과 같은지 검증한다.
+ * <p>
+ * 사용자 id 구간을 순서대로 나눠 주고 parallelism 개 작업자가 구간마다 집계 쿼리 한 번으로 불일치 행만 읽는다.
+ * 전체 사용자를 메모리에 올리지 않으며, 불일치는 고치지 않고 로그와 ticket.ledger.verify.mismatches 지표로 알린다.
+ * Redis 락으로 클러스터에서 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketLedgerCheckpointVerifier {
+
+    // Key Convention: 도메인:리소스:용도
+    private static final String LOCK_KEY = "ticket:lock:ledger-verify";
+
+    private final TicketBalanceCheckpointRepository ticketBalanceCheckpointRepository;
+    private final RedisLockUtil redisLockUtil;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.ticket.ledger-verify.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ticket.ledger-verify.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.ticket.ledger-verify.user-range-size:1000}")
+    private int userRangeSize;
+
+    private ExecutorService verifyExecutor;
+    private final AtomicLong lastMismatches = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.verifyExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "ticket-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("ticket.ledger.verify.mismatches", lastMismatches, AtomicLong::get)
+                .description("checkpoint + 원장 tail 이 잔액과 다른 사용자/티켓 타입 수 (마지막 검증 기준)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        verifyExecutor.shutdown();
+        try {
+            if (!verifyExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                verifyExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            verifyExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(cron = "${app.ticket.ledger-verify.cron:0 30 5 * * *}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+
+        Optional<String> lockToken;
+        try {
+            lockToken = redisLockUtil.tryLock(LOCK_KEY, Duration.ofHours(1));
+        } catch (Exception e) {
+            log.warn("티켓 원장 검증 락 획득 실패. reason={}", e.getMessage());
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            long mismatches = verifyAll();
+            lastMismatches.set(mismatches);
+            if (mismatches > 0) {
+                log.warn("티켓 원장 검증 완료, 불일치 발견. mismatches={}", mismatches);
+            }
+        } catch (Exception e) {
+            log.warn("티켓 원장 검증 실패. reason={}", e.getMessage(), e);
+        } finally {
+            redisLockUtil.unlock(LOCK_KEY, lockToken.get());
+        }
+    }
+
+    /**
+     * @return 불일치한 사용자/티켓 타입 수
+     */
+    long verifyAll() {
+        long rangeSize = Math.max(1, Math.min(userRangeSize, 10_000));
+        long maxUserId = ticketBalanceCheckpointRepository.findMaxUserId();
+        AtomicLong nextFrom = new AtomicLong(0L);
+        AtomicLong mismatches = new AtomicLong();
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, parallelism); i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                long from;
+                while ((from = nextFrom.getAndAdd(rangeSize)) <= maxUserId) {
+                    List<TicketBalanceMismatchRow> rows = ticketBalanceCheckpointRepository.findMismatches(from, from + rangeSize);
+                    for (TicketBalanceMismatchRow row : rows) {
+                        log.warn("티켓 잔액 불일치. userId={} ticketType={} checkpoint={} ledgerTail={} expected={}",
+                                row.getUserId(), row.getTicketType(), row.getCheckpointBalance(),
+                                row.getLedgerTail(), row.getExpectedBalance());
+                    }
+                    mismatches.addAndGet(rows.size());
+                }
+            }, verifyExecutor));
+        }
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        return mismatches.get();
+    }
+}
@@ -0,0 +1,102 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 티켓 원장 compaction.
+ * <p>
+ * 사용자 id 구간마다 checkpoint 가 없는 사용자의 기준점을 만든 뒤, archive-after-months 가 지난 정산 완료 원장을
+ * ticket_ledger_archive 로 옮기고 옮긴 delta 합을 checkpoint 에 더한다. 구간/batch-size 단위로 짧게 커밋하므로
+ * 원장 테이블을 오래 잠그지 않으며, 잔액 검증은 checkpoint 와 남은 원장(tail)만 더하면 된다.
+ * 보관된 원장은 티켓 내역 조회와 refId 중복 판정에서 빠지므로 보관 기간은 결제 webhook 재전송 기간보다 길게 둔다.
+ * Redis 락으로 클러스터에서 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketLedgerCompactionScheduler {
+
+    // Key Convention: 도메인:리소스:용도
+    private static final String LOCK_KEY = "ticket:lock:ledger-compaction";
+
+    private final TicketBalanceCheckpointRepository ticketBalanceCheckpointRepository;
+    private final RedisLockUtil redisLockUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.ticket.ledger-compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ticket.ledger-compaction.archive-after-months:12}")
+    private long archiveAfterMonths;
+
+    @Value("${app.ticket.ledger-compaction.user-range-size:1000}")
+    private int userRangeSize;
+
+    @Value("${app.ticket.ledger-compaction.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.ticket.ledger-compaction.cron:0 45 4 * * *}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+
+        Optional<String> lockToken;
+        try {
+            lockToken = redisLockUtil.tryLock(LOCK_KEY, Duration.ofHours(2));
+        } catch (Exception e) {
+            log.warn("티켓 원장 compaction 락 획득 실패. reason={}", e.getMessage());
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            long rangeSize = Math.max(1, Math.min(userRangeSize, 10_000));
+            int limit = Math.max(1, Math.min(batchSize, 50_000));
+            LocalDateTime cutoff = LocalDateTime.now().minusMonths(Math.max(1L, archiveAfterMonths));
+            long maxUserId = ticketBalanceCheckpointRepository.findMaxUserId();
+
+            long createdCheckpoints = 0L;
+            long archivedRows = 0L;
+            for (long from = 0L; from <= maxUserId; from += rangeSize) {
+                long fromUserId = from;
+                long toUserId = from + rangeSize;
+                Integer created = transactionTemplate.execute(status ->
+                        ticketBalanceCheckpointRepository.createMissingCheckpoints(fromUserId, toUserId));
+                createdCheckpoints += created == null ? 0 : created;
+
+                while (true) {
+                    Long moved = transactionTemplate.execute(status ->
+                            ticketBalanceCheckpointRepository.archiveSettledBefore(fromUserId, toUserId, cutoff, limit));
+                    long count = moved == null ? 0L : moved;
+                    archivedRows += count;
+                    if (count < limit) {
+                        break;
+                    }
+                }
+            }
+
+            if (createdCheckpoints > 0 || archivedRows > 0) {
+                log.info("티켓 원장 compaction 완료. cutoff={} createdCheckpoints={} archivedRows={}",
+                        cutoff, createdCheckpoints, archivedRows);
+            }
+        } catch (Exception e) {
+            log.warn("티켓 원장 compaction 실패. reason={}", e.getMessage(), e);
+        } finally {
+            redisLockUtil.unlock(LOCK_KEY, lockToken.get());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.trendscope.backend.domain.user.service;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 QUICK/PREMIUM 티켓 잔액 Redis 카운터 (app.ticket.balance-store=redis).
+ * <p>
+ * 잔액 검사와 증감은 Lua 스크립트 한 번으로 원자적으로 처리한다. 카운터가 없으면 NOT_LOADED 를 돌려주며,
+ * 호출 측이 DB 기준 잔액(user_ + 미반영 outbox)으로 채운 뒤 다시 시도한다. 원본은 DB이고 카운터는
+ * {@link com.trendscope.backend.domain.user.scheduler.TicketBalanceReconciler}가 주기적으로 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketBalanceCounterService {
+
+    // Key Convention: 도메인:리소스:용도
+    public static final String BALANCE_KEY_PREFIX = "ticket:balance:";
+    public static final long INSUFFICIENT = -1L;
+    public static final long NOT_LOADED = -2L;
+
+    static final String STORE_REDIS = "redis";
+
+    // ARGV: ticketType, delta, force(1이면 부족해도 0으로 맞춰 반영한다 - 롤백 보상용). 카운터는 음수가 되지 않는다.
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('hget', KEYS[1], ARGV[1])
+            if not current then
+                return -2
+            end
+            local next = tonumber(current) + tonumber(ARGV[2])
+            if next < 0 then
+                if ARGV[3] ~= '1' then
+                    return -1
+                end
+                next = 0
+            end
+            redis.call('hset', KEYS[1], ARGV[1], next)
+            return next
+            """, Long.class);
+
+    // 다른 노드가 먼저 채웠으면 덮어쓰지 않는다.
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('hset', KEYS[1], 'QUICK', ARGV[1], 'PREMIUM', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // ARGV: ticketType, expected, value. 확인한 뒤 값이 바뀌었으면 고치지 않는다.
+    private static final DefaultRedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('hget', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('hset', KEYS[1], ARGV[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.ticket.balance-store:database}")
+    private String balanceStore;
+
+    public boolean isEnabled() {
+        return STORE_REDIS.equalsIgnoreCase(balanceStore == null ? "" : balanceStore.trim());
+    }
+
+    /**
+     * @return 변경 후 잔액, 잔액 부족이면 INSUFFICIENT, 카운터가 없으면 NOT_LOADED
+     */
+    public long tryAdd(Long userId, TicketType ticketType, int delta) {
+        return add(userId, ticketType, delta, false);
+    }
+
+    /**
+     * 잔액 검사 없이 더한다(0 미만은 0). 이미 반영한 증감을 트랜잭션 롤백 후 되돌릴 때 쓴다.
+     */
+    public long forceAdd(Long userId, TicketType ticketType, int delta) {
+        return add(userId, ticketType, delta, true);
+    }
+
+    public boolean load(Long userId, TicketBalanceRow balances) {
+        Long loaded = redisTemplate.execute(
+                LOAD_SCRIPT,
+                List.of(key(userId)),
+                String.valueOf(Math.max(0, valueOf(balances.quickTicketBalance()))),
+                String.valueOf(Math.max(0, valueOf(balances.premiumTicketBalance())))
+        );
+        return loaded != null && loaded == 1L;
+    }
+
+    public Optional<TicketBalanceRow> get(Long userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(key(userId), List.of(TicketType.QUICK.name(), TicketType.PREMIUM.name()));
+        if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TicketBalanceRow(
+                Integer.parseInt(values.get(0).toString()),
+                Integer.parseInt(values.get(1).toString())
+        ));
+    }
+
+    public boolean compareAndSet(Long userId, TicketType ticketType, int expected, int value) {
+        Long updated = redisTemplate.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(key(userId)),
+                ticketType.name(),
+                String.valueOf(expected),
+                String.valueOf(value)
+        );
+        return updated != null && updated == 1L;
+    }
+
+    public void evict(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    /**
+     * 카운터가 있는 사용자 id를 SCAN 으로 훑어 pageSize 단위로 넘긴다.
+     */
+    public void scanUserIds(int pageSize, Consumer<List<Long>> pageConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(BALANCE_KEY_PREFIX + "*").count(pageSize).build();
+        List<Long> page = new ArrayList<>(pageSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String suffix = cursor.next().substring(BALANCE_KEY_PREFIX.length());
+                try {
+                    page.add(Long.parseLong(suffix));
+                } catch (NumberFormatException ignored) {
+                    continue;
+                }
+                if (page.size() >= pageSize) {
+                    pageConsumer.accept(List.copyOf(page));
+                    page.clear();
+                }
+            }
+        }
+        if (!page.isEmpty()) {
+            pageConsumer.accept(List.copyOf(page));
+        }
+    }
+
+    private long add(Long userId, TicketType ticketType, int delta, boolean force) {
+        Long result = redisTemplate.execute(
+                ADD_SCRIPT,
+                List.of(key(userId)),
+                ticketType.name(),
+                String.valueOf(delta),
+                force ? "1" : "0"
+        );
+        if (result == null) {
+            throw new IllegalStateException("티켓 잔액 카운터 갱신 결과가 없습니다. userId=" + userId);
+        }
+        return result;
+    }
+
+    private String key(Long userId) {
+        return BALANCE_KEY_PREFIX + userId;
+    }
+
+    private int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,283 @@
+package com.trendscope.backend.domain.user.service;
+
+import com.trendscope.backend.domain.user.dto.TicketGrantJobResponseDTO;
+import com.trendscope.backend.domain.user.dto.TicketGrantRequestDTO;
+import com.trendscope.backend.domain.user.entity.TicketGrantJobEntity;
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantJobStatus;
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantTarget;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketGrantJdbcRepository;
+import com.trendscope.backend.domain.user.repository.TicketGrantJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 관리자 티켓 일괄 지급.
+ * <p>
+ * 요청은 job 으로 저장만 하고, {@link com.trendscope.backend.domain.user.scheduler.TicketGrantJobWorker}가 대상 사용자를 id 순서로
+ * batch 단위 처리한다. batch 하나는 한 트랜잭션에서 대상 조회 → GRANT 원장 추가(중복 refId 는 건너뜀) → 잔액 반영 → 진행 상황 갱신을
+ * 끝내므로, 중간에 멈춘 job 은 기록된 last_user_id 다음부터 이어서 처리된다.
+ * Redis 잔액 카운터 모드에서는 user_ 대신 outbox 에 증감을 남기고, 이미 적재된 카운터에는 커밋 전에 더한 뒤 롤백 시 되돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketGrantService {
+
+    private static final int DEFAULT_QUANTITY = 1;
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final TicketGrantJobRepository ticketGrantJobRepository;
+    private final TicketGrantJdbcRepository ticketGrantJdbcRepository;
+    private final TicketBalanceCounterService ticketBalanceCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.ticket.grant.max-user-ids:100000}")
+    private int maxUserIds;
+
+    @Value("${app.ticket.grant.max-quantity:100}")
+    private int maxQuantity;
+
+    @Transactional
+    public TicketGrantJobResponseDTO createJob(TicketGrantRequestDTO dto) {
+        if (dto.getTicketType() == null) {
+            throw new IllegalArgumentException("ticketType은 필수입니다.");
+        }
+        int quantity = dto.getQuantity() == null ? DEFAULT_QUANTITY : dto.getQuantity();
+        if (quantity <= 0 || quantity > Math.max(1, maxQuantity)) {
+            throw new IllegalArgumentException("quantity는 1 이상 " + Math.max(1, maxQuantity) + " 이하여야 합니다.");
+        }
+        String refId = normalizeRefId(dto.getRefId());
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        if (dto.getUserIds() != null) {
+            dto.getUserIds().stream().filter(id -> id != null && id > 0).forEach(userIds::add);
+            if (userIds.isEmpty()) {
+                throw new IllegalArgumentException("userIds에 유효한 사용자 id가 없습니다.");
+            }
+            if (userIds.size() > Math.max(1, maxUserIds)) {
+                throw new IllegalArgumentException("userIds는 최대 " + Math.max(1, maxUserIds) + "개까지 지정할 수 있습니다.");
+            }
+        }
+        if (dto.getJoinedFrom() != null && dto.getJoinedTo() != null && !dto.getJoinedFrom().isBefore(dto.getJoinedTo())) {
+            throw new IllegalArgumentException("joinedFrom은 joinedTo보다 이전이어야 합니다.");
+        }
+
+        TicketGrantTarget target = userIds.isEmpty() ? TicketGrantTarget.QUERY : TicketGrantTarget.USER_IDS;
+        LocalDateTime now = LocalDateTime.now();
+        TicketGrantJobEntity job = ticketGrantJobRepository.save(TicketGrantJobEntity.builder()
+                .jobId(UUID.randomUUID().toString().replace("-", ""))
+                .ticketType(dto.getTicketType())
+                .quantity(quantity)
+                .refId(refId)
+                .target(target)
+                .joinedFrom(target == TicketGrantTarget.QUERY ? dto.getJoinedFrom() : null)
+                .joinedTo(target == TicketGrantTarget.QUERY ? dto.getJoinedTo() : null)
+                .status(TicketGrantJobStatus.PENDING)
+                .createdDate(now)
+                .updatedDate(now)
+                .build());
+
+        long totalTargets = target == TicketGrantTarget.USER_IDS
+                ? ticketGrantJdbcRepository.insertTargets(job.getId(), userIds)
+                : ticketGrantJdbcRepository.countQueryTargets(job.getJoinedFrom(), job.getJoinedTo());
+        job.updateTotalTargets(totalTargets);
+
+        log.info("티켓 일괄 지급 job 생성. jobId={} ticketType={} quantity={} refId={} target={} totalTargets={}",
+                job.getJobId(), job.getTicketType(), quantity, refId, target, totalTargets);
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public TicketGrantJobResponseDTO getJob(String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    /**
+     * 실패한 job 을 마지막으로 처리한 사용자 다음부터 다시 처리한다. 대기/실행 중인 job 은 그대로 반환한다.
+     */
+    @Transactional
+    public TicketGrantJobResponseDTO resume(String jobId) {
+        TicketGrantJobEntity job = findJob(jobId);
+        if (job.getStatus() == TicketGrantJobStatus.COMPLETED) {
+            throw new IllegalArgumentException("이미 완료된 지급 job입니다.");
+        }
+        if (job.getStatus() == TicketGrantJobStatus.FAILED) {
+            job.resume(LocalDateTime.now());
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * 처리할 job 하나를 잠그고 이번 실행의 토큰으로 lease 를 잡는다.
+     */
+    public Optional<Lease> claim(LocalDateTime leaseUntil) {
+        Lease claimed = transactionTemplate.execute(status -> {
+            List<TicketGrantJobEntity> jobs = ticketGrantJobRepository.lockClaimable(LocalDateTime.now(), 1);
+            if (jobs.isEmpty()) {
+                return null;
+            }
+            TicketGrantJobEntity job = jobs.get(0);
+            String owner = UUID.randomUUID().toString().replace("-", "");
+            job.lease(owner, leaseUntil, LocalDateTime.now());
+            return new Lease(job.getId(), owner);
+        });
+        return Optional.ofNullable(claimed);
+    }
+
+    /**
+     * job 의 다음 batch 를 처리한다. 대상 조회, 원장/잔액 반영, 진행 상황 갱신이 한 트랜잭션이다.
+     * lease 가 만료되어 다른 워커가 job 을 가져갔으면 이 batch 를 롤백하고 false 를 반환한다 (job 상태는 건드리지 않는다).
+     *
+     * @return 다음 batch 를 이어서 처리해야 하면 true, 완료됐거나 더 이상 이 실행이 처리할 job 이 아니면 false
+     */
+    public boolean processNextBatch(Lease lease, int batchSize, LocalDateTime leaseUntil) {
+        Boolean hasMore = transactionTemplate.execute(status -> {
+            TicketGrantJobEntity job = ticketGrantJobRepository.findById(lease.grantJobId())
+                    .orElseThrow(() -> new IllegalStateException("티켓 지급 job을 찾을 수 없습니다. id=" + lease.grantJobId()));
+            if (!job.isLeasedBy(lease.owner())) {
+                return false;
+            }
+
+            List<Long> userIds = job.getTarget() == TicketGrantTarget.USER_IDS
+                    ? ticketGrantJdbcRepository.findTargetBatch(job.getId(), job.getLastUserId(), batchSize)
+                    : ticketGrantJdbcRepository.findQueryBatch(job.getJoinedFrom(), job.getJoinedTo(), job.getLastUserId(), batchSize);
+            LocalDateTime now = LocalDateTime.now();
+            if (userIds.isEmpty()) {
+                job.complete(now);
+                log.info("티켓 일괄 지급 job 완료. jobId={} processed={} granted={}",
+                        job.getJobId(), job.getProcessedTargets(), job.getGrantedCount());
+                return false;
+            }
+
+            boolean counterMode = ticketBalanceCounterService.isEnabled();
+            List<Long> granted = ticketGrantJdbcRepository.grant(
+                    userIds,
+                    ticketGrantJdbcRepository.allocateLedgerIds(userIds.size()),
+                    job.getTicketType(),
+                    job.getQuantity(),
+                    job.getRefId(),
+                    counterMode
+            );
+            long lastUserId = userIds.get(userIds.size() - 1);
+            if (ticketGrantJobRepository.advance(
+                    job.getId(), lease.owner(), job.getLastUserId(), lastUserId, userIds.size(), granted.size(), leaseUntil, now) != 1) {
+                // lease 를 다른 워커가 가져갔다. 그쪽이 같은 구간을 처리하므로 이 batch 만 롤백하고 물러난다.
+                log.info("티켓 지급 job lease 를 잃어 batch 를 롤백. jobId={}", job.getJobId());
+                status.setRollbackOnly();
+                return false;
+            }
+            if (counterMode && !granted.isEmpty()) {
+                adjustCounters(job.getTicketType(), job.getQuantity(), granted);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(hasMore);
+    }
+
+    public void yieldLease(Lease lease) {
+        transactionTemplate.executeWithoutResult(status -> ticketGrantJobRepository.findById(lease.grantJobId())
+                .filter(job -> job.isLeasedBy(lease.owner()))
+                .ifPresent(job -> job.yieldLease(LocalDateTime.now())));
+    }
+
+    /**
+     * 이 실행이 아직 lease 를 가진 경우에만 실패 처리한다. 다른 워커가 가져간 job 은 그 워커가 계속 처리한다.
+     */
+    public void markFailed(Lease lease, String errorMessage) {
+        String message = errorMessage == null ? "unknown" : errorMessage;
+        String truncated = message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+        transactionTemplate.executeWithoutResult(status -> ticketGrantJobRepository.findById(lease.grantJobId())
+                .filter(job -> job.isLeasedBy(lease.owner()))
+                .ifPresent(job -> job.fail(truncated, LocalDateTime.now())));
+    }
+
+    /**
+     * 지급분을 이미 적재된 Redis 카운터에 커밋 전에 더하고, 트랜잭션이 커밋되지 않으면 되돌린다
+     * ({@link TicketLedgerService}의 카운터 모드와 같은 순서). 적재되지 않은 카운터는 다음 적재 때 user_ + outbox 를 읽으므로 건드리지 않는다.
+     */
+    private void adjustCounters(TicketType ticketType, int quantity, List<Long> userIds) {
+        List<Long> adjusted = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    for (Long userId : adjusted) {
+                        ticketBalanceCounterService.forceAdd(userId, ticketType, -quantity);
+                    }
+                } catch (Exception e) {
+                    log.warn("티켓 일괄 지급 카운터 롤백 보상 실패, reconciler 가 보정한다. users={} reason={}", adjusted.size(), e.getMessage());
+                }
+            }
+        });
+        for (Long userId : userIds) {
+            if (ticketBalanceCounterService.forceAdd(userId, ticketType, quantity) != TicketBalanceCounterService.NOT_LOADED) {
+                adjusted.add(userId);
+            }
+        }
+    }
+
+    private TicketGrantJobEntity findJob(String jobId) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId는 필수입니다.");
+        }
+        return ticketGrantJobRepository.findByJobId(jobId.trim())
+                .orElseThrow(() -> new IllegalArgumentException("지급 job을 찾을 수 없습니다."));
+    }
+
+    private String normalizeRefId(String refId) {
+        if (refId == null || refId.isBlank()) {
+            throw new IllegalArgumentException("refId는 필수입니다.");
+        }
+        return refId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private TicketGrantJobResponseDTO toResponse(TicketGrantJobEntity job) {
+        double progressPercent = job.getStatus() == TicketGrantJobStatus.COMPLETED
+                ? 100.0
+                : job.getTotalTargets() <= 0 ? 0.0 : Math.min(100.0, job.getProcessedTargets() * 100.0 / job.getTotalTargets());
+        return new TicketGrantJobResponseDTO(
+                job.getJobId(),
+                job.getTicketType(),
+                job.getQuantity(),
+                job.getRefId(),
+                job.getTarget(),
+                job.getJoinedFrom(),
+                job.getJoinedTo(),
+                job.getStatus(),
+                job.getTotalTargets(),
+                job.getProcessedTargets(),
+                job.getGrantedCount(),
+                job.getProcessedTargets() - job.getGrantedCount(),
+                progressPercent,
+                job.getErrorMessage(),
+                job.getCreatedDate(),
+                job.getUpdatedDate(),
+                job.getCompletedDate()
+        );
+    }
+
+    /**
+     * 워커 한 번의 실행이 잡은 job lease.
+     */
+    public record Lease(Long grantJobId, String owner) {
+    }
+}
@@ -4,179 +4,264 @@ import com.trendscope.backend.domain.user.dto.TicketLedgerItemResponseDTO;
 import com.trendscope.backend.domain.user.dto.TicketSummaryResponseDTO;
 import com.trendscope.backend.domain.user.dto.TicketTransactionRequestDTO;
 import com.trendscope.backend.domain.user.dto.TicketTransactionResponseDTO;
+import com.trendscope.backend.domain.user.entity.TicketBalanceOutboxEntity;
 import com.trendscope.backend.domain.user.entity.TicketLedgerEntity;
+import com.trendscope.backend.domain.user.entity.TicketReservationEntity;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.TicketLedgerReason;
+import com.trendscope.backend.domain.user.entity.enums.TicketReservationState;
 import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceOutboxRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceRow;
 import com.trendscope.backend.domain.user.repository.TicketLedgerRepository;
+import com.trendscope.backend.domain.user.repository.TicketReservationRepository;
 import com.trendscope.backend.domain.user.repository.UserRepository;
+import com.trendscope.backend.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
-
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 티켓 잔액 변경과 원장 기록.
+ * <p>
+ * 잔액 변경 방식은 app.ticket.concurrency-mode 로 고른다.
+ * <ul>
+ *     <li>pessimistic(기본): 사용자 행을 FOR UPDATE 로 잠근 뒤 중복 refId/잔액을 검사하고 엔티티를 갱신한다.</li>
+ *     <li>optimistic: 잠그지 않고 잔액 조건부 UPDATE 한 문장으로 검사와 증감을 처리한다. 같은 refId 요청이 동시에 들어와
+ *     원장 unique 제약에 걸리면 트랜잭션을 다시 실행해 중복으로 판정한다 (바깥 트랜잭션이 없을 때만, 최대 optimistic-max-attempts 회).</li>
+ * </ul>
+ * app.ticket.balance-store=redis 이면 위 모드 대신 Redis 카운터({@link TicketBalanceCounterService})로 잔액을 검사/증감하고,
+ * user_ 잔액 변경은 원장과 같은 트랜잭션의 outbox 행으로 남겨 relay 가 사용자별로 모아 반영한다.
+ * 트랜잭션이 커밋되지 않으면 카운터 변경을 되돌리며, 중복 refId 경합 재시도는 optimistic 모드와 같다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TicketLedgerService {
 
+    static final String MODE_OPTIMISTIC = "optimistic";
+
     private final TicketLedgerRepository ticketLedgerRepository;
+    private final TicketReservationRepository ticketReservationRepository;
+    private final TicketBalanceOutboxRepository ticketBalanceOutboxRepository;
+    private final TicketBalanceCheckpointRepository ticketBalanceCheckpointRepository;
     private final UserRepository userRepository;
+    private final TicketBalanceCounterService ticketBalanceCounterService;
+    private final TransactionTemplate transactionTemplate;
 
     private static final int DEFAULT_QUANTITY = 1;
     private static final int MAX_LEDGER_SIZE = 100;
 
-    @Transactional
+    @Value("${app.ticket.concurrency-mode:pessimistic}")
+    private String concurrencyMode;
+
+    @Value("${app.ticket.optimistic-max-attempts:3}")
+    private int optimisticMaxAttempts;
+
     public TicketTransactionResponseDTO purchase(String username, TicketTransactionRequestDTO dto) {
         int quantity = normalizeQuantity(dto.getQuantity());
-        return apply(username, dto.getTicketType(), quantity, TicketLedgerReason.PURCHASE, normalizeRefId(dto.getRefId()));
+        String refId = normalizeRefId(dto.getRefId());
+        return execute(() -> apply(username, dto.getTicketType(), quantity, TicketLedgerReason.PURCHASE, refId));
     }
 
-    @Transactional
     public TicketTransactionResponseDTO purchase(String username, TicketType ticketType, int quantity, String refId) {
         int normalized = normalizeQuantity(quantity);
-        return apply(username, ticketType, normalized, TicketLedgerReason.PURCHASE, normalizeRefId(refId));
+        String normalizedRefId = normalizeRefId(refId);
+        return execute(() -> apply(username, ticketType, normalized, TicketLedgerReason.PURCHASE, normalizedRefId));
+    }
+
+    /**
+     * 잔액이 targetBalance 보다 적으면 부족분을 GRANT 원장으로 채운다 (리뷰 계정 등 운영용 보충).
+     * refId 는 prefix 와 사용자의 마지막 원장 id 로 정하므로, 같은 상태에서 동시에 들어온 보충은 한 번만 반영된다.
+     *
+     * @return 보충했으면 원장 응답, 이미 targetBalance 이상이면 empty
+     */
+    public Optional<TicketTransactionResponseDTO> topUp(String username, TicketType ticketType, int targetBalance, String refIdPrefix) {
+        if (ticketType == null) {
+            throw new IllegalArgumentException("ticketType은 필수입니다.");
+        }
+        TicketBalanceRow balances = getBalances(username);
+        Integer current = ticketType == TicketType.QUICK ? balances.quickTicketBalance() : balances.premiumTicketBalance();
+        int gap = Math.max(targetBalance, 0) - (current == null ? 0 : current);
+        if (gap <= 0) {
+            return Optional.empty();
+        }
+        String refId = normalizeRefId(refIdPrefix + "_" + ticketLedgerRepository.findLatestIdByUsername(username).orElse(0L));
+        return Optional.of(execute(() -> apply(username, ticketType, gap, TicketLedgerReason.GRANT, refId)));
+    }
+
+    /**
+     * 현재 잔액. Redis 카운터 모드면 카운터를, 아니면 DB 잔액 컬럼을 읽는다 (보충/차감 이후 UserEntity 는 이전 값일 수 있다).
+     */
+    public TicketBalanceRow getBalances(String username) {
+        return balancesOf(findUserId(username));
     }
 
-    @Transactional
     public TicketTransactionResponseDTO use(String username, TicketTransactionRequestDTO dto) {
         int quantity = normalizeQuantity(dto.getQuantity());
-        return apply(username, dto.getTicketType(), -quantity, TicketLedgerReason.USE, normalizeRefId(dto.getRefId()));
+        String refId = normalizeRefId(dto.getRefId());
+        return execute(() -> apply(username, dto.getTicketType(), -quantity, TicketLedgerReason.USE, refId));
     }
 
-    @Transactional
     public TicketTransactionResponseDTO refund(String username, TicketTransactionRequestDTO dto) {
         int quantity = normalizeQuantity(dto.getQuantity());
-        return apply(username, dto.getTicketType(), quantity, TicketLedgerReason.REFUND, normalizeRefId(dto.getRefId()));
+        String refId = normalizeRefId(dto.getRefId());
+        return execute(() -> apply(username, dto.getTicketType(), quantity, TicketLedgerReason.REFUND, refId));
     }
 
-    @Transactional
+    /**
+     * 티켓 1장을 차감하고 refId 예약을 HELD 로 만든다.
+     * pessimistic 모드는 사용자 행을 잠가 잔액을 검사하고, optimistic 모드는 조건부 UPDATE 로, Redis 카운터 모드는 Lua 스크립트로
+     * 검사와 차감을 함께 한다.
+     */
     public TicketTransactionResponseDTO holdForAnalyze(String username, TicketType ticketType, String refId) {
-        return apply(username, ticketType, -1, TicketLedgerReason.HOLD, normalizeRefId(refId));
-    }
-
-    @Transactional
-    public TicketTransactionResponseDTO consumeHeldForAnalyze(String username, TicketType ticketType, String refId) {
         String normalizedRefId = normalizeRefId(refId);
-        UserEntity user = userRepository.findByUsernameForUpdate(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return execute(() -> hold(username, ticketType, normalizedRefId));
+    }
 
-        TicketLedgerEntity duplicate = ticketLedgerRepository
-                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(
-                        user.getId(),
-                        ticketType,
-                        TicketLedgerReason.CONSUME,
-                        normalizedRefId
-                )
-                .orElse(null);
-        if (duplicate != null) {
-            return toResponse(duplicate, user, false);
+    private TicketTransactionResponseDTO hold(String username, TicketType ticketType, String refId) {
+        Long userId;
+        TicketTransactionResponseDTO response;
+        if (ticketBalanceCounterService.isEnabled()) {
+            userId = findUserId(username);
+            response = applyWithCounter(userId, ticketType, -1, TicketLedgerReason.HOLD, refId);
+        } else if (isOptimistic()) {
+            userId = findUserId(username);
+            response = applyConditionally(userId, ticketType, -1, TicketLedgerReason.HOLD, refId);
+        } else {
+            UserEntity user = lockUser(username);
+            userId = user.getId();
+            response = apply(user, ticketType, -1, TicketLedgerReason.HOLD, refId);
         }
-
-        TicketLedgerEntity hold = ticketLedgerRepository
-                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(
-                        user.getId(),
-                        ticketType,
-                        TicketLedgerReason.HOLD,
-                        normalizedRefId
-                )
-                .orElse(null);
-        if (hold == null) {
-            throw new IllegalArgumentException("예약된 티켓(HOLD)이 없어 확정 차감할 수 없습니다.");
+        if (response.applied()) {
+            LocalDateTime now = LocalDateTime.now();
+            ticketReservationRepository.saveAndFlush(TicketReservationEntity.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .ticketType(ticketType)
+                    .refId(refId)
+                    .state(TicketReservationState.HELD)
+                    .createdDate(now)
+                    .updatedDate(now)
+                    .build());
         }
+        return response;
+    }
 
-        TicketLedgerEntity released = ticketLedgerRepository
-                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(
-                        user.getId(),
-                        ticketType,
-                        TicketLedgerReason.RELEASE,
-                        normalizedRefId
-                )
-                .orElse(null);
-        if (released != null) {
-            throw new IllegalArgumentException("이미 해제(RELEASE)된 티켓은 확정 차감할 수 없습니다.");
+    /**
+     * HELD 예약을 CONSUMED 로 확정한다. 잔액은 hold 시점에 이미 차감되었으므로 사용자 행을 잠그지 않는다.
+     */
+    @Transactional
+    public TicketTransactionResponseDTO consumeHeldForAnalyze(Long userId, TicketType ticketType, String refId) {
+        String normalizedRefId = normalizeRefId(refId);
+        if (transition(userId, ticketType, normalizedRefId, TicketReservationState.CONSUMED)) {
+            return consumed(userId, ticketType, normalizedRefId);
         }
 
-        TicketLedgerEntity ledger = TicketLedgerEntity.builder()
-                .user(user)
-                .delta(0)
-                .reason(TicketLedgerReason.CONSUME)
-                .ticketType(ticketType)
-                .refId(normalizedRefId)
-                .build();
-        ticketLedgerRepository.save(ledger);
+        return switch (currentState(userId, ticketType, normalizedRefId)) {
+            case CONSUMED -> toResponse(findLedger(userId, ticketType, TicketLedgerReason.CONSUME, normalizedRefId), false);
+            case RELEASED -> throw new IllegalArgumentException("이미 해제(RELEASE)된 티켓은 확정 차감할 수 없습니다.");
+            // 예약 테이블 도입 전 hold 는 currentState 에서 HELD 예약으로 backfill 되므로 한 번 더 전이한다.
+            case HELD -> {
+                if (transition(userId, ticketType, normalizedRefId, TicketReservationState.CONSUMED)) {
+                    yield consumed(userId, ticketType, normalizedRefId);
+                }
+                throw new IllegalStateException("티켓 예약 상태 전이에 실패했습니다. refId=" + normalizedRefId);
+            }
+        };
+    }
 
-        return toResponse(ledger, user, true);
+    private TicketTransactionResponseDTO consumed(Long userId, TicketType ticketType, String refId) {
+        TicketLedgerEntity ledger = appendLedger(userId, ticketType, 0, TicketLedgerReason.CONSUME, refId);
+        return toResponse(ledger, balancesOf(userId), true);
     }
 
+    /**
+     * HELD 예약을 RELEASED 로 바꾸고 티켓 1장을 돌려준다. 잔액은 원자적 증가 UPDATE 한 번으로 반영한다
+     * (Redis 카운터 모드는 카운터 증가 + outbox).
+     */
     @Transactional
-    public TicketTransactionResponseDTO releaseHeldForAnalyze(String username, TicketType ticketType, String refId) {
+    public TicketTransactionResponseDTO releaseHeldForAnalyze(Long userId, TicketType ticketType, String refId) {
         String normalizedRefId = normalizeRefId(refId);
-        UserEntity user = userRepository.findByUsernameForUpdate(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        TicketLedgerEntity duplicate = ticketLedgerRepository
-                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(
-                        user.getId(),
-                        ticketType,
-                        TicketLedgerReason.RELEASE,
-                        normalizedRefId
-                )
-                .orElse(null);
-        if (duplicate != null) {
-            return toResponse(duplicate, user, false);
+        if (transition(userId, ticketType, normalizedRefId, TicketReservationState.RELEASED)) {
+            return released(userId, ticketType, normalizedRefId);
         }
 
-        TicketLedgerEntity hold = ticketLedgerRepository
-                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(
-                        user.getId(),
-                        ticketType,
-                        TicketLedgerReason.HOLD,
-                        normalizedRefId
-                )
-                .orElse(null);
-        if (hold == null) {
-            throw new IllegalArgumentException("예약된 티켓(HOLD)이 없어 해제할 수 없습니다.");
-        }
+        return switch (currentState(userId, ticketType, normalizedRefId)) {
+            case RELEASED -> toResponse(findLedger(userId, ticketType, TicketLedgerReason.RELEASE, normalizedRefId), false);
+            case CONSUMED -> throw new IllegalArgumentException("이미 확정 차감(CONSUME)된 티켓은 해제할 수 없습니다.");
+            case HELD -> {
+                if (transition(userId, ticketType, normalizedRefId, TicketReservationState.RELEASED)) {
+                    yield released(userId, ticketType, normalizedRefId);
+                }
+                throw new IllegalStateException("티켓 예약 상태 전이에 실패했습니다. refId=" + normalizedRefId);
+            }
+        };
+    }
 
-        TicketLedgerEntity consumed = ticketLedgerRepository
-                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(
-                        user.getId(),
-                        ticketType,
-                        TicketLedgerReason.CONSUME,
-                        normalizedRefId
-                )
-                .orElse(null);
-        if (consumed != null) {
-            throw new IllegalArgumentException("이미 확정 차감(CONSUME)된 티켓은 해제할 수 없습니다.");
+    private TicketTransactionResponseDTO released(Long userId, TicketType ticketType, String refId) {
+        if (ticketBalanceCounterService.isEnabled()) {
+            adjustCounter(userId, ticketType, 1);
+            TicketLedgerEntity ledger = appendLedger(userId, ticketType, 1, TicketLedgerReason.RELEASE, refId);
+            recordOutbox(ledger, userId);
+            return toResponse(ledger, counterBalances(userId), true);
         }
+        userRepository.addTicketBalance(userId, ticketType.name(), 1);
+        TicketLedgerEntity ledger = appendLedger(userId, ticketType, 1, TicketLedgerReason.RELEASE, refId);
+        // 원자적 증가 UPDATE 는 영속성 컨텍스트의 사용자 엔티티를 갱신하지 않으므로 잔액을 다시 읽는다.
+        return toResponse(ledger, currentBalances(userId), true);
+    }
 
-        user.changeTicketBalance(ticketType, 1);
-
-        TicketLedgerEntity ledger = TicketLedgerEntity.builder()
-                .user(user)
-                .delta(1)
-                .reason(TicketLedgerReason.RELEASE)
-                .ticketType(ticketType)
-                .refId(normalizedRefId)
-                .build();
-        ticketLedgerRepository.save(ledger);
-
-        return toResponse(ledger, user, true);
+    /**
+     * 조건부 조회(ETag)용 티켓 요약 버전. 잔액 변경은 항상 원장 추가를 동반하므로 최신 원장 id와 사용자 수정 시각으로 판단하고,
+     * 원장 압축은 둘 다 바꾸지 않고 목록에서 행만 빼므로 누적 압축 행 수를 함께 넣는다.
+     */
+    public String getSummaryVersion(String username) {
+        return userRepository.findUpdatedDateByUsername(username)
+                .map(updatedDate -> updatedDate
+                        + "|" + ticketLedgerRepository.findLatestIdByUsername(username).orElse(0L)
+                        + "|" + ticketBalanceCheckpointRepository.sumArchivedRowsByUsername(username))
+                .orElse(null);
     }
 
     @Transactional(readOnly = true)
     public TicketSummaryResponseDTO getSummary(String username, int size) {
+        return getSummary(username, size, null);
+    }
+
+    @Transactional(readOnly = true)
+    public TicketSummaryResponseDTO getSummary(String username, int size, String ledgerCursor) {
         int safeSize = Math.max(1, Math.min(size, MAX_LEDGER_SIZE));
+        KeysetCursor after = KeysetCursor.decode(ledgerCursor);
         UserEntity user = userRepository.findByUsernameAndIsLock(username, false)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Pageable pageable = PageRequest.of(0, safeSize);
-        List<TicketLedgerItemResponseDTO> items = ticketLedgerRepository
-                .findByUserIdOrderByCreatedDateDesc(user.getId(), pageable)
+        Pageable pageable = PageRequest.of(0, safeSize + 1);
+        List<TicketLedgerEntity> rows = after == null
+                ? ticketLedgerRepository.findByUserIdOrderByCreatedDateDescIdDesc(user.getId(), pageable)
+                : ticketLedgerRepository.findPageByUserIdBefore(user.getId(), after.createdDate(), after.id(), pageable);
+        String nextLedgerCursor = null;
+        if (rows.size() > safeSize) {
+            rows = rows.subList(0, safeSize);
+            TicketLedgerEntity last = rows.get(safeSize - 1);
+            nextLedgerCursor = new KeysetCursor(last.getCreatedDate(), last.getId()).encode();
+        }
+
+        List<TicketLedgerItemResponseDTO> items = rows
                 .stream()
                 .map(ledger -> new TicketLedgerItemResponseDTO(
                         ledger.getId(),
@@ -188,12 +273,19 @@ public class TicketLedgerService {
                 ))
                 .toList();
 
+        if (ticketBalanceCounterService.isEnabled()) {
+            TicketBalanceRow balances = counterBalances(user.getId());
+            int quick = balances.quickTicketBalance() == null ? 0 : balances.quickTicketBalance();
+            int premium = balances.premiumTicketBalance() == null ? 0 : balances.premiumTicketBalance();
+            return new TicketSummaryResponseDTO(user.getUsername(), quick, premium, quick + premium, items, nextLedgerCursor);
+        }
         return new TicketSummaryResponseDTO(
                 user.getUsername(),
                 user.getQuickTicketBalance(),
                 user.getPremiumTicketBalance(),
                 user.getTicketBalance(),
-                items
+                items,
+                nextLedgerCursor
         );
     }
 
@@ -203,14 +295,27 @@ public class TicketLedgerService {
             int delta,
             TicketLedgerReason reason,
             String refId
+    ) {
+        if (ticketBalanceCounterService.isEnabled()) {
+            return applyWithCounter(findUserId(username), ticketType, delta, reason, refId);
+        }
+        if (isOptimistic()) {
+            return applyConditionally(findUserId(username), ticketType, delta, reason, refId);
+        }
+        return apply(lockUser(username), ticketType, delta, reason, refId);
+    }
+
+    private TicketTransactionResponseDTO apply(
+            UserEntity user,
+            TicketType ticketType,
+            int delta,
+            TicketLedgerReason reason,
+            String refId
     ) {
         if (ticketType == null) {
             throw new IllegalArgumentException("ticketType은 필수입니다.");
         }
 
-        UserEntity user = userRepository.findByUsernameForUpdate(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         TicketLedgerEntity duplicate = ticketLedgerRepository
                 .findFirstByUserIdAndTicketTypeAndReasonAndRefId(user.getId(), ticketType, reason, refId)
                 .orElse(null);
@@ -242,7 +347,253 @@ public class TicketLedgerService {
         return toResponse(ledger, user, true);
     }
 
+    /**
+     * optimistic 모드. 사용자 행을 읽거나 잠그지 않고 조건부 UPDATE 결과로 잔액 부족을 판단한다.
+     * 영속성 컨텍스트의 UserEntity 잔액은 갱신하지 않으므로 응답 잔액은 projection 으로 다시 읽는다.
+     */
+    private TicketTransactionResponseDTO applyConditionally(
+            Long userId,
+            TicketType ticketType,
+            int delta,
+            TicketLedgerReason reason,
+            String refId
+    ) {
+        if (ticketType == null) {
+            throw new IllegalArgumentException("ticketType은 필수입니다.");
+        }
+
+        TicketLedgerEntity duplicate = ticketLedgerRepository
+                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(userId, ticketType, reason, refId)
+                .orElse(null);
+        if (duplicate != null) {
+            return toResponse(duplicate, currentBalances(userId), false);
+        }
+
+        if (delta != 0 && userRepository.addTicketBalanceIfSufficient(userId, ticketType.name(), delta) == 0) {
+            throw new IllegalArgumentException("보유 티켓이 부족합니다.");
+        }
+
+        // 동시에 들어온 같은 refId 요청은 여기서 unique 제약에 걸려 이 트랜잭션의 잔액 변경까지 롤백된다.
+        TicketLedgerEntity ledger = insertLedger(userId, ticketType, delta, reason, refId);
+
+        return toResponse(ledger, currentBalances(userId), true);
+    }
+
+    /**
+     * Redis 카운터 모드. 사용자 행을 읽거나 갱신하지 않고, 원장과 outbox 행만 추가한다.
+     */
+    private TicketTransactionResponseDTO applyWithCounter(
+            Long userId,
+            TicketType ticketType,
+            int delta,
+            TicketLedgerReason reason,
+            String refId
+    ) {
+        if (ticketType == null) {
+            throw new IllegalArgumentException("ticketType은 필수입니다.");
+        }
+
+        TicketLedgerEntity duplicate = ticketLedgerRepository
+                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(userId, ticketType, reason, refId)
+                .orElse(null);
+        if (duplicate != null) {
+            return toResponse(duplicate, counterBalances(userId), false);
+        }
+
+        if (delta != 0) {
+            adjustCounter(userId, ticketType, delta);
+        }
+        TicketLedgerEntity ledger = insertLedger(userId, ticketType, delta, reason, refId);
+        if (delta != 0) {
+            recordOutbox(ledger, userId);
+        }
+
+        return toResponse(ledger, counterBalances(userId), true);
+    }
+
+    /**
+     * 카운터를 먼저 바꾸고(잔액 검사 포함), 트랜잭션이 커밋되지 않으면 되돌린다.
+     */
+    private void adjustCounter(Long userId, TicketType ticketType, int delta) {
+        long balance = ticketBalanceCounterService.tryAdd(userId, ticketType, delta);
+        if (balance == TicketBalanceCounterService.NOT_LOADED) {
+            ticketBalanceCounterService.load(userId, expectedBalances(userId));
+            balance = ticketBalanceCounterService.tryAdd(userId, ticketType, delta);
+        }
+        if (balance == TicketBalanceCounterService.INSUFFICIENT) {
+            throw new IllegalArgumentException("보유 티켓이 부족합니다.");
+        }
+        if (balance == TicketBalanceCounterService.NOT_LOADED) {
+            throw new IllegalStateException("티켓 잔액 카운터를 불러오지 못했습니다. userId=" + userId);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    ticketBalanceCounterService.forceAdd(userId, ticketType, -delta);
+                } catch (Exception e) {
+                    log.warn("티켓 잔액 카운터 롤백 보상 실패, reconciler 가 보정한다. userId={} reason={}", userId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void recordOutbox(TicketLedgerEntity ledger, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        ticketBalanceOutboxRepository.save(TicketBalanceOutboxEntity.builder()
+                .userId(userId)
+                .ticketType(ledger.getTicketType())
+                .delta(ledger.getDelta())
+                .ledgerId(ledger.getId())
+                .nextAttemptAt(now)
+                .createdDate(now)
+                .build());
+    }
+
+    /**
+     * 카운터 기준 잔액. 카운터가 없으면 DB 기준 잔액으로 채우고 그 값을 쓴다.
+     */
+    private TicketBalanceRow counterBalances(Long userId) {
+        Optional<TicketBalanceRow> counted = ticketBalanceCounterService.get(userId);
+        if (counted.isPresent()) {
+            return counted.get();
+        }
+        TicketBalanceRow expected = expectedBalances(userId);
+        ticketBalanceCounterService.load(userId, expected);
+        return expected;
+    }
+
+    private TicketBalanceRow expectedBalances(Long userId) {
+        return ticketBalanceOutboxRepository.findExpectedBalances(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    private TicketLedgerEntity insertLedger(Long userId, TicketType ticketType, int delta, TicketLedgerReason reason, String refId) {
+        return ticketLedgerRepository.saveAndFlush(TicketLedgerEntity.builder()
+                .user(userRepository.getReferenceById(userId))
+                .delta(delta)
+                .reason(reason)
+                .ticketType(ticketType)
+                .refId(refId)
+                .build());
+    }
+
+    /**
+     * 잔액 변경 트랜잭션을 실행한다. 사용자 행을 잠그지 않는 모드에서 바깥 트랜잭션이 없으면 중복 refId 경합(unique 위반)을 재시도한다.
+     * 바깥 트랜잭션에 참여 중이면 이미 rollback-only 이므로 예외를 그대로 올린다.
+     */
+    private TicketTransactionResponseDTO execute(Supplier<TicketTransactionResponseDTO> action) {
+        boolean lockFree = isOptimistic() || ticketBalanceCounterService.isEnabled();
+        if (!lockFree || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(status -> action.get());
+        }
+
+        int maxAttempts = Math.max(1, optimisticMaxAttempts);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.info("티켓 원장 중복 refId 경합, 재시도. attempt={} reason={}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isOptimistic() {
+        return MODE_OPTIMISTIC.equalsIgnoreCase(concurrencyMode == null ? "" : concurrencyMode.trim());
+    }
+
+    private UserEntity lockUser(String username) {
+        return userRepository.findByUsernameForUpdate(username)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    private Long findUserId(String username) {
+        return userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    private TicketBalanceRow balancesOf(Long userId) {
+        return ticketBalanceCounterService.isEnabled() ? counterBalances(userId) : currentBalances(userId);
+    }
+
+    private TicketBalanceRow currentBalances(Long userId) {
+        return userRepository.findTicketBalancesById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    private boolean transition(Long userId, TicketType ticketType, String refId, TicketReservationState to) {
+        if (userId == null || ticketType == null) {
+            throw new IllegalArgumentException("userId와 ticketType은 필수입니다.");
+        }
+        return ticketReservationRepository.transition(
+                userId,
+                ticketType,
+                refId,
+                TicketReservationState.HELD,
+                to,
+                LocalDateTime.now()
+        ) == 1;
+    }
+
+    /**
+     * 전이에 실패한 이유를 확인한다. 예약 테이블 도입 전에 hold 된 건은 원장 기준으로 예약 행을 만든 뒤 다시 본다.
+     */
+    private TicketReservationState currentState(Long userId, TicketType ticketType, String refId) {
+        Optional<TicketReservationEntity> reservation =
+                ticketReservationRepository.findByUserIdAndTicketTypeAndRefId(userId, ticketType, refId);
+        if (reservation.isEmpty()
+                && ticketReservationRepository.backfillFromLedger(userId, ticketType.name(), refId) > 0) {
+            reservation = ticketReservationRepository.findByUserIdAndTicketTypeAndRefId(userId, ticketType, refId);
+        }
+        return reservation
+                .map(TicketReservationEntity::getState)
+                .orElseThrow(() -> new IllegalArgumentException("예약된 티켓(HOLD)이 없습니다."));
+    }
+
+    private TicketLedgerEntity appendLedger(Long userId, TicketType ticketType, int delta, TicketLedgerReason reason, String refId) {
+        TicketLedgerEntity ledger = TicketLedgerEntity.builder()
+                .user(userRepository.getReferenceById(userId))
+                .delta(delta)
+                .reason(reason)
+                .ticketType(ticketType)
+                .refId(refId)
+                .build();
+        return ticketLedgerRepository.save(ledger);
+    }
+
+    private TicketLedgerEntity findLedger(Long userId, TicketType ticketType, TicketLedgerReason reason, String refId) {
+        return ticketLedgerRepository
+                .findFirstByUserIdAndTicketTypeAndReasonAndRefId(userId, ticketType, reason, refId)
+                .orElseThrow(() -> new IllegalStateException("티켓 원장을 찾을 수 없습니다. reason=" + reason + " refId=" + refId));
+    }
+
+    private TicketTransactionResponseDTO toResponse(TicketLedgerEntity ledger, boolean applied) {
+        return toResponse(ledger, ledger.getUser(), applied);
+    }
+
     private TicketTransactionResponseDTO toResponse(TicketLedgerEntity ledger, UserEntity user, boolean applied) {
+        return toResponse(ledger, user.getQuickTicketBalance(), user.getPremiumTicketBalance(), applied);
+    }
+
+    private TicketTransactionResponseDTO toResponse(TicketLedgerEntity ledger, TicketBalanceRow balances, boolean applied) {
+        return toResponse(ledger, balances.quickTicketBalance(), balances.premiumTicketBalance(), applied);
+    }
+
+    private TicketTransactionResponseDTO toResponse(
+            TicketLedgerEntity ledger,
+            Integer quickTicketBalance,
+            Integer premiumTicketBalance,
+            boolean applied
+    ) {
+        int quick = quickTicketBalance == null ? 0 : quickTicketBalance;
+        int premium = premiumTicketBalance == null ? 0 : premiumTicketBalance;
         return new TicketTransactionResponseDTO(
                 ledger.getId(),
                 ledger.getTicketType(),
@@ -250,9 +601,9 @@ public class TicketLedgerService {
                 ledger.getRefId(),
                 Math.abs(ledger.getDelta()),
                 ledger.getDelta(),
-                user.getQuickTicketBalance(),
-                user.getPremiumTicketBalance(),
-                user.getTicketBalance(),
+                quick,
+                premium,
+                quick + premium,
                 applied,
                 ledger.getCreatedDate()
         );
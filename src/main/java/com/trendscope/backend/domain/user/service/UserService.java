@@ -1,7 +1,13 @@
 package com.trendscope.backend.domain.user.service;
 
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeRetentionRow;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobStatusCacheService;
+import com.trendscope.backend.domain.analyze.service.AnalyzeShareSnapshotService;
 import com.trendscope.backend.domain.user.dto.UserResponseDTO;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
 import com.trendscope.backend.global.jwt.service.RedisService;
+import com.trendscope.backend.global.security.service.UserRevocationService;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.SocialProviderType;
 import com.trendscope.backend.domain.user.entity.enums.UserRoleType;
@@ -14,8 +20,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 
 @Service
@@ -24,6 +35,11 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final RedisService redisService;
+    private final UserRevocationService userRevocationService;
+    private final AnalyzeJobRepository analyzeJobRepository;
+    private final S3ObjectTombstoneService s3ObjectTombstoneService;
+    private final AnalyzeShareSnapshotService analyzeShareSnapshotService;
+    private final AnalyzeJobStatusCacheService analyzeJobStatusCacheService;
 
 
     //자체 로그인 회원 가입 (존재 여부 체크)
@@ -97,10 +113,81 @@ public class UserService {
         //Refresh 토큰 제거 (참조 제약 or 캐시 일관성 문제로 먼저 삭제)
         redisService.deleteAllRefreshTokens(dto.getUsername());
 
+        //측정 기록은 유저 삭제 시 DB에서 cascade 되므로, 같은 트랜잭션에서 S3 오브젝트 삭제를 먼저 예약
+        List<AnalyzeRetentionRow> jobRows = analyzeJobRepository.findObjectKeyRowsByUsername(dto.getUsername());
+        s3ObjectTombstoneService.record(
+                jobRows.stream()
+                        .flatMap(row -> Stream.of(row.frontImageKey(), row.sideImageKey(), row.glbObjectKey()))
+                        .toList(),
+                S3ObjectTombstoneService.REASON_USER_DELETED
+        );
+
+        //삭제된 job의 공유 스냅샷/상태 캐시가 남아 응답되지 않도록 커밋 후 함께 지운다
+        List<String> jobIds = jobRows.stream().map(AnalyzeRetentionRow::jobId).toList();
+        analyzeShareSnapshotService.evict(jobIds);
+        analyzeJobStatusCacheService.evict(jobIds);
+
         //유저 삭제
         userRepository.deleteByUsername(dto.getUsername());
 
+        //이미 발급된 access token이 claims만으로 인증되지 않도록 무효화 목록에 기록
+        revokeAfterCommit(dto.getUsername());
+    }
+
+    //관리자 계정 잠금/해제
+    @Transactional
+    public void changeLock(String username, boolean isLock) {
+        UserEntity entity = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+        entity.changeLock(isLock);
+
+        if (isLock) {
+            //잠긴 계정은 refresh로 새 토큰을 받을 수 없게 하고, 이미 발급된 access token도 DB 상태로 재확인
+            redisService.deleteAllRefreshTokens(username);
+            revokeAfterCommit(username);
+        }
+    }
 
+    //관리자 권한 변경
+    @Transactional
+    public void changeRole(String username, UserRoleType roleType) {
+        if (roleType == null) {
+            throw new IllegalArgumentException("roleType은 필수입니다.");
+        }
+        UserEntity entity = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+        if (entity.getRoleType() == roleType) {
+            return;
+        }
+        entity.changeRole(roleType);
+
+        //이미 발급된 access token의 role claim 대신 DB의 새 권한으로 인증되도록 무효화 목록에 기록
+        revokeAfterCommit(username);
+    }
+
+    //커밋 전에 기록하면 그 사이 DB 재확인이 이전 상태를 읽어 통과시킬 수 있으므로 커밋 이후에 기록
+    private void revokeAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userRevocationService.revoke(username);
+                }
+            });
+            return;
+        }
+        userRevocationService.revoke(username);
+    }
+
+    //유저 정보 조건부 조회(ETag)용 버전
+    public String readUserVersion() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (username == null) {
+            return null;
+        }
+        return userRepository.findUpdatedDateByUsername(username)
+                .map(LocalDateTime::toString)
+                .orElse(null);
     }
 
     //자체 /소셜 유저 정보조회
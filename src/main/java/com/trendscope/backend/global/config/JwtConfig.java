@@ -17,8 +17,11 @@ public class JwtConfig {
     @Value("${jwt.refresh-expiration-ms}")
     private long refreshTokenExpirationMs;
 
+    @Value("${jwt.claims-cache-size:100000}")
+    private long claimsCacheSize;
+
     @PostConstruct
     public void init() {
-        JWTUtil.initialize(secret, accessTokenExpirationMs, refreshTokenExpirationMs);
+        JWTUtil.initialize(secret, accessTokenExpirationMs, refreshTokenExpirationMs, claimsCacheSize);
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -33,6 +34,14 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // Redis pub/sub 구독 컨테이너 (노드 간 이벤트 fan-out 용)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     //reids + buck4j 설정 -> 60분 동안 갱신 없을 시 삭제 (메모리절약)
     @Bean
     public LettuceBasedProxyManager<byte[]> proxyManager(RedisConnectionFactory redisConnectionFactory) {
@@ -13,4 +13,8 @@ public class RedisStreamsConfig {
     public static final String BOAT_STREAM_KEY = "boat:stream:log";
     public static final String BOAT_CONSUMER_GROUP = "boat-group";
 
-}
\ No newline at end of file
+    // 측정 job 작업 큐 (XADD -> XREADGROUP -> XACK, 미확인 메시지는 XCLAIM으로 회수). lane별로 analyze:stream:job:{lane}
+    public static final String ANALYZE_JOB_STREAM_KEY_PREFIX = "analyze:stream:job:";
+    public static final String ANALYZE_JOB_CONSUMER_GROUP = "analyze-worker-group";
+
+}
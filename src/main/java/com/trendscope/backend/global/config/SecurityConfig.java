@@ -5,7 +5,9 @@ import com.trendscope.backend.global.filter.JWTFilter;
 import com.trendscope.backend.global.filter.RateLimitFilter;
 import com.trendscope.backend.global.security.service.CustomOAuth2UserService;
 import com.trendscope.backend.global.security.service.CustomUserDetailsService;
+import com.trendscope.backend.global.security.service.UserRevocationService;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,20 +46,26 @@ public class SecurityConfig {
         private final RedisTemplate<String, Object> redisTemplate;
         private final CustomUserDetailsService customUserDetailsService;
         private final CustomOAuth2UserService customOAuth2UserService;
+        private final UserRevocationService userRevocationService;
 
         @Value("${cors.allowed-origins}")
         private List<String> allowedOrigins;
 
+        @Value("${app.security.stateless-principal.enabled:true}")
+        private boolean statelessPrincipal;
+
         public SecurityConfig(
                         @Qualifier("socialSuccessHandler") AuthenticationSuccessHandler socialLoginSuccessHandler,
                         LettuceBasedProxyManager<byte[]> proxyManager, RedisTemplate<String, Object> redisTemplate,
                         CustomUserDetailsService customUserDetailsService,
-                        CustomOAuth2UserService customOAuth2UserService) {
+                        CustomOAuth2UserService customOAuth2UserService,
+                        UserRevocationService userRevocationService) {
                 this.socialLoginSuccessHandler = socialLoginSuccessHandler;
                 this.proxyManager = proxyManager;
                 this.redisTemplate = redisTemplate;
                 this.customUserDetailsService = customUserDetailsService;
                 this.customOAuth2UserService = customOAuth2UserService;
+                this.userRevocationService = userRevocationService;
         }
 
         @Bean
@@ -146,6 +154,9 @@ public class SecurityConfig {
 
                 http
                                 .authorizeHttpRequests(auth -> auth
+                                                // SSE 응답의 async dispatch는 최초 요청에서 이미 인가를 거쳤다.
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+                                                .permitAll()
                                                 .requestMatchers(
                                                                 "/healthz",
                                                                 "/trendscope/healthz",
@@ -157,6 +168,10 @@ public class SecurityConfig {
                                                                 "/trendscope/v3/api-docs/**")
                                                 .permitAll()
                                                 .requestMatchers("/jwt/refresh", "/jwt/exchange").permitAll()
+                                                .requestMatchers("/actuator/**")
+                                                .hasRole(UserRoleType.ADMIN.name())
+                                                .requestMatchers("/v*/admin/**")
+                                                .hasRole(UserRoleType.ADMIN.name())
                                                 .requestMatchers(HttpMethod.POST, "/v*/auth/email-otp/**").permitAll()
                                                 .requestMatchers(HttpMethod.POST, "/v*/payments/creem/webhook").permitAll()
                                                 .requestMatchers(HttpMethod.POST, "/v*/payments/creem/checkout").hasRole(UserRoleType.USER.name())
@@ -173,6 +188,8 @@ public class SecurityConfig {
                                                 .permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/v*/share/**")
                                                 .permitAll()
+                                                .requestMatchers(HttpMethod.POST, "/v*/analyze/modal/callback")
+                                                .permitAll()
                                                 .requestMatchers(HttpMethod.POST, "/v*/analyze/**")
                                                 .hasRole(UserRoleType.USER.name())
                                                 .requestMatchers(HttpMethod.GET, "/v*/analyze/**")
@@ -214,7 +231,7 @@ public class SecurityConfig {
 
                 // 커스텀 필터 추가
                 http
-                                .addFilterBefore(new JWTFilter(customUserDetailsService),
+                                .addFilterBefore(new JWTFilter(customUserDetailsService, userRevocationService, statelessPrincipal),
                                                 UsernamePasswordAuthenticationFilter.class);
 
                 // http
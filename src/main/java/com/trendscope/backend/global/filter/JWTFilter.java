@@ -1,6 +1,9 @@
 package com.trendscope.backend.global.filter;
 
+import com.trendscope.backend.global.security.custom.JwtClaimsUserDetails;
+import com.trendscope.backend.global.security.service.UserRevocationService;
 import com.trendscope.backend.global.util.JWTUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,15 +15,19 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Date;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
+    private final UserRevocationService userRevocationService;
+    private final boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -35,13 +42,17 @@ public class JWTFilter extends OncePerRequestFilter {
 
         String accessToken = authorization.split(" ")[1];
 
-        if(JWTUtil.isValid(accessToken, true)){
+        // 서명 검증과 claims 파싱을 한 번만 수행한다(검증된 토큰은 만료 전까지 캐시).
+        Claims claims = JWTUtil.verify(accessToken, true);
+        if(claims != null){
 
-            String username = JWTUtil.getUsername(accessToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            String username = claims.get("sub", String.class);
+            UserDetails userDetails = resolveUserDetails(username, claims);
 
-            Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (userDetails != null) {
+                Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
 
         } else {
 
@@ -51,4 +62,19 @@ public class JWTFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request,response);
     }
+
+    // stateless 모드에서는 claims로 주체를 만들고, 무효화된 사용자(탈퇴/잠금/권한 변경)만 DB에서 다시 확인한다.
+    private UserDetails resolveUserDetails(String username, Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        boolean revoked = userRevocationService.isRevoked(username, issuedAt == null ? null : issuedAt.getTime());
+        if (statelessPrincipal && !revoked) {
+            return new JwtClaimsUserDetails(username, claims.get("role", String.class));
+        }
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            log.warn("토큰 사용자를 찾을 수 없거나 잠긴 사용자입니다. username={} - 익명 사용자로 처리됩니다.", username);
+            return null;
+        }
+    }
 }
@@ -1,6 +1,5 @@
 package com.trendscope.backend.global.s3.api;
 
-import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.global.s3.model.PresignedUrlRequestDTO;
 import com.trendscope.backend.global.s3.model.PresignedUrlResponseDTO;
 import com.trendscope.backend.global.util.ApiResponse;
@@ -26,14 +25,13 @@ public class S3Controller {
             @RequestBody PresignedUrlRequestDTO requestDTO) {
 
         // @AuthenticationPrincipal CustomUserDetails user removed
-        UserEntity user = SecurityUtils.getCurrentUser();
+        String username = SecurityUtils.getCurrentUsername();
 
-        if (user == null) {
+        if (username == null) {
             log.error("S3 Presigned URL 요청 실패: 인증 정보가 없습니다.");
             return ApiResponse.fail("401", "인증 정보가 없습니다.");
         }
 
-        String username = user.getUsername();
         String finalFolder;
 
         if ("profileImage".equals(requestDTO.getFolder())) {
@@ -0,0 +1,64 @@
+package com.trendscope.backend.global.s3.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 삭제 대기 중인 S3 오브젝트. 행 변경과 같은 트랜잭션에서 기록되고, S3 삭제가 확인되면 지워진다.
+ */
+@Entity
+@Table(
+        name = "s3_object_tombstone",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_s3_object_tombstone_object_key", columnNames = "object_key")
+        },
+        indexes = {
+                @Index(name = "idx_s3_object_tombstone_next_attempt", columnList = "next_attempt_at,id")
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class S3ObjectTombstoneEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(name = "reason", nullable = false, length = 50)
+    private String reason;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    /**
+     * 삭제 시도를 시작한다. 처리 중 노드가 죽으면 leaseUntil 이후 다른 노드가 다시 가져간다.
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        this.nextAttemptAt = retryAt;
+    }
+}
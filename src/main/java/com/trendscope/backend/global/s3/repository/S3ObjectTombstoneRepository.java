@@ -0,0 +1,44 @@
+package com.trendscope.backend.global.s3.repository;
+
+import com.trendscope.backend.global.s3.entity.S3ObjectTombstoneEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface S3ObjectTombstoneRepository extends JpaRepository<S3ObjectTombstoneEntity, Long> {
+
+    // 이미 기록된 키는 건너뛴다 (같은 오브젝트가 사용자 삭제와 보존기간 정리에서 함께 기록될 수 있다).
+    @Modifying
+    @Query(value = """
+            INSERT INTO s3_object_tombstone (object_key, reason, attempts, next_attempt_at, created_date)
+            SELECT DISTINCT k.object_key, :reason, 0, :notBefore, now()
+            FROM unnest(cast(:objectKeys AS text[])) AS k(object_key)
+            WHERE k.object_key IS NOT NULL
+              AND k.object_key <> ''
+            ON CONFLICT (object_key) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnoringDuplicates(
+            @Param("objectKeys") String[] objectKeys,
+            @Param("reason") String reason,
+            @Param("notBefore") LocalDateTime notBefore
+    );
+
+    /**
+     * 삭제 시각이 된 항목을 잠근다. 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 동시에 돌아도 겹치지 않는다.
+     */
+    @Query(value = """
+            SELECT *
+            FROM s3_object_tombstone
+            WHERE next_attempt_at <= :now
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<S3ObjectTombstoneEntity> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByNextAttemptAtLessThanEqual(LocalDateTime now);
+}
@@ -0,0 +1,213 @@
+package com.trendscope.backend.global.s3.scheduler;
+
+import com.trendscope.backend.global.s3.entity.S3ObjectTombstoneEntity;
+import com.trendscope.backend.global.s3.repository.S3ObjectTombstoneRepository;
+import com.trendscope.backend.global.util.S3Util;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * s3_object_tombstone 에 예약된 S3 오브젝트 삭제 워커.
+ * <p>
+ * 짧은 트랜잭션에서 삭제 시각이 된 항목을 FOR UPDATE SKIP LOCKED 로 잠그고 lease 시각까지 미룬 뒤 커밋한다.
+ * 이후 트랜잭션 밖에서 DeleteObjects(최대 1000키) 요청을 병렬로 보내고, 성공한 항목은 지우고 실패한 항목은
+ * 지수 backoff 로 재시도 시각을 잡는다. 처리 도중 노드가 죽으면 lease 만료 후 다른 노드가 다시 가져간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3GarbageCollectionWorker {
+
+    private static final String METRIC_PREFIX = "s3.gc";
+
+    private final S3ObjectTombstoneRepository s3ObjectTombstoneRepository;
+    private final S3Util s3Util;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloud.aws.s3.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cloud.aws.s3.gc.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${cloud.aws.s3.gc.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${cloud.aws.s3.gc.parallelism:4}")
+    private int parallelism;
+
+    @Value("${cloud.aws.s3.gc.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${cloud.aws.s3.gc.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    @Value("${cloud.aws.s3.gc.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    private ExecutorService deleteExecutor;
+    private Counter deletedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+    private final AtomicLong pendingDue = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.deleteExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "s3-gc-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deletedCounter = meterRegistry.counter(METRIC_PREFIX + ".objects", "outcome", "deleted");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".objects", "outcome", "failed");
+        this.batchTimer = meterRegistry.timer(METRIC_PREFIX + ".batch");
+        Gauge.builder(METRIC_PREFIX + ".pending", pendingDue, AtomicLong::get)
+                .description("삭제 시각이 지난 tombstone 수 (마지막 실행 기준)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        deleteExecutor.shutdown();
+        try {
+            if (!deleteExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                deleteExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            deleteExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${cloud.aws.s3.gc.interval-ms:10000}",
+            initialDelayString = "${cloud.aws.s3.gc.interval-ms:10000}"
+    )
+    public void collect() {
+        if (!enabled) {
+            return;
+        }
+        int limit = Math.max(1, Math.min(batchSize, 5000));
+        try {
+            for (int batch = 0; batch < Math.max(1, maxBatchesPerRun); batch++) {
+                int claimed = batchTimer.record(() -> collectBatch(limit));
+                if (claimed < limit) {
+                    break;
+                }
+            }
+            pendingDue.set(s3ObjectTombstoneRepository.countByNextAttemptAtLessThanEqual(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("S3 GC 실행 실패. reason={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 이번 배치에서 가져간 tombstone 수
+     */
+    int collectBatch(int limit) {
+        List<ClaimedTombstone> claimed = claim(limit);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> failures = deleteObjects(claimed.stream().map(ClaimedTombstone::objectKey).toList());
+
+        List<Long> deletedIds = new ArrayList<>();
+        Map<Long, String> failedIds = new HashMap<>();
+        for (ClaimedTombstone tombstone : claimed) {
+            String error = failures.get(tombstone.objectKey());
+            if (error == null) {
+                deletedIds.add(tombstone.id());
+            } else {
+                failedIds.put(tombstone.id(), error);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deletedIds.isEmpty()) {
+                s3ObjectTombstoneRepository.deleteAllByIdInBatch(deletedIds);
+            }
+            if (!failedIds.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                for (S3ObjectTombstoneEntity tombstone : s3ObjectTombstoneRepository.findAllById(failedIds.keySet())) {
+                    tombstone.markFailed(failedIds.get(tombstone.getId()), now.plusSeconds(backoffSeconds(tombstone.getAttempts())));
+                }
+            }
+        });
+
+        deletedCounter.increment(deletedIds.size());
+        failedCounter.increment(failedIds.size());
+        if (!failedIds.isEmpty()) {
+            log.warn("S3 GC 일부 삭제 실패, 재시도 예약. claimed={} failed={}", claimed.size(), failedIds.size());
+        }
+        return claimed.size();
+    }
+
+    private List<ClaimedTombstone> claim(int limit) {
+        List<ClaimedTombstone> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseUntil = now.plusSeconds(Math.max(30L, leaseSeconds));
+            List<S3ObjectTombstoneEntity> due = s3ObjectTombstoneRepository.lockDue(now, limit);
+            due.forEach(tombstone -> tombstone.lease(leaseUntil));
+            return due.stream()
+                    .map(tombstone -> new ClaimedTombstone(tombstone.getId(), tombstone.getObjectKey()))
+                    .toList();
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * DeleteObjects 최대 키 수 단위로 나눠 전용 풀에서 병렬로 삭제한다.
+     */
+    private Map<String, String> deleteObjects(List<String> keys) {
+        List<CompletableFuture<Map<String, String>>> requests = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += S3Util.MAX_DELETE_OBJECTS_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(keys.size(), from + S3Util.MAX_DELETE_OBJECTS_KEYS));
+            requests.add(CompletableFuture
+                    .supplyAsync(() -> s3Util.deleteObjects(chunk), deleteExecutor)
+                    .exceptionally(e -> {
+                        Map<String, String> failed = new HashMap<>();
+                        chunk.forEach(key -> failed.put(key, e.getMessage()));
+                        return failed;
+                    }));
+        }
+
+        Map<String, String> failures = new HashMap<>();
+        requests.forEach(request -> failures.putAll(request.join()));
+        return failures;
+    }
+
+    private long backoffSeconds(int attempts) {
+        long base = Math.max(1L, retryBackoffSeconds);
+        long max = Math.max(base, maxBackoffSeconds);
+        int exponent = Math.max(0, Math.min(attempts - 1, 20));
+        return Math.min(max, base << exponent);
+    }
+
+    private record ClaimedTombstone(Long id, String objectKey) {
+    }
+}
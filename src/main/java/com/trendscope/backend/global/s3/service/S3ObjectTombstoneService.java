@@ -0,0 +1,57 @@
+package com.trendscope.backend.global.s3.service;
+
+import com.trendscope.backend.global.s3.repository.S3ObjectTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * S3 오브젝트 삭제 예약. 호출자 트랜잭션에 참여하므로 행 삭제가 롤백되면 예약도 함께 롤백된다.
+ * 실제 삭제는 {@link com.trendscope.backend.global.s3.scheduler.S3GarbageCollectionWorker}가 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3ObjectTombstoneService {
+
+    public static final String REASON_ANALYZE_JOB_DELETED = "ANALYZE_JOB_DELETED";
+    public static final String REASON_ANALYZE_PHOTO_RETENTION = "ANALYZE_PHOTO_RETENTION";
+    public static final String REASON_ANALYZE_MODEL_RETENTION = "ANALYZE_MODEL_RETENTION";
+    public static final String REASON_ANALYZE_ONE_SHOT = "ANALYZE_ONE_SHOT";
+    public static final String REASON_USER_DELETED = "USER_DELETED";
+
+    private final S3ObjectTombstoneRepository s3ObjectTombstoneRepository;
+
+    @Transactional
+    public int record(Collection<String> objectKeys, String reason) {
+        return record(objectKeys, reason, Duration.ZERO);
+    }
+
+    /**
+     * @param delay 삭제를 미룰 시간 (발급한 presigned URL이 만료된 뒤 지우는 경우 등)
+     */
+    @Transactional
+    public int record(Collection<String> objectKeys, String reason, Duration delay) {
+        String[] keys = objectKeys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !key.isBlank())
+                .distinct()
+                .toArray(String[]::new);
+        if (keys.length == 0) {
+            return 0;
+        }
+        int recorded = s3ObjectTombstoneRepository.insertIgnoringDuplicates(
+                keys,
+                reason,
+                LocalDateTime.now().plus(delay)
+        );
+        log.debug("S3 오브젝트 삭제 예약. reason={} requested={} recorded={}", reason, keys.length, recorded);
+        return recorded;
+    }
+}
@@ -0,0 +1,61 @@
+package com.trendscope.backend.global.security.custom;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * access token claims(username, role)만으로 만든 인증 주체. 요청마다 사용자 테이블을 조회하지 않는다.
+ * 사용자 엔티티가 필요한 곳은 username으로 직접 조회해야 한다.
+ */
+public class JwtClaimsUserDetails implements UserDetails, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final String username;
+    private final String role;
+
+    public JwtClaimsUserDetails(String username, String role) {
+        this.username = username;
+        this.role = role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (role == null || role.isBlank()) {
+            return Collections.emptyList();
+        }
+        // 발급 경로에 따라 role claim이 "USER" 또는 "ROLE_USER" 형태로 들어온다.
+        String authority = role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+        return Collections.singletonList(new SimpleGrantedAuthority(authority));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        JwtClaimsUserDetails that = (JwtClaimsUserDetails) obj;
+        return Objects.equals(username, that.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username);
+    }
+}
@@ -0,0 +1,95 @@
+package com.trendscope.backend.global.security.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * access token claims를 그대로 신뢰하면 안 되는 사용자(탈퇴/잠금/권한 변경) 목록.
+ * <p>
+ * Redis ZSET(member=username, score=무효화 시각 epoch ms)에 기록하고, 각 노드는 주기적으로 전체 목록을 읽어 로컬에 둔다.
+ * 무효화 시각 이전에 발급된 토큰만 DB 재확인 대상이며, access token 최대 수명이 지난 항목은 더 이상 필요 없으므로 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRevocationService {
+
+    // Key Convention: 도메인:리소스:용도
+    public static final String REVOKED_USERS_KEY = "auth:revoked:users";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${jwt.access-expiration-ms}")
+    private long accessTokenExpirationMs;
+
+    private volatile Map<String, Long> revokedAtByUsername = Map.of();
+
+    /**
+     * 지금 이전에 발급된 해당 사용자의 access token은 claims 대신 DB 상태로 인증하도록 표시한다.
+     */
+    public void revoke(String username) {
+        if (username == null || username.isBlank()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Long> updated = new HashMap<>(revokedAtByUsername);
+        updated.put(username, now);
+        revokedAtByUsername = Map.copyOf(updated);
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_USERS_KEY, username, now);
+        } catch (Exception e) {
+            log.warn("사용자 토큰 무효화 기록 실패. username={} reason={}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * @param issuedAtMillis 토큰 발급 시각. 알 수 없으면 null (무효화 기록이 있으면 항상 재확인)
+     */
+    public boolean isRevoked(String username, Long issuedAtMillis) {
+        Long revokedAt = revokedAtByUsername.get(username);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAtMillis == null || issuedAtMillis <= revokedAt;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.security.revocation.refresh-interval-ms:5000}",
+            initialDelay = 0L
+    )
+    public void refresh() {
+        try {
+            long cutoff = System.currentTimeMillis() - Math.max(0L, accessTokenExpirationMs);
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_USERS_KEY, Double.NEGATIVE_INFINITY, cutoff);
+
+            Set<ZSetOperations.TypedTuple<Object>> entries = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_USERS_KEY, cutoff, Double.POSITIVE_INFINITY);
+            Map<String, Long> loaded = new HashMap<>();
+            if (entries != null) {
+                for (ZSetOperations.TypedTuple<Object> entry : entries) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        loaded.put(entry.getValue().toString(), entry.getScore().longValue());
+                    }
+                }
+            }
+            // 로컬에서 방금 무효화한 항목이 Redis 반영 전이라 빠지는 일이 없도록 합친다.
+            revokedAtByUsername.forEach((username, revokedAt) -> {
+                if (revokedAt > cutoff) {
+                    loaded.merge(username, revokedAt, Math::max);
+                }
+            });
+            revokedAtByUsername = Map.copyOf(loaded);
+        } catch (Exception e) {
+            log.warn("사용자 토큰 무효화 목록 갱신 실패. reason={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.trendscope.backend.global.upstream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 업스트림(Modal, OpenAI, Creem)별 공유 HTTP 클라이언트.
+ * <p>
+ * 업스트림마다 JDK HttpClient 하나를 재사용해 커넥션 풀/keep-alive/HTTP2를 유지하고,
+ * 요청마다 RestClient와 TLS 핸드셰이크를 새로 만들지 않는다. 타임아웃은 업스트림별로 분리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamHttpClients {
+
+    public static final String MODAL = "modal";
+    public static final String OPENAI = "openai";
+    public static final String CREEM = "creem";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${modal.base-url:}")
+    private String modalBaseUrl;
+
+    @Value("${modal.connect-timeout-ms:5000}")
+    private int modalConnectTimeoutMs;
+
+    @Value("${modal.read-timeout-ms:600000}")
+    private int modalReadTimeoutMs;
+
+    // 비동기 결과 조회는 완료 여부만 확인하므로 poll lease 보다 짧게 끊는다.
+    @Value("${modal.async.poll-read-timeout-ms:10000}")
+    private int modalPollReadTimeoutMs;
+
+    @Value("${openai.base-url:https://api.openai.com}")
+    private String openAiBaseUrl;
+
+    @Value("${openai.connect-timeout-ms:5000}")
+    private int openAiConnectTimeoutMs;
+
+    @Value("${openai.timeout-ms:60000}")
+    private int openAiTimeoutMs;
+
+    @Value("${creem.base-url:https://test-api.creem.io}")
+    private String creemBaseUrl;
+
+    @Value("${creem.connect-timeout-ms:5000}")
+    private int creemConnectTimeoutMs;
+
+    @Value("${creem.read-timeout-ms:15000}")
+    private int creemReadTimeoutMs;
+
+    private RestClient modalClient;
+    private RestClient modalPollClient;
+    private RestClient openAiClient;
+    private RestClient creemClient;
+
+    @PostConstruct
+    void init() {
+        // Modal은 303 See Other를 직접 GET으로 따라가야 하므로 자동 리다이렉트를 끈다.
+        this.modalClient = build(MODAL, modalBaseUrl, modalConnectTimeoutMs, modalReadTimeoutMs, HttpClient.Redirect.NEVER);
+        this.modalPollClient = build(MODAL, modalBaseUrl, modalConnectTimeoutMs, modalPollReadTimeoutMs, HttpClient.Redirect.NEVER);
+        this.openAiClient = build(OPENAI, openAiBaseUrl, openAiConnectTimeoutMs, openAiTimeoutMs, HttpClient.Redirect.NORMAL);
+        this.creemClient = build(CREEM, creemBaseUrl, creemConnectTimeoutMs, creemReadTimeoutMs, HttpClient.Redirect.NORMAL);
+    }
+
+    public RestClient modal() {
+        return modalClient;
+    }
+
+    /**
+     * Modal 비동기 결과 조회 전용. 동기 analyze 용 긴 read timeout 대신 짧은 timeout 을 쓴다.
+     */
+    public RestClient modalPoll() {
+        return modalPollClient;
+    }
+
+    public RestClient openAi() {
+        return openAiClient;
+    }
+
+    public RestClient creem() {
+        return creemClient;
+    }
+
+    private RestClient build(
+            String upstream,
+            String baseUrl,
+            int connectTimeoutMs,
+            int readTimeoutMs,
+            HttpClient.Redirect redirect
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(Math.max(1000, connectTimeoutMs)))
+                .followRedirects(redirect)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(Math.max(1000, readTimeoutMs)));
+
+        RestClient.Builder builder = RestClient.builder()
+                .requestFactory(requestFactory)
+                .requestInterceptor(new UpstreamMetricsInterceptor(upstream, meterRegistry));
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            builder.baseUrl(baseUrl.trim());
+        }
+        log.info(
+                "업스트림 HTTP 클라이언트 초기화. upstream={} connectTimeoutMs={} readTimeoutMs={}",
+                upstream,
+                connectTimeoutMs,
+                readTimeoutMs
+        );
+        return builder.build();
+    }
+}
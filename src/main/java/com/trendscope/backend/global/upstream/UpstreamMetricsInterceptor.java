@@ -0,0 +1,46 @@
+package com.trendscope.backend.global.upstream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 업스트림 호출 지연/오류를 upstream.http.requests 타이머로 기록한다.
+ * 태그는 upstream, method, status(2xx/3xx/4xx/5xx/IO_ERROR)로 제한해 카디널리티를 고정한다.
+ */
+class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String METRIC_NAME = "upstream.http.requests";
+
+    private final String upstream;
+    private final MeterRegistry meterRegistry;
+
+    UpstreamMetricsInterceptor(String upstream, MeterRegistry meterRegistry) {
+        this.upstream = upstream;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = (response.getStatusCode().value() / 100) + "xx";
+            return response;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("upstream", upstream)
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.trendscope.backend.global.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 API 조건부 요청(ETag / If-None-Match) 처리.
+ * <p>
+ * 응답 DTO를 만들기 전에 updatedDate, 원장 최신 id 같은 가벼운 버전 값으로 ETag를 계산하고,
+ * 클라이언트 ETag와 같으면 304를 응답하도록 true를 반환한다. 이때 컨트롤러는 body 없이 null을 반환한다.
+ */
+public class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    /**
+     * @param versionParts 버전 구성값. null이 하나라도 있으면(대상 없음 등) 조건부 처리를 하지 않는다.
+     * @return true면 304 Not Modified 응답 대상
+     */
+    public static boolean checkNotModified(WebRequest request, Object... versionParts) {
+        if (request == null || versionParts == null || Arrays.stream(versionParts).anyMatch(Objects::isNull)) {
+            return false;
+        }
+        if (request instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            // 사용자별 응답이므로 공유 캐시에는 저장하지 않고, 브라우저/앱은 매번 ETag로 재검증한다.
+            servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return request.checkNotModified(toETag(versionParts));
+    }
+
+    static String toETag(Object... versionParts) {
+        String version = Arrays.stream(versionParts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.trendscope.backend.global.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 import javax.crypto.SecretKey;
@@ -13,14 +14,24 @@ public class JWTUtil {
     private static SecretKey secretKey;
     private static Long accessTokenExpiresIn;
     private static Long refreshTokenExpiresIn;
+    private static JwtClaimsCache claimsCache;
     private static boolean initialized = false;
 
+    private static final long DEFAULT_CLAIMS_CACHE_SIZE = 100_000L;
+
     private JWTUtil() {}
 
     public static void initialize(String secretKeyString, long accessTokenMillis, long refreshTokenMillis) {
+        initialize(secretKeyString, accessTokenMillis, refreshTokenMillis, DEFAULT_CLAIMS_CACHE_SIZE);
+    }
+
+    public static void initialize(String secretKeyString, long accessTokenMillis, long refreshTokenMillis, long claimsCacheSize) {
         secretKey = new SecretKeySpec(secretKeyString.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         accessTokenExpiresIn = accessTokenMillis;
         refreshTokenExpiresIn = refreshTokenMillis;
+        // 파서는 thread-safe 하므로 한 번만 만들고, 검증된 claims는 토큰 만료 시각까지 재사용한다.
+        JwtParser parser = Jwts.parser().verifyWith(secretKey).build();
+        claimsCache = new JwtClaimsCache(parser, claimsCacheSize);
         initialized = true;
     }
 
@@ -34,34 +45,35 @@ public class JWTUtil {
 
     public static String getUsername(String token) {
         ensureInitialized();
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("sub", String.class);
+        return claimsCache.parse(token).get("sub", String.class);
     }
 
     public static String getRole(String token) {
         ensureInitialized();
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return claimsCache.parse(token).get("role", String.class);
     }
 
     //JWT 유효검증
     public static Boolean isValid(String token, Boolean isAccessToken){
+        return verify(token, isAccessToken) != null;
+    }
+
+    //JWT 검증 + claims 파싱을 한 번에 수행. 유효하지 않으면 null
+    public static Claims verify(String token, boolean isAccessToken) {
         try {
             ensureInitialized();
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = claimsCache.parse(token);
 
             String type = claims.get("type", String.class);
-            if (type==null) return false;
+            if (type==null) return null;
 
-            if(isAccessToken && !type.equals("access")) return false;
-            if(!isAccessToken && !type.equals("refresh")) return false;
+            if(isAccessToken && !type.equals("access")) return null;
+            if(!isAccessToken && !type.equals("refresh")) return null;
 
-            return true;
+            return claims;
         }
         catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
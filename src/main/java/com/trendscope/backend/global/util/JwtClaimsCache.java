@@ -0,0 +1,87 @@
+package com.trendscope.backend.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미리 만든 JwtParser 하나로 서명을 검증하고, 검증된 claims를 토큰 digest 기준으로 만료 시각까지만 보관한다.
+ * <p>
+ * 같은 토큰이 반복해서 들어오면(요청마다 같은 access token, 여러 사람이 여는 공유 링크) 서명 검증과 JSON 파싱을 다시 하지 않는다.
+ * 검증에 실패한 토큰은 캐시하지 않고, 원문 토큰 대신 SHA-256 digest만 키로 보관한다.
+ */
+public class JwtClaimsCache {
+
+    private final JwtParser parser;
+    private final Cache<String, Claims> cache;
+
+    public JwtClaimsCache(JwtParser parser, long maxSize) {
+        this.parser = parser;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, maxSize))
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @throws JwtException             서명 불일치/만료 등 검증 실패
+     * @throws IllegalArgumentException 토큰이 비어 있음
+     */
+    public Claims parse(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT가 비어 있습니다.");
+        }
+        String key = digest(token);
+        Claims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        cache.put(key, claims);
+        return claims;
+    }
+
+    private static long remainingNanos(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            // 만료 시각이 없는 토큰은 보관하지 않는다.
+            return 0L;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.trendscope.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_date, id) 기준 최신순 목록의 keyset 페이지 커서.
+ * <p>
+ * 클라이언트에는 내부 구조를 노출하지 않도록 Base64(URL-safe) 문자열로만 주고받는다.
+ * OFFSET/COUNT 없이 인덱스 (user_id, created_date DESC, id DESC)를 이어서 읽으므로 페이지 깊이와 무관하게 비용이 일정하다.
+ */
+public record KeysetCursor(LocalDateTime createdDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor가 비어 있으면 null (첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+        }
+    }
+}
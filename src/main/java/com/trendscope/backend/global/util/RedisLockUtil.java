@@ -0,0 +1,43 @@
+package com.trendscope.backend.global.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 클러스터 단일 실행 락.
+ * SET NX PX 로 획득하고, 자기 토큰일 때만 삭제하는 Lua 스크립트로 해제한다(만료 후 다른 노드가 잡은 락을 지우지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockUtil {
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.warn("Redis 락 해제 실패. key={} reason={}", key, e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,26 @@
 package com.trendscope.backend.global.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -18,6 +32,16 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -25,12 +49,62 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3Util {
 
+    // DeleteObjects 요청 1건에 담을 수 있는 최대 키 수 (S3 API 제한)
+    public static final int MAX_DELETE_OBJECTS_KEYS = 1000;
+
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.s3.presign-cache.max-size:10000}")
+    private long presignCacheMaxSize;
+
+    // 캐시된 GET URL은 남은 유효기간이 요청 기간에서 이 값을 뺀 것 이상일 때만 재사용한다.
+    @Value("${cloud.aws.s3.presign-cache.safety-margin-seconds:600}")
+    private long presignSafetyMarginSeconds;
+
+    // objectKey -> 마지막으로 발급한 GET URL. 삭제 시 키로 바로 무효화한다.
+    private Cache<String, CachedPresignedUrl> presignedUrlCache;
+
+    @PostConstruct
+    void initPresignedUrlCache() {
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, presignCacheMaxSize))
+                .expireAfter(new Expiry<String, CachedPresignedUrl>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPresignedUrl value, long currentTime) {
+                        Instant reuseUntil = value.expiresAt().minusSeconds(Math.max(0L, presignSafetyMarginSeconds));
+                        return Math.max(0L, Duration.between(Instant.now(), reuseUntil).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String key,
+                            CachedPresignedUrl value,
+                            long currentTime,
+                            long currentDuration
+                    ) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            String key,
+                            CachedPresignedUrl value,
+                            long currentTime,
+                            long currentDuration
+                    ) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, "s3.presigned-url");
+    }
+
     /**
      * Presigned URL 발급 (프론트엔드가 이미지를 직접 업로드할 수 있는 5분짜리 티켓)
      *
@@ -50,7 +124,18 @@ public class S3Util {
         return folder + "/" + UUID.randomUUID() + "." + ext;
     }
 
+    /**
+     * 업로드 URL은 비동기 작업이 한참 뒤에 쓸 수 있으므로 캐시하지 않고 매번 요청 기간 전체로 서명한다.
+     */
     public String createPresignedPutUrl(String objectKey, Duration duration) {
+        return presignPut(objectKey, duration);
+    }
+
+    public String createPresignedGetUrl(String objectKey, Duration duration) {
+        return cachedPresignGet(objectKey, duration);
+    }
+
+    private String presignPut(String objectKey, Duration duration) {
         String ext = extractExtension(objectKey);
         String contentType = getContentType(ext);
 
@@ -68,11 +153,11 @@ public class S3Util {
         PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
         String url = presignedRequest.url().toString();
 
-        log.info("presigned url : {}", url);
+        log.debug("presigned url : {}", url);
         return url;
     }
 
-    public String createPresignedGetUrl(String objectKey, Duration duration) {
+    private String presignGet(String objectKey, Duration duration) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucket)
                 .key(objectKey)
@@ -85,10 +170,29 @@ public class S3Util {
 
         PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
         String url = presignedRequest.url().toString();
-        log.info("presigned get url : {}", url);
+        log.debug("presigned get url : {}", url);
         return url;
     }
 
+    /**
+     * objectKey 단위로 GET 서명 결과를 재사용한다. 캐시된 URL의 남은 유효기간이 (요청 기간 - safety margin) 이상일 때만 쓰고,
+     * 아니면 새로 서명해 교체한다. 요청 기간이 safety margin 이하라 재사용 구간이 없으면 캐시하지 않는다.
+     */
+    private String cachedPresignGet(String objectKey, Duration duration) {
+        Duration reuseWindow = duration.minusSeconds(Math.max(0L, presignSafetyMarginSeconds));
+        if (reuseWindow.isZero() || reuseWindow.isNegative()) {
+            return presignGet(objectKey, duration);
+        }
+        Instant now = Instant.now();
+        CachedPresignedUrl cached = presignedUrlCache.getIfPresent(objectKey);
+        if (cached != null && !cached.expiresAt().isBefore(now.plus(reuseWindow))) {
+            return cached.url();
+        }
+        CachedPresignedUrl signed = new CachedPresignedUrl(presignGet(objectKey, duration), now.plus(duration));
+        presignedUrlCache.put(objectKey, signed);
+        return signed.url();
+    }
+
     public void deleteObject(String objectKey) {
         if (objectKey == null || objectKey.isBlank()) {
             return;
@@ -98,9 +202,88 @@ public class S3Util {
                 .key(objectKey)
                 .build();
         s3Client.deleteObject(request);
+        presignedUrlCache.invalidate(objectKey);
         log.info("s3 object deleted: {}", objectKey);
     }
 
+    /**
+     * 여러 오브젝트를 DeleteObjects(quiet) 요청으로 삭제한다. 1000개를 넘으면 나눠서 순차 요청한다.
+     * 없는 키는 S3가 성공으로 처리하므로 재시도해도 안전하다.
+     *
+     * @return 삭제에 실패한 키와 오류 내용 (요청 자체가 실패한 묶음의 키 포함)
+     */
+    public Map<String, String> deleteObjects(Collection<String> objectKeys) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(
+                objectKeys.stream().filter(key -> key != null && !key.isBlank()).toList()
+        ));
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_OBJECTS_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(keys.size(), from + MAX_DELETE_OBJECTS_KEYS));
+            DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder()
+                            .objects(chunk.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build();
+            Set<String> deletedKeys = new HashSet<>(chunk);
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(request);
+                for (S3Error error : response.errors()) {
+                    log.warn("s3 object delete failed. key={} code={} message={}", error.key(), error.code(), error.message());
+                    failures.put(error.key(), error.code() + ": " + error.message());
+                    deletedKeys.remove(error.key());
+                }
+            } catch (Exception e) {
+                log.warn("s3 objects delete request failed. keyCount={} reason={}", chunk.size(), e.getMessage());
+                chunk.forEach(key -> failures.put(key, e.getClass().getSimpleName() + ": " + e.getMessage()));
+                deletedKeys.clear();
+            }
+            presignedUrlCache.invalidateAll(deletedKeys);
+        }
+        log.info("s3 objects deleted: requested={} failed={}", keys.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * 오브젝트 ETag 조회 (따옴표 제거). 단일 PUT 업로드면 본문 MD5와 같아 내용 식별자로 쓸 수 있다.
+     *
+     * @return 오브젝트가 없으면 empty
+     */
+    public Optional<String> getObjectETag(String objectKey) {
+        if (objectKey == null || objectKey.isBlank()) {
+            return Optional.empty();
+        }
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .build();
+        try {
+            String eTag = s3Client.headObject(request).eTag();
+            if (eTag == null || eTag.isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.of(eTag.replace("\"", ""));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    // 버킷 내부 서버 측 복사 (본문을 애플리케이션으로 내려받지 않는다)
+    public void copyObject(String sourceKey, String targetKey) {
+        CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucket)
+                .destinationKey(targetKey)
+                .build();
+        s3Client.copyObject(request);
+        log.info("s3 object copied: {} -> {}", sourceKey, targetKey);
+    }
+
     public void uploadMultipartFile(String objectKey, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("업로드 파일이 비어 있습니다.");
@@ -147,5 +330,6 @@ public class S3Util {
         };
     }
 
-
+    private record CachedPresignedUrl(String url, Instant expiresAt) {
+    }
 }
@@ -3,6 +3,7 @@ package com.trendscope.backend.global.util;
 import com.trendscope.backend.domain.user.dto.CustomOAuth2User;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.global.security.custom.CustomUserDetails;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -29,6 +30,24 @@ public class SecurityUtils {
         return null;
     }
 
+    /**
+     * 인증 주체 종류(DB 조회 UserDetails, JWT claims 주체, OAuth2)와 무관하게 현재 사용자 username을 반환한다. 익명이면 null.
+     */
+    public static String getCurrentUsername() {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        UserEntity userEntity = getCurrentUser();
+        if (userEntity != null) {
+            return userEntity.getUsername();
+        }
+        return authentication.getName();
+    }
+
     public static Long getCurrentUserId() {
         UserEntity userEntity = getCurrentUser();
         return (userEntity == null) ? null : userEntity.getId();
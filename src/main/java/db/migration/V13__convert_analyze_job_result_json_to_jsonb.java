@@ -0,0 +1,216 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * analyze_job.result_json(TEXT)을 JSONB로 전환하고, 완료된 결과의 측정값을 analyze_job_measurement로 추출한다.
+ * <p>
+ * 대용량 테이블에서 ALTER COLUMN TYPE 한 번으로 전체를 재작성하며 오래 잠그지 않도록,
+ * 새 JSONB 컬럼을 id 구간 단위로 채우고 배치마다 커밋한 뒤 짧은 트랜잭션에서 컬럼을 교체한다.
+ * JSON 파싱이 불가능한 기존 값은 문자열 JSON으로 보존한다.
+ */
+public class V13__convert_analyze_job_result_json_to_jsonb extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final List<String> LENGTH_FIELDS = List.of(
+            "shoulder_width_cm",
+            "arm_length_cm",
+            "leg_length_cm",
+            "torso_length_cm",
+            "inseam_cm"
+    );
+
+    private static final List<String> CIRCUMFERENCE_FIELDS = List.of(
+            "chest_cm",
+            "waist_cm",
+            "hip_cm",
+            "thigh_cm",
+            "chest_axis_m",
+            "waist_axis_m",
+            "hip_axis_m",
+            "thigh_axis_m"
+    );
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean originalAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (!tableExists(connection, "analyze_job")) {
+                connection.commit();
+                return;
+            }
+            String resultJsonType = columnType(connection, "analyze_job", "result_json");
+            if (resultJsonType != null && !"jsonb".equals(resultJsonType)) {
+                convertResultJson(connection);
+            }
+            if (tableExists(connection, "analyze_job_measurement")) {
+                backfillMeasurements(connection);
+            }
+        } catch (Exception e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(originalAutoCommit);
+        }
+    }
+
+    private void convertResultJson(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE analyze_job ADD COLUMN IF NOT EXISTS result_json_jsonb JSONB");
+            statement.execute("""
+                    CREATE OR REPLACE FUNCTION pg_temp.try_jsonb(value TEXT) RETURNS JSONB AS
+                    $$
+                    BEGIN
+                        RETURN value::jsonb;
+                    EXCEPTION
+                        WHEN others THEN
+                            RETURN to_jsonb(value);
+                    END;
+                    $$ LANGUAGE plpgsql IMMUTABLE
+                    """);
+        }
+        connection.commit();
+
+        String copyBatch = """
+                UPDATE analyze_job
+                SET result_json_jsonb = pg_temp.try_jsonb(result_json)
+                WHERE id >= ? AND id < ?
+                  AND result_json IS NOT NULL
+                  AND result_json_jsonb IS NULL
+                """;
+        forEachIdRange(connection, (from, to) -> {
+            try (PreparedStatement statement = connection.prepareStatement(copyBatch)) {
+                statement.setLong(1, from);
+                statement.setLong(2, to);
+                statement.executeUpdate();
+            }
+        });
+
+        // 배치 중 기존 인스턴스가 쓴 값까지 잠금 상태에서 마저 옮긴 뒤 컬럼을 교체한다.
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LOCK TABLE analyze_job IN ACCESS EXCLUSIVE MODE");
+            statement.executeUpdate("""
+                    UPDATE analyze_job
+                    SET result_json_jsonb = pg_temp.try_jsonb(result_json)
+                    WHERE result_json IS NOT NULL
+                      AND result_json_jsonb IS NULL
+                    """);
+            statement.execute("ALTER TABLE analyze_job DROP COLUMN result_json");
+            statement.execute("ALTER TABLE analyze_job RENAME COLUMN result_json_jsonb TO result_json");
+        }
+        connection.commit();
+    }
+
+    private void backfillMeasurements(Connection connection) throws SQLException {
+        String lengthColumns = String.join(", ", LENGTH_FIELDS);
+        String circumferenceColumns = String.join(", ", CIRCUMFERENCE_FIELDS);
+        String lengthValues = LENGTH_FIELDS.stream()
+                .map(field -> numberAt("lengths", field))
+                .collect(Collectors.joining(", "));
+        String circumferenceValues = CIRCUMFERENCE_FIELDS.stream()
+                .map(field -> numberAt("circumferences", field))
+                .collect(Collectors.joining(", "));
+
+        String insertBatch = """
+                INSERT INTO analyze_job_measurement (
+                    analyze_job_id, measurement_model, %s, %s, body_shape, created_date, updated_date
+                )
+                SELECT j.id,
+                       COALESCE(j.measurement_model, CASE WHEN j.mode = 'QUICK_1VIEW' THEN 'quick' ELSE 'premium' END),
+                       %s,
+                       %s,
+                       CASE WHEN jsonb_typeof(j.result_json -> 'body_shape') = 'string'
+                            THEN left(j.result_json ->> 'body_shape', 30) END,
+                       now(),
+                       now()
+                FROM analyze_job j
+                WHERE j.id >= ? AND j.id < ?
+                  AND j.status = 'COMPLETED'
+                  AND jsonb_typeof(j.result_json) = 'object'
+                  AND (j.result_json ->> 'success') = 'true'
+                  AND COALESCE(j.measurement_model, CASE WHEN j.mode = 'QUICK_1VIEW' THEN 'quick' ELSE 'premium' END)
+                      IN ('quick', 'premium')
+                ON CONFLICT (analyze_job_id) DO NOTHING
+                """.formatted(lengthColumns, circumferenceColumns, lengthValues, circumferenceValues);
+
+        forEachIdRange(connection, (from, to) -> {
+            try (PreparedStatement statement = connection.prepareStatement(insertBatch)) {
+                statement.setLong(1, from);
+                statement.setLong(2, to);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    private String numberAt(String group, String field) {
+        String path = "'{" + group + "," + field + "}'";
+        return "CASE WHEN jsonb_typeof(j.result_json #> " + path + ") = 'number'"
+                + " THEN (j.result_json #>> " + path + ")::double precision END";
+    }
+
+    private void forEachIdRange(Connection connection, IdRangeTask task) throws SQLException {
+        long minId;
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT min(id), max(id) FROM analyze_job")) {
+            rs.next();
+            minId = rs.getLong(1);
+            if (rs.wasNull()) {
+                connection.commit();
+                return;
+            }
+            maxId = rs.getLong(2);
+        }
+        connection.commit();
+
+        for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+            task.run(from, from + BATCH_SIZE);
+            connection.commit();
+        }
+    }
+
+    private boolean tableExists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, "public." + table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private String columnType(Connection connection, String table, String column) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT data_type
+                FROM information_schema.columns
+                WHERE table_schema = 'public' AND table_name = ? AND column_name = ?
+                """)) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdRangeTask {
+        void run(long fromInclusive, long toExclusive) throws SQLException;
+    }
+}
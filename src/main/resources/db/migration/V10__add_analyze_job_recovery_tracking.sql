@@ -0,0 +1,29 @@
+-- Track queue submission time and watchdog recovery attempts for stuck analyze jobs.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE analyze_job
+        ADD COLUMN IF NOT EXISTS submitted_at TIMESTAMP;
+
+    ALTER TABLE analyze_job
+        ADD COLUMN IF NOT EXISTS recovery_count INTEGER NOT NULL DEFAULT 0;
+
+    -- Jobs already started before this migration were submitted at queued_at.
+    UPDATE analyze_job
+    SET submitted_at = queued_at
+    WHERE submitted_at IS NULL
+      AND status IN ('QUEUED', 'RUNNING')
+      AND height_cm IS NOT NULL;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_analyze_job_active_status') THEN
+        CREATE INDEX idx_analyze_job_active_status
+            ON analyze_job (status, submitted_at)
+            WHERE status IN ('QUEUED', 'RUNNING');
+    END IF;
+END
+$$;
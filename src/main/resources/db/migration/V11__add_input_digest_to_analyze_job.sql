@@ -0,0 +1,19 @@
+-- Content-addressed input digest for reusing results of identical analyze submissions.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE analyze_job
+        ADD COLUMN IF NOT EXISTS input_digest VARCHAR(64);
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_analyze_job_input_digest') THEN
+        CREATE INDEX idx_analyze_job_input_digest
+            ON analyze_job (input_digest, completed_at)
+            WHERE status = 'COMPLETED' AND input_digest IS NOT NULL;
+    END IF;
+END
+$$;
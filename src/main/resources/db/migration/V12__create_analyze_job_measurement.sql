@@ -0,0 +1,49 @@
+-- Typed measurement values extracted from completed analyze results (one row per analyze job).
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NULL THEN
+        RETURN;
+    END IF;
+
+    IF to_regclass('public.analyze_job_measurement') IS NULL THEN
+        CREATE TABLE analyze_job_measurement
+        (
+            analyze_job_id    BIGINT      PRIMARY KEY REFERENCES analyze_job (id) ON DELETE CASCADE,
+            measurement_model VARCHAR(20) NOT NULL,
+            shoulder_width_cm DOUBLE PRECISION,
+            arm_length_cm     DOUBLE PRECISION,
+            leg_length_cm     DOUBLE PRECISION,
+            torso_length_cm   DOUBLE PRECISION,
+            inseam_cm         DOUBLE PRECISION,
+            chest_cm          DOUBLE PRECISION,
+            waist_cm          DOUBLE PRECISION,
+            hip_cm            DOUBLE PRECISION,
+            thigh_cm          DOUBLE PRECISION,
+            chest_axis_m      DOUBLE PRECISION,
+            waist_axis_m      DOUBLE PRECISION,
+            hip_axis_m        DOUBLE PRECISION,
+            thigh_axis_m      DOUBLE PRECISION,
+            body_shape        VARCHAR(30),
+            created_date      TIMESTAMP,
+            updated_date      TIMESTAMP
+        );
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_constraint
+        WHERE conname = 'chk_analyze_job_measurement_measurement_model'
+    ) THEN
+        ALTER TABLE analyze_job_measurement
+            ADD CONSTRAINT chk_analyze_job_measurement_measurement_model
+                CHECK (measurement_model IN ('quick', 'premium'));
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_analyze_job_measurement_model') THEN
+        CREATE INDEX idx_analyze_job_measurement_model
+            ON analyze_job_measurement (measurement_model);
+    END IF;
+END
+$$;
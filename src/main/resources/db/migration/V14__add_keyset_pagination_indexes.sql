@@ -0,0 +1,35 @@
+-- (user_id, created_date DESC, id DESC) indexes for keyset (cursor) pagination of per-user lists.
+-- They replace the (user_id, created_date) indexes, which the new indexes cover as a prefix.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NOT NULL THEN
+        IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_analyze_job_user_created_id') THEN
+            CREATE INDEX idx_analyze_job_user_created_id
+                ON analyze_job (user_id, created_date DESC, id DESC);
+        END IF;
+        DROP INDEX IF EXISTS idx_analyze_job_user_created;
+    END IF;
+
+    IF to_regclass('public.ticket_ledger') IS NOT NULL THEN
+        IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_ticket_ledger_user_created_id') THEN
+            CREATE INDEX idx_ticket_ledger_user_created_id
+                ON ticket_ledger (user_id, created_date DESC, id DESC);
+        END IF;
+        DROP INDEX IF EXISTS idx_ticket_ledger_user_created;
+    END IF;
+
+    IF to_regclass('public.measurement_recommendation_history') IS NOT NULL THEN
+        IF NOT EXISTS (
+            SELECT 1
+            FROM pg_indexes
+            WHERE indexname = 'idx_measurement_recommendation_history_user_created_id'
+        ) THEN
+            CREATE INDEX idx_measurement_recommendation_history_user_created_id
+                ON measurement_recommendation_history (user_id, created_date DESC, id DESC);
+        END IF;
+        DROP INDEX IF EXISTS idx_measurement_recommendation_history_user_created;
+    END IF;
+END
+$$;
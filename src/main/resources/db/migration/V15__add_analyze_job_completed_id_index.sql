@@ -0,0 +1,15 @@
+-- (completed_at, id) index for the keyset scan of the retention purge.
+-- It replaces the (completed_at) index, which the new index covers as a prefix.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NOT NULL THEN
+        IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_analyze_job_completed_id') THEN
+            CREATE INDEX idx_analyze_job_completed_id
+                ON analyze_job (completed_at, id);
+        END IF;
+        DROP INDEX IF EXISTS idx_analyze_job_completed;
+    END IF;
+END
+$$;
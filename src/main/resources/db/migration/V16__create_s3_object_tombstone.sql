@@ -0,0 +1,26 @@
+-- S3 objects waiting for asynchronous deletion. Rows are written in the same transaction as the
+-- row change that orphaned the objects and removed by the garbage collector after S3 confirms the delete.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.s3_object_tombstone') IS NULL THEN
+        CREATE TABLE s3_object_tombstone
+        (
+            id              BIGSERIAL PRIMARY KEY,
+            object_key      VARCHAR(1024) NOT NULL,
+            reason          VARCHAR(50)   NOT NULL,
+            attempts        INTEGER       NOT NULL DEFAULT 0,
+            next_attempt_at TIMESTAMP     NOT NULL,
+            last_error      VARCHAR(500),
+            created_date    TIMESTAMP     NOT NULL DEFAULT now(),
+            CONSTRAINT uk_s3_object_tombstone_object_key UNIQUE (object_key)
+        );
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_s3_object_tombstone_next_attempt') THEN
+        CREATE INDEX idx_s3_object_tombstone_next_attempt
+            ON s3_object_tombstone (next_attempt_at, id);
+    END IF;
+END
+$$;
@@ -0,0 +1,10 @@
+-- Per-stage durations (ms) of an analyze job run, e.g. {"queue_wait_ms": 120, "modal_request_ms": 41000}.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NOT NULL THEN
+        ALTER TABLE analyze_job ADD COLUMN IF NOT EXISTS stage_timings JSONB;
+    END IF;
+END
+$$;
@@ -0,0 +1,51 @@
+-- Per-refId ticket reservation state (HELD -> CONSUMED | RELEASED).
+-- Settlement is a single conditional UPDATE on this row instead of ledger lookups under a user_ row lock.
+-- Existing HOLD ledger rows are backfilled with the state implied by their CONSUME/RELEASE rows.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.ticket_reservation') IS NULL THEN
+        CREATE TABLE ticket_reservation
+        (
+            id           BIGSERIAL PRIMARY KEY,
+            user_id      BIGINT       NOT NULL REFERENCES user_ (id) ON DELETE CASCADE,
+            ticket_type  VARCHAR(20)  NOT NULL,
+            ref_id       VARCHAR(255) NOT NULL,
+            state        VARCHAR(20)  NOT NULL,
+            created_date TIMESTAMP    NOT NULL DEFAULT now(),
+            updated_date TIMESTAMP    NOT NULL DEFAULT now(),
+            CONSTRAINT uk_ticket_reservation_user_type_ref_id UNIQUE (user_id, ticket_type, ref_id),
+            CONSTRAINT chk_ticket_reservation_state CHECK (state IN ('HELD', 'CONSUMED', 'RELEASED'))
+        );
+    END IF;
+
+    IF to_regclass('public.ticket_ledger') IS NOT NULL THEN
+        INSERT INTO ticket_reservation (user_id, ticket_type, ref_id, state, created_date, updated_date)
+        SELECT h.user_id,
+               h.ticket_type,
+               h.ref_id,
+               CASE
+                   WHEN EXISTS (SELECT 1
+                                FROM ticket_ledger c
+                                WHERE c.user_id = h.user_id
+                                  AND c.ticket_type = h.ticket_type
+                                  AND c.ref_id = h.ref_id
+                                  AND c.reason = 'CONSUME') THEN 'CONSUMED'
+                   WHEN EXISTS (SELECT 1
+                                FROM ticket_ledger r
+                                WHERE r.user_id = h.user_id
+                                  AND r.ticket_type = h.ticket_type
+                                  AND r.ref_id = h.ref_id
+                                  AND r.reason = 'RELEASE') THEN 'RELEASED'
+                   ELSE 'HELD'
+                   END,
+               h.created_date,
+               now()
+        FROM ticket_ledger h
+        WHERE h.reason = 'HOLD'
+          AND h.ref_id IS NOT NULL
+        ON CONFLICT (user_id, ticket_type, ref_id) DO NOTHING;
+    END IF;
+END
+$$;
@@ -0,0 +1,31 @@
+-- Pending user_ ticket balance changes when balances are served from Redis counters (app.ticket.balance-store=redis).
+-- Rows are written in the same transaction as the ticket_ledger row and applied to user_ in per-user batches by the relay.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.ticket_balance_outbox') IS NULL THEN
+        CREATE TABLE ticket_balance_outbox
+        (
+            id              BIGSERIAL PRIMARY KEY,
+            user_id         BIGINT      NOT NULL REFERENCES user_ (id) ON DELETE CASCADE,
+            ticket_type     VARCHAR(20) NOT NULL,
+            delta           INTEGER     NOT NULL,
+            ledger_id       BIGINT,
+            attempts        INTEGER     NOT NULL DEFAULT 0,
+            next_attempt_at TIMESTAMP   NOT NULL,
+            created_date    TIMESTAMP   NOT NULL DEFAULT now()
+        );
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_ticket_balance_outbox_next_attempt') THEN
+        CREATE INDEX idx_ticket_balance_outbox_next_attempt
+            ON ticket_balance_outbox (next_attempt_at, id);
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_ticket_balance_outbox_user_type') THEN
+        CREATE INDEX idx_ticket_balance_outbox_user_type
+            ON ticket_balance_outbox (user_id, ticket_type);
+    END IF;
+END
+$$;
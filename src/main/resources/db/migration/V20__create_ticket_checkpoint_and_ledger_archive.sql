@@ -0,0 +1,48 @@
+-- Per-user ticket balance checkpoints and the archive for compacted ticket_ledger rows.
+-- Invariant: checkpoint.balance + SUM(delta) of the rows still in ticket_ledger = user_ balance + pending outbox deltas.
+-- Archived rows are stored per user and batch as a JSONB array so TOAST compresses them (lz4 on PostgreSQL 14+).
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.ticket_balance_checkpoint') IS NULL THEN
+        CREATE TABLE ticket_balance_checkpoint
+        (
+            id            BIGSERIAL PRIMARY KEY,
+            user_id       BIGINT      NOT NULL REFERENCES user_ (id) ON DELETE CASCADE,
+            ticket_type   VARCHAR(20) NOT NULL,
+            balance       INTEGER     NOT NULL,
+            archived_rows BIGINT      NOT NULL DEFAULT 0,
+            created_date  TIMESTAMP   NOT NULL DEFAULT now(),
+            updated_date  TIMESTAMP   NOT NULL DEFAULT now(),
+            CONSTRAINT uk_ticket_balance_checkpoint_user_type UNIQUE (user_id, ticket_type)
+        );
+    END IF;
+
+    IF to_regclass('public.ticket_ledger_archive') IS NULL THEN
+        CREATE TABLE ticket_ledger_archive
+        (
+            id                 BIGSERIAL PRIMARY KEY,
+            user_id            BIGINT    NOT NULL REFERENCES user_ (id) ON DELETE CASCADE,
+            row_count          INTEGER   NOT NULL,
+            first_created_date TIMESTAMP,
+            last_created_date  TIMESTAMP,
+            entries            JSONB     NOT NULL,
+            archived_date      TIMESTAMP NOT NULL DEFAULT now()
+        );
+        IF current_setting('server_version_num')::int >= 140000 THEN
+            BEGIN
+                ALTER TABLE ticket_ledger_archive ALTER COLUMN entries SET COMPRESSION lz4;
+            EXCEPTION
+                WHEN others THEN
+                    RAISE NOTICE 'lz4 is not available, ticket_ledger_archive.entries keeps the default compression';
+            END;
+        END IF;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_ticket_ledger_archive_user_created') THEN
+        CREATE INDEX idx_ticket_ledger_archive_user_created
+            ON ticket_ledger_archive (user_id, first_created_date);
+    END IF;
+END
+$$;
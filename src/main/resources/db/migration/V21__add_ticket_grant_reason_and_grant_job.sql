@@ -0,0 +1,71 @@
+-- Admin bulk ticket grants: GRANT ledger reason plus a resumable grant job.
+-- Jobs walk their targets in user id order and keep the last processed user id, so an interrupted job resumes after it.
+-- Explicit target lists are stored one row per user in ticket_grant_job_target.
+
+DO
+$$
+DECLARE
+    v_conname TEXT;
+BEGIN
+    IF to_regclass('public.ticket_ledger') IS NOT NULL THEN
+        -- Remove every reason CHECK, including ones generated from the enum by Hibernate (e.g. ticket_ledger_reason_check).
+        FOR v_conname IN
+            SELECT c.conname
+            FROM pg_constraint c
+            JOIN pg_class t ON t.oid = c.conrelid
+            JOIN pg_namespace n ON n.oid = t.relnamespace
+            WHERE n.nspname = 'public'
+              AND t.relname = 'ticket_ledger'
+              AND c.contype = 'c'
+              AND pg_get_constraintdef(c.oid) ILIKE '%reason%'
+        LOOP
+            EXECUTE format('ALTER TABLE public.ticket_ledger DROP CONSTRAINT %I', v_conname);
+        END LOOP;
+
+        ALTER TABLE public.ticket_ledger
+            ADD CONSTRAINT chk_ticket_ledger_reason
+                CHECK (reason IN ('PURCHASE', 'GRANT', 'HOLD', 'CONSUME', 'RELEASE', 'USE', 'REFUND'));
+    END IF;
+
+    IF to_regclass('public.ticket_grant_job') IS NULL THEN
+        CREATE TABLE ticket_grant_job
+        (
+            id                BIGSERIAL PRIMARY KEY,
+            job_id            VARCHAR(64)  NOT NULL,
+            ticket_type       VARCHAR(20)  NOT NULL,
+            quantity          INTEGER      NOT NULL,
+            ref_id            VARCHAR(255) NOT NULL,
+            target            VARCHAR(20)  NOT NULL,
+            joined_from       TIMESTAMP,
+            joined_to         TIMESTAMP,
+            status            VARCHAR(20)  NOT NULL,
+            total_targets     BIGINT       NOT NULL DEFAULT 0,
+            processed_targets BIGINT       NOT NULL DEFAULT 0,
+            granted_count     BIGINT       NOT NULL DEFAULT 0,
+            last_user_id      BIGINT       NOT NULL DEFAULT 0,
+            lease_until       TIMESTAMP,
+            error_message     VARCHAR(500),
+            created_date      TIMESTAMP    NOT NULL DEFAULT now(),
+            updated_date      TIMESTAMP    NOT NULL DEFAULT now(),
+            completed_date    TIMESTAMP,
+            CONSTRAINT uk_ticket_grant_job_job_id UNIQUE (job_id),
+            CONSTRAINT chk_ticket_grant_job_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+            CONSTRAINT chk_ticket_grant_job_target CHECK (target IN ('USER_IDS', 'QUERY'))
+        );
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_ticket_grant_job_status_lease') THEN
+        CREATE INDEX idx_ticket_grant_job_status_lease
+            ON ticket_grant_job (status, lease_until);
+    END IF;
+
+    IF to_regclass('public.ticket_grant_job_target') IS NULL THEN
+        CREATE TABLE ticket_grant_job_target
+        (
+            grant_job_id BIGINT NOT NULL REFERENCES ticket_grant_job (id) ON DELETE CASCADE,
+            user_id      BIGINT NOT NULL,
+            PRIMARY KEY (grant_job_id, user_id)
+        );
+    END IF;
+END
+$$;
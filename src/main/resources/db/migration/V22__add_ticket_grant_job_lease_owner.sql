@@ -0,0 +1,11 @@
+-- Lease owner token for ticket grant jobs.
+-- Progress, yield and failure updates only apply for the worker run that currently holds the lease.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.ticket_grant_job') IS NOT NULL THEN
+        ALTER TABLE ticket_grant_job ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(64);
+    END IF;
+END
+$$;
@@ -0,0 +1,17 @@
+-- Dead-letter marker for ticket balance outbox rows the relay keeps rejecting.
+-- Rows past app.ticket.outbox.max-attempts are parked (dead_lettered_at set) and skipped by the relay until resolved by hand.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.ticket_balance_outbox') IS NOT NULL THEN
+        ALTER TABLE ticket_balance_outbox ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP;
+
+        IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_ticket_balance_outbox_dead_lettered') THEN
+            CREATE INDEX idx_ticket_balance_outbox_dead_lettered
+                ON ticket_balance_outbox (dead_lettered_at)
+                WHERE dead_lettered_at IS NOT NULL;
+        END IF;
+    END IF;
+END
+$$;
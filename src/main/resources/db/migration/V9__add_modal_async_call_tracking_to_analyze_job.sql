@@ -0,0 +1,25 @@
+-- Track Modal async call id and poll schedule for submit-and-poll analyze mode.
+
+DO
+$$
+BEGIN
+    IF to_regclass('public.analyze_job') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE analyze_job
+        ADD COLUMN IF NOT EXISTS modal_call_id VARCHAR(128);
+
+    ALTER TABLE analyze_job
+        ADD COLUMN IF NOT EXISTS modal_poll_attempts INTEGER;
+
+    ALTER TABLE analyze_job
+        ADD COLUMN IF NOT EXISTS modal_next_poll_at TIMESTAMP;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_analyze_job_modal_next_poll') THEN
+        CREATE INDEX idx_analyze_job_modal_next_poll
+            ON analyze_job (modal_next_poll_at)
+            WHERE status = 'RUNNING' AND modal_call_id IS NOT NULL;
+    END IF;
+END
+$$;
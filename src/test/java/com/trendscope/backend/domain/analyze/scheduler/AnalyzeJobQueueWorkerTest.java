@@ -0,0 +1,132 @@
+package com.trendscope.backend.domain.analyze.scheduler;
+
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobLane;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobQueueService;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobQueueService.QueuedJob;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobService;
+import com.trendscope.backend.domain.analyze.service.ModalCallGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyzeJobQueueWorkerTest {
+
+    @Mock
+    private AnalyzeJobQueueService analyzeJobQueueService;
+
+    @Mock
+    private AnalyzeJobService analyzeJobService;
+
+    @Mock
+    private ModalCallGuard modalCallGuard;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AnalyzeJobQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new AnalyzeJobQueueWorker(analyzeJobQueueService, analyzeJobService, modalCallGuard, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "workerEnabled", true);
+        ReflectionTestUtils.setField(worker, "maxDeliveries", 3);
+        ReflectionTestUtils.setField(worker, "quickConcurrency", 2);
+        ReflectionTestUtils.setField(worker, "quickReserved", 1);
+        ReflectionTestUtils.setField(worker, "quickBorrowEnabled", true);
+        ReflectionTestUtils.setField(worker, "premiumConcurrency", 2);
+        ReflectionTestUtils.setField(worker, "premiumReserved", 0);
+        ReflectionTestUtils.setField(worker, "premiumBorrowEnabled", true);
+        ReflectionTestUtils.invokeMethod(worker, "init");
+
+        lenient().when(modalCallGuard.availablePermits()).thenReturn(10);
+        // 실행 중인 job이 슬롯을 계속 잡고 있도록 테스트 끝까지 대기시킨다.
+        lenient().when(analyzeJobService.processJob(anyString())).thenAnswer(inv -> {
+            release.await();
+            return true;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        ReflectionTestUtils.invokeMethod(worker, "shutdown");
+    }
+
+    @Test
+    void backloggedLaneBorrowsIdleSlotsAboveReserve() {
+        lenient().when(analyzeJobQueueService.poll(AnalyzeJobLane.QUICK, 2)).thenReturn(List.of());
+        lenient().when(analyzeJobQueueService.poll(AnalyzeJobLane.PREMIUM, 2)).thenReturn(jobs(AnalyzeJobLane.PREMIUM, 2));
+        lenient().when(analyzeJobQueueService.poll(AnalyzeJobLane.PREMIUM, 1)).thenReturn(jobs(AnalyzeJobLane.PREMIUM, 1));
+
+        worker.pollQueue();
+
+        // quick 은 reserved 1개를 남기고 1개만 빌려준다.
+        verify(analyzeJobQueueService).poll(AnalyzeJobLane.PREMIUM, 1);
+
+        worker.pollQueue();
+
+        // premium 슬롯은 모두 사용 중이고 quick 은 reserved 슬롯으로 자기 job만 받는다.
+        verify(analyzeJobQueueService).poll(AnalyzeJobLane.QUICK, 1);
+        verify(analyzeJobQueueService).poll(AnalyzeJobLane.PREMIUM, 0);
+    }
+
+    @Test
+    void laneWithoutBorrowingKeepsItsOwnLimit() {
+        ReflectionTestUtils.setField(worker, "premiumBorrowEnabled", false);
+        ReflectionTestUtils.invokeMethod(worker, "init");
+        when(analyzeJobQueueService.poll(AnalyzeJobLane.QUICK, 2)).thenReturn(List.of());
+        when(analyzeJobQueueService.poll(AnalyzeJobLane.PREMIUM, 2)).thenReturn(jobs(AnalyzeJobLane.PREMIUM, 2));
+
+        worker.pollQueue();
+
+        verify(analyzeJobQueueService, never()).poll(eq(AnalyzeJobLane.PREMIUM), eq(1));
+    }
+
+    @Test
+    void messageWithoutFreeSlotIsRequeuedAndAcknowledged() {
+        ReflectionTestUtils.setField(worker, "premiumBorrowEnabled", false);
+        ReflectionTestUtils.invokeMethod(worker, "init");
+        List<QueuedJob> polled = jobs(AnalyzeJobLane.PREMIUM, 3);
+        when(analyzeJobQueueService.poll(AnalyzeJobLane.QUICK, 2)).thenReturn(List.of());
+        when(analyzeJobQueueService.poll(AnalyzeJobLane.PREMIUM, 2)).thenReturn(polled);
+
+        worker.pollQueue();
+
+        QueuedJob overflow = polled.get(2);
+        verify(analyzeJobQueueService).enqueue(overflow.jobId(), AnalyzeJobLane.PREMIUM);
+        verify(analyzeJobQueueService).acknowledge(overflow);
+    }
+
+    @Test
+    void skipsPollingWhileModalCircuitIsOpen() {
+        when(modalCallGuard.availablePermits()).thenReturn(0);
+
+        worker.pollQueue();
+
+        verify(analyzeJobQueueService, never()).poll(eq(AnalyzeJobLane.QUICK), anyInt());
+        verify(analyzeJobQueueService, never()).poll(eq(AnalyzeJobLane.PREMIUM), anyInt());
+    }
+
+    private List<QueuedJob> jobs(AnalyzeJobLane lane, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new QueuedJob(lane, RecordId.of(System.nanoTime() + "-" + i), lane.id() + "-job-" + i, 1L))
+                .toList();
+    }
+}
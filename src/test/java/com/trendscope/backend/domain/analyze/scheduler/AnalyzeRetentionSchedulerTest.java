@@ -0,0 +1,125 @@
+package com.trendscope.backend.domain.analyze.scheduler;
+
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeRetentionRow;
+import com.trendscope.backend.domain.analyze.service.AnalyzeJobStatusCacheService;
+import com.trendscope.backend.domain.analyze.service.AnalyzeShareSnapshotService;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyzeRetentionSchedulerTest {
+
+    @Mock
+    private AnalyzeJobRepository analyzeJobRepository;
+
+    @Mock
+    private S3ObjectTombstoneService s3ObjectTombstoneService;
+
+    @Mock
+    private AnalyzeJobStatusCacheService analyzeJobStatusCacheService;
+
+    @Mock
+    private AnalyzeShareSnapshotService analyzeShareSnapshotService;
+
+    private AnalyzeRetentionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        scheduler = new AnalyzeRetentionScheduler(
+                analyzeJobRepository,
+                s3ObjectTombstoneService,
+                analyzeJobStatusCacheService,
+                analyzeShareSnapshotService,
+                transactionTemplate
+        );
+        ReflectionTestUtils.setField(scheduler, "photoRetentionDays", 1L);
+        ReflectionTestUtils.setField(scheduler, "modelRetentionDays", 365L);
+        ReflectionTestUtils.setField(scheduler, "retentionBatchSize", 2);
+    }
+
+    @Test
+    void deletesExpiredJobsChunkByChunkAlongKeyset() {
+        LocalDateTime completedAt = LocalDateTime.now().minusDays(400);
+        AnalyzeRetentionRow first = row(10L, "job-1", completedAt);
+        AnalyzeRetentionRow second = row(11L, "job-2", completedAt);
+        AnalyzeRetentionRow third = row(12L, "job-3", completedAt.plusMinutes(1));
+
+        when(analyzeJobRepository.findPhotoPurgeRowsAfter(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(analyzeJobRepository.findModelPurgeRowsAfter(any(), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(analyzeJobRepository.findModelPurgeRowsAfter(any(), eq(completedAt), eq(11L), any(Pageable.class)))
+                .thenReturn(List.of(third));
+
+        scheduler.purgeExpiredAnalyzeData();
+
+        verify(s3ObjectTombstoneService).record(
+                List.of(
+                        "front/job-1.jpg", "side/job-1.jpg", "glb/job-1.glb",
+                        "front/job-2.jpg", "side/job-2.jpg", "glb/job-2.glb"
+                ),
+                S3ObjectTombstoneService.REASON_ANALYZE_MODEL_RETENTION
+        );
+        verify(s3ObjectTombstoneService).record(
+                List.of("front/job-3.jpg", "side/job-3.jpg", "glb/job-3.glb"),
+                S3ObjectTombstoneService.REASON_ANALYZE_MODEL_RETENTION
+        );
+        verify(analyzeJobRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(analyzeJobRepository).deleteAllByIdInBatch(List.of(12L));
+        verify(analyzeShareSnapshotService).evict(List.of("job-1", "job-2"));
+        verify(analyzeShareSnapshotService).evict(List.of("job-3"));
+        verify(analyzeJobRepository, times(2)).findModelPurgeRowsAfter(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void scrubsInputPhotosAndRecordsTheirObjectsForDeletion() {
+        LocalDateTime completedAt = LocalDateTime.now().minusDays(3);
+        AnalyzeRetentionRow photoRow = row(20L, "job-20", completedAt);
+
+        when(analyzeJobRepository.findPhotoPurgeRowsAfter(any(), any(), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(photoRow));
+        when(analyzeJobRepository.findModelPurgeRowsAfter(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(analyzeJobRepository.clearInputImageKeysByIdIn(eq(List.of(20L)), any())).thenReturn(1);
+
+        scheduler.purgeExpiredAnalyzeData();
+
+        verify(s3ObjectTombstoneService).record(
+                List.of("front/job-20.jpg", "side/job-20.jpg"),
+                S3ObjectTombstoneService.REASON_ANALYZE_PHOTO_RETENTION
+        );
+        verify(analyzeJobRepository).clearInputImageKeysByIdIn(eq(List.of(20L)), any());
+        verify(analyzeJobStatusCacheService).evict(List.of("job-20"));
+    }
+
+    private AnalyzeRetentionRow row(Long id, String jobId, LocalDateTime completedAt) {
+        return new AnalyzeRetentionRow(
+                id,
+                jobId,
+                completedAt,
+                "front/" + jobId + ".jpg",
+                "side/" + jobId + ".jpg",
+                "glb/" + jobId + ".glb"
+        );
+    }
+}
@@ -2,11 +2,14 @@ package com.trendscope.backend.domain.analyze.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trendscope.backend.domain.analyze.dto.AnalyzeJobStartRequestDTO;
+import com.trendscope.backend.domain.analyze.dto.AnalyzeJobStatusResponseDTO;
+import com.trendscope.backend.domain.analyze.dto.AnalyzeSharedJobResponseDTO;
 import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
 import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
 import com.trendscope.backend.domain.measurement.repository.MeasurementRecommendationHistoryRepository;
+import com.trendscope.backend.domain.measurement.service.AnalyzeJobMeasurementService;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.TicketLedgerReason;
 import com.trendscope.backend.domain.user.entity.enums.SocialProviderType;
@@ -15,6 +18,7 @@ import com.trendscope.backend.domain.user.entity.enums.UserRoleType;
 import com.trendscope.backend.domain.user.repository.UserRepository;
 import com.trendscope.backend.domain.user.service.TicketLedgerService;
 import com.trendscope.backend.global.exception.UpstreamServiceException;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
 import com.trendscope.backend.global.util.S3Util;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +36,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +63,33 @@ class AnalyzeJobServiceContractTest {
     @Mock
     private MeasurementRecommendationHistoryRepository measurementRecommendationHistoryRepository;
 
+    @Mock
+    private AnalyzeJobQueueService analyzeJobQueueService;
+
+    @Mock
+    private AnalyzeJobEventService analyzeJobEventService;
+
+    @Mock
+    private ModalCallGuard modalCallGuard;
+
+    @Mock
+    private AnalyzeResultReuseService analyzeResultReuseService;
+
+    @Mock
+    private AnalyzeJobMeasurementService analyzeJobMeasurementService;
+
+    @Mock
+    private AnalyzeJobStatusCacheService analyzeJobStatusCacheService;
+
+    @Mock
+    private AnalyzeShareSnapshotService analyzeShareSnapshotService;
+
+    @Mock
+    private S3ObjectTombstoneService s3ObjectTombstoneService;
+
+    @Mock
+    private AnalyzeStageTimingService analyzeStageTimingService;
+
     private AnalyzeJobService service;
 
     @BeforeEach
@@ -69,7 +102,16 @@ class AnalyzeJobServiceContractTest {
                 modalAnalyzeClient,
                 analyzeShareTokenService,
                 measurementRecommendationHistoryRepository,
-                new ObjectMapper()
+                new ObjectMapper(),
+                analyzeJobQueueService,
+                analyzeJobEventService,
+                modalCallGuard,
+                analyzeResultReuseService,
+                analyzeJobMeasurementService,
+                analyzeJobStatusCacheService,
+                analyzeShareSnapshotService,
+                s3ObjectTombstoneService,
+                analyzeStageTimingService
         );
         ReflectionTestUtils.setField(service, "downloadUrlExpireMinutes", 30L);
 
@@ -77,6 +119,8 @@ class AnalyzeJobServiceContractTest {
                 .thenAnswer(inv -> "https://get.local/" + inv.getArgument(0, String.class));
         lenient().when(s3Util.createPresignedPutUrl(anyString(), any(Duration.class)))
                 .thenAnswer(inv -> "https://put.local/" + inv.getArgument(0, String.class));
+        lenient().when(modalCallGuard.tryAcquire())
+                .thenAnswer(inv -> Optional.of(new ModalCallGuard.Permit(modalCallGuard)));
     }
 
     @Test
@@ -234,8 +278,8 @@ class AnalyzeJobServiceContractTest {
                 .build();
 
         when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
-        when(userRepository.findById(11L)).thenReturn(Optional.of(user));
-        when(ticketLedgerService.releaseHeldForAnalyze(username, TicketType.QUICK, jobId))
+        when(analyzeJobRepository.claimQueuedJob(eq(jobId), any(LocalDateTime.class))).thenReturn(1);
+        when(ticketLedgerService.releaseHeldForAnalyze(11L, TicketType.QUICK, jobId))
                 .thenReturn(new com.trendscope.backend.domain.user.dto.TicketTransactionResponseDTO(
                         1L,
                         TicketType.QUICK,
@@ -249,7 +293,7 @@ class AnalyzeJobServiceContractTest {
                         true,
                         LocalDateTime.now()
                 ));
-        when(modalAnalyzeClient.analyze(anyMap())).thenThrow(
+        when(modalAnalyzeClient.analyze(anyMap(), any(), any())).thenThrow(
                 new UpstreamServiceException(
                         "MODAL_ENDPOINT_STOPPED",
                         "Modal endpoint가 중지 상태입니다.",
@@ -292,7 +336,8 @@ class AnalyzeJobServiceContractTest {
                 .build();
 
         when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
-        when(modalAnalyzeClient.analyze(anyMap())).thenThrow(new RuntimeException("boom"));
+        when(analyzeJobRepository.claimQueuedJob(eq(jobId), any(LocalDateTime.class))).thenReturn(1);
+        when(modalAnalyzeClient.analyze(anyMap(), any(), any())).thenThrow(new RuntimeException("boom"));
 
         ReflectionTestUtils.invokeMethod(service, "processJob", jobId);
 
@@ -300,4 +345,322 @@ class AnalyzeJobServiceContractTest {
         assertEquals("modal_call_failed", job.getErrorCode());
         assertTrue(job.getErrorDetail().contains("boom"));
     }
+
+    @Test
+    void processJobSkipsAlreadyTerminalJobOnRedelivery() {
+        String jobId = "job-redelivered";
+
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.COMPLETED)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .build();
+
+        when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
+
+        service.processJob(jobId);
+
+        assertEquals(AnalyzeJobStatus.COMPLETED, job.getStatus());
+        verify(modalAnalyzeClient, never()).analyze(anyMap(), any(), any());
+        verify(analyzeJobRepository, never()).save(any(AnalyzeJobEntity.class));
+    }
+
+    @Test
+    void processJobAcksDuplicateDeliveryWithoutWorkWhenClaimFails() {
+        String jobId = "job-duplicate";
+
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.QUEUED)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .build();
+
+        when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.claimQueuedJob(eq(jobId), any(LocalDateTime.class))).thenReturn(0);
+
+        assertTrue(service.processJob(jobId));
+
+        verify(analyzeResultReuseService, never()).reuse(any());
+        verify(modalCallGuard, never()).tryAcquire();
+        verify(modalAnalyzeClient, never()).analyze(anyMap(), any(), any());
+        verify(analyzeJobRepository, never()).save(any(AnalyzeJobEntity.class));
+    }
+
+    @Test
+    void processJobReleasesClaimWhenModalPermitUnavailable() {
+        String jobId = "job-throttled";
+
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.QUEUED)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .build();
+
+        when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.claimQueuedJob(eq(jobId), any(LocalDateTime.class))).thenReturn(1);
+        when(analyzeResultReuseService.reuse(job)).thenReturn(Optional.empty());
+        when(modalCallGuard.tryAcquire()).thenReturn(Optional.empty());
+
+        assertFalse(service.processJob(jobId));
+
+        verify(analyzeJobRepository).releaseQueuedJobClaim(eq(jobId), eq(job.getStartedAt()), any(LocalDateTime.class));
+        verify(modalAnalyzeClient, never()).analyze(anyMap(), any(), any());
+    }
+
+    @Test
+    void recoverStuckJobSkipsRequeueWhenJobWasClaimedMeanwhile() {
+        String jobId = "job-reclaimed";
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime observedStartedAt = now.minusHours(1);
+
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.RUNNING)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .startedAt(observedStartedAt)
+                .recoveryCount(0)
+                .build();
+
+        when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.requeueStuckRunningJob(eq(jobId), eq(observedStartedAt), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        service.recoverStuckJob(jobId, now.minusMinutes(30), now.minusMinutes(20), 2);
+
+        verify(analyzeJobQueueService, never()).enqueue(anyString(), any());
+        verify(analyzeJobEventService, never()).publish(any());
+    }
+
+    @Test
+    void recoverStuckJobFailsAndReleasesTicketWhenRecoveryLimitReached() {
+        String username = "otp_user";
+        String jobId = "job-stuck";
+
+        UserEntity user = UserEntity.builder()
+                .id(31L)
+                .username(username)
+                .socialProviderType(SocialProviderType.EMAIL_OTP)
+                .providerUserId("otp_user@example.com")
+                .roleType(UserRoleType.USER)
+                .quickTicketBalance(1)
+                .premiumTicketBalance(1)
+                .email("otp_user@example.com")
+                .isLock(false)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .user(user)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.RUNNING)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .startedAt(now.minusHours(1))
+                .recoveryCount(2)
+                .build();
+
+        when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
+
+        service.recoverStuckJob(jobId, now.minusMinutes(30), now.minusMinutes(20), 2);
+
+        assertEquals(AnalyzeJobStatus.FAILED, job.getStatus());
+        assertEquals("job_stuck", job.getErrorCode());
+        verify(ticketLedgerService).releaseHeldForAnalyze(31L, TicketType.QUICK, jobId);
+        verify(analyzeJobQueueService, never()).enqueue(anyString(), any());
+    }
+
+    @Test
+    void modalCallbackIsIgnoredWhenPollAlreadyClaimedTheResult() throws Exception {
+        AnalyzeJobEntity job = modalRunningJob("job-callback");
+        when(analyzeJobRepository.findByJobId("job-callback")).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.claimModalResult("job-callback", "call-1")).thenReturn(0);
+
+        boolean applied = service.completeFromModalCallback(
+                "job-callback", "call-1", new ObjectMapper().readTree("{\"success\":true}"));
+
+        assertFalse(applied);
+        assertEquals(AnalyzeJobStatus.RUNNING, job.getStatus());
+        verify(ticketLedgerService, never()).consumeHeldForAnalyze(any(), any(), anyString());
+        verify(analyzeJobEventService, never()).publish(any(AnalyzeJobEntity.class));
+    }
+
+    @Test
+    void modalPollDoesNotCompleteWhenCallbackAlreadyClaimedTheResult() throws Exception {
+        AnalyzeJobEntity job = modalRunningJob("job-poll");
+        when(analyzeJobRepository.claimModalPoll(eq("job-poll"), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(analyzeJobRepository.findByJobId("job-poll")).thenReturn(Optional.of(job));
+        when(modalAnalyzeClient.fetchResult(eq("call-1"), any(), any()))
+                .thenReturn(Optional.of(new ObjectMapper().readTree("{\"success\":true}")));
+        when(analyzeJobRepository.claimModalResult("job-poll", "call-1")).thenReturn(0);
+
+        service.pollModalResult("job-poll");
+
+        assertEquals(AnalyzeJobStatus.RUNNING, job.getStatus());
+        verify(analyzeJobRepository, never()).save(any(AnalyzeJobEntity.class));
+        verify(ticketLedgerService, never()).consumeHeldForAnalyze(any(), any(), anyString());
+    }
+
+    @Test
+    void processJobCompletesFromReusedResultWithoutCallingModal() {
+        String username = "otp_user";
+        String jobId = "job-reused";
+
+        UserEntity user = UserEntity.builder()
+                .id(41L)
+                .username(username)
+                .socialProviderType(SocialProviderType.EMAIL_OTP)
+                .providerUserId("otp_user@example.com")
+                .roleType(UserRoleType.USER)
+                .quickTicketBalance(1)
+                .premiumTicketBalance(1)
+                .email("otp_user@example.com")
+                .isLock(false)
+                .build();
+
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .user(user)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.QUEUED)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .build();
+
+        when(analyzeJobRepository.findByJobId(jobId)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.claimQueuedJob(eq(jobId), any(LocalDateTime.class))).thenReturn(1);
+        when(analyzeResultReuseService.reuse(job)).thenReturn(Optional.of("{\"success\":true}"));
+        when(ticketLedgerService.consumeHeldForAnalyze(41L, TicketType.QUICK, jobId))
+                .thenReturn(new com.trendscope.backend.domain.user.dto.TicketTransactionResponseDTO(
+                        2L,
+                        TicketType.QUICK,
+                        TicketLedgerReason.CONSUME,
+                        jobId,
+                        0,
+                        0,
+                        0,
+                        1,
+                        1,
+                        true,
+                        LocalDateTime.now()
+                ));
+
+        assertTrue(service.processJob(jobId));
+
+        assertEquals(AnalyzeJobStatus.COMPLETED, job.getStatus());
+        assertEquals("{\"success\":true}", job.getResultJson());
+        verify(modalAnalyzeClient, never()).analyze(anyMap(), any(), any());
+        verify(modalCallGuard, never()).tryAcquire();
+    }
+
+    @Test
+    void getJobServesTerminalJobFromStatusCacheWithFreshDownloadUrl() {
+        String username = "otp_user";
+        String jobId = "job-cached";
+        AnalyzeJobStatusResponseDTO cached = new AnalyzeJobStatusResponseDTO(
+                jobId,
+                AnalyzeMode.QUICK_1VIEW,
+                AnalyzeJobStatus.COMPLETED,
+                "in/front.jpg",
+                null,
+                "out/body.glb",
+                null,
+                175.0d,
+                70.0d,
+                "male",
+                "fast",
+                false,
+                "quick",
+                "PHOTO_POSE",
+                null,
+                null,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+        when(analyzeJobStatusCacheService.get(username, jobId)).thenReturn(Optional.of(cached));
+
+        AnalyzeJobStatusResponseDTO response = service.getJob(username, jobId);
+
+        assertEquals(AnalyzeJobStatus.COMPLETED, response.status());
+        assertEquals("https://get.local/out/body.glb", response.glbDownloadUrl());
+        verifyNoInteractions(analyzeJobRepository);
+    }
+
+    @Test
+    void getSharedJobServesSnapshotWithModelRedirectUrlAndWithoutDatabase() {
+        String token = "share-token";
+        String jobId = "job-shared";
+        when(analyzeShareTokenService.verify(token)).thenReturn(
+                new AnalyzeShareTokenService.VerifiedShareToken(jobId, Instant.now().plusSeconds(600))
+        );
+        AnalyzeSharedJobResponseDTO snapshotResponse = new AnalyzeSharedJobResponseDTO(
+                jobId,
+                AnalyzeMode.QUICK_1VIEW,
+                AnalyzeJobStatus.COMPLETED,
+                null,
+                175.0d,
+                70.0d,
+                "male",
+                "quick",
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+        when(analyzeShareSnapshotService.get(jobId)).thenReturn(Optional.of(
+                new AnalyzeShareSnapshotService.SharedSnapshot("out/body.glb", snapshotResponse)
+        ));
+        ReflectionTestUtils.setField(service, "shareSnapshotMaxAgeSeconds", 3600L);
+
+        AnalyzeJobService.SharedJobView view = service.getSharedJob(token, "https://api.local/share/model");
+
+        assertEquals("https://api.local/share/model", view.response().glbDownloadUrl());
+        assertTrue(view.maxAge().getSeconds() <= 600L);
+        verifyNoInteractions(analyzeJobRepository);
+        verify(s3Util, never()).createPresignedGetUrl(anyString(), any(Duration.class));
+    }
+
+    private AnalyzeJobEntity modalRunningJob(String jobId) {
+        UserEntity user = UserEntity.builder()
+                .id(41L)
+                .username("otp_user")
+                .socialProviderType(SocialProviderType.EMAIL_OTP)
+                .providerUserId("otp_user@example.com")
+                .roleType(UserRoleType.USER)
+                .quickTicketBalance(1)
+                .premiumTicketBalance(1)
+                .email("otp_user@example.com")
+                .isLock(false)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        return AnalyzeJobEntity.builder()
+                .jobId(jobId)
+                .user(user)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.RUNNING)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .measurementModel("quick")
+                .startedAt(now.minusMinutes(1))
+                .modalCallId("call-1")
+                .modalNextPollAt(now)
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.trendscope.backend.domain.analyze.dto.AnalyzeOneShotRequestDTO;
 import com.trendscope.backend.domain.analyze.dto.AnalyzeOneShotResponseDTO;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+import com.trendscope.backend.global.s3.service.S3ObjectTombstoneService;
 import com.trendscope.backend.global.util.S3Util;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +19,14 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,16 +38,20 @@ class AnalyzeOneShotServiceContractTest {
     @Mock
     private ModalAnalyzeClient modalAnalyzeClient;
 
+    @Mock
+    private S3ObjectTombstoneService s3ObjectTombstoneService;
+
     private AnalyzeOneShotService service;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
     void setUp() {
-        service = new AnalyzeOneShotService(s3Util, modalAnalyzeClient);
+        service = new AnalyzeOneShotService(s3Util, modalAnalyzeClient, s3ObjectTombstoneService);
         ReflectionTestUtils.setField(service, "oneShotEnabled", true);
         ReflectionTestUtils.setField(service, "oneShotS3Prefix", "analyze-one-shot");
         ReflectionTestUtils.setField(service, "downloadUrlExpireMinutes", 30L);
+        ReflectionTestUtils.setField(service, "modalReadTimeoutMs", 600_000L);
 
         lenient().when(s3Util.createObjectKey(anyString(), anyString()))
                 .thenAnswer(inv -> inv.getArgument(0, String.class) + "/" + inv.getArgument(1, String.class));
@@ -76,6 +83,24 @@ class AnalyzeOneShotServiceContractTest {
         assertEquals(AnalyzeMode.QUICK_1VIEW, response.getMode());
     }
 
+    @Test
+    void recordsOneShotObjectsForDeletionAfterDownloadUrlsExpire() {
+        AnalyzeOneShotRequestDTO dto = buildRequest(AnalyzeMode.STANDARD_2VIEW, "premium", true);
+
+        AnalyzeOneShotResponseDTO response = service.analyze(dto);
+
+        verify(s3ObjectTombstoneService).record(
+                eq(Arrays.asList(
+                        response.getFrontImageKey(),
+                        response.getSideImageKey(),
+                        response.getGlbObjectKey(),
+                        response.getDebugGlbObjectKey()
+                )),
+                eq(S3ObjectTombstoneService.REASON_ANALYZE_ONE_SHOT),
+                eq(Duration.ofMinutes(40))
+        );
+    }
+
     @Test
     void premiumModePayloadUsesPremiumModelAndPhotoPose() {
         AnalyzeOneShotRequestDTO dto = buildRequest(AnalyzeMode.STANDARD_2VIEW, "premium", true);
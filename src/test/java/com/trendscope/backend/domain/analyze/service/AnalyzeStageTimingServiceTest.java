@@ -0,0 +1,95 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
+import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AnalyzeStageTimingServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private AnalyzeStageTimingService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AnalyzeStageTimingService(mock(AnalyzeJobRepository.class), objectMapper, meterRegistry);
+    }
+
+    @Test
+    void mergeAccumulatesStagesAcrossExecutions() throws Exception {
+        AnalyzeJobEntity job = newJob();
+
+        AnalyzeStageTimings submit = new AnalyzeStageTimings();
+        submit.record(AnalyzeStageTimings.MODAL_SUBMIT, 120L);
+        submit.record(AnalyzeStageTimings.PRESIGN, 15L);
+        service.merge(job, submit);
+
+        AnalyzeStageTimings poll = new AnalyzeStageTimings();
+        poll.record(AnalyzeStageTimings.MODAL_RESULT_FETCH, 40L);
+        poll.record(AnalyzeStageTimings.MODAL_SUBMIT, 30L);
+        service.merge(job, poll);
+
+        JsonNode stored = objectMapper.readTree(job.getStageTimings());
+        assertEquals(150L, stored.path(AnalyzeStageTimings.MODAL_SUBMIT).asLong());
+        assertEquals(15L, stored.path(AnalyzeStageTimings.PRESIGN).asLong());
+        assertEquals(40L, stored.path(AnalyzeStageTimings.MODAL_RESULT_FETCH).asLong());
+    }
+
+    @Test
+    void completeAddsTotalAndRecordsStageTimers() throws Exception {
+        AnalyzeJobEntity job = newJob();
+        job.markQueued();
+        job.markRunning();
+        job.markCompleted("{\"success\":true}");
+
+        AnalyzeStageTimings timings = new AnalyzeStageTimings();
+        timings.record(AnalyzeStageTimings.MODAL_REQUEST, 800L);
+        service.complete(job, timings);
+
+        JsonNode stored = objectMapper.readTree(job.getStageTimings());
+        assertEquals(800L, stored.path(AnalyzeStageTimings.MODAL_REQUEST).asLong());
+        assertTrue(stored.has(AnalyzeStageTimings.TOTAL));
+
+        Timer timer = meterRegistry.find("analyze.job.stage")
+                .tags("stage", "modal_request", "mode", "QUICK_1VIEW", "outcome", "COMPLETED")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1L, timer.count());
+        assertEquals(800d, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void completeIgnoresUnreadableStoredValue() throws Exception {
+        AnalyzeJobEntity job = newJob();
+        job.recordStageTimings("not-json");
+
+        AnalyzeStageTimings timings = new AnalyzeStageTimings();
+        timings.record(AnalyzeStageTimings.TICKET_SETTLEMENT, 5L);
+        service.complete(job, timings);
+
+        assertEquals(5L, objectMapper.readTree(job.getStageTimings()).path(AnalyzeStageTimings.TICKET_SETTLEMENT).asLong());
+    }
+
+    private AnalyzeJobEntity newJob() {
+        return AnalyzeJobEntity.builder()
+                .jobId("job-timing")
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.QUEUED)
+                .frontImageKey("in/front.jpg")
+                .glbObjectKey("out/body.glb")
+                .build();
+    }
+}
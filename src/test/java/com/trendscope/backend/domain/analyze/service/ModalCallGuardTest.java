@@ -0,0 +1,97 @@
+package com.trendscope.backend.domain.analyze.service;
+
+import com.trendscope.backend.global.exception.UpstreamServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModalCallGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ModalCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new ModalCallGuard(meterRegistry);
+        ReflectionTestUtils.setField(guard, "failureThreshold", 2);
+        ReflectionTestUtils.setField(guard, "openDurationMs", 60_000L);
+        ReflectionTestUtils.setField(guard, "initialLimit", 2);
+        ReflectionTestUtils.setField(guard, "minLimit", 1);
+        ReflectionTestUtils.setField(guard, "maxLimit", 8);
+        ReflectionTestUtils.setField(guard, "targetLatencyMs", 60_000L);
+        ReflectionTestUtils.setField(guard, "backoffRatio", 0.5d);
+        ReflectionTestUtils.invokeMethod(guard, "init");
+    }
+
+    @Test
+    void limitsInFlightCallsToCurrentLimit() {
+        Optional<ModalCallGuard.Permit> first = guard.tryAcquire();
+        Optional<ModalCallGuard.Permit> second = guard.tryAcquire();
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(guard.tryAcquire().isEmpty());
+
+        first.get().release();
+        first.get().release();
+        assertEquals(1, guard.getInFlight());
+        assertEquals(1, guard.availablePermits());
+    }
+
+    @Test
+    void opensAfterConsecutiveUpstreamFailuresAndBlocksNewCalls() {
+        UpstreamServiceException stopped = new UpstreamServiceException(
+                "MODAL_ENDPOINT_STOPPED",
+                "Modal endpoint가 중지 상태입니다.",
+                404
+        );
+
+        for (int i = 0; i < 2; i++) {
+            ModalCallGuard.Permit permit = guard.tryAcquire().orElseThrow();
+            permit.failure(stopped);
+            permit.release();
+        }
+
+        assertEquals(ModalCallGuard.CircuitState.OPEN, guard.getState());
+        assertEquals(0, guard.availablePermits());
+        assertTrue(guard.tryAcquire().isEmpty());
+        assertEquals(2d, meterRegistry.get("modal.circuit.state").gauge().value());
+    }
+
+    @Test
+    void clientErrorsDoNotTripCircuitOrShrinkLimit() {
+        UpstreamServiceException badRequest = new UpstreamServiceException("MODAL_CALL_FAILED", "400", 400);
+
+        for (int i = 0; i < 3; i++) {
+            ModalCallGuard.Permit permit = guard.tryAcquire().orElseThrow();
+            permit.failure(badRequest);
+            permit.release();
+        }
+
+        assertEquals(ModalCallGuard.CircuitState.CLOSED, guard.getState());
+        assertEquals(2d, guard.getLimit());
+    }
+
+    @Test
+    void growsLimitAdditivelyOnFastSuccessAndHalvesOnFailure() {
+        for (int i = 0; i < 4; i++) {
+            ModalCallGuard.Permit permit = guard.tryAcquire().orElseThrow();
+            permit.success();
+            permit.release();
+        }
+        double grown = guard.getLimit();
+        assertTrue(grown > 2d && grown < 4d);
+
+        ModalCallGuard.Permit permit = guard.tryAcquire().orElseThrow();
+        permit.failure(new RuntimeException("connection reset"));
+        permit.release();
+
+        assertEquals(Math.max(1d, grown * 0.5d), guard.getLimit(), 0.0001d);
+    }
+}
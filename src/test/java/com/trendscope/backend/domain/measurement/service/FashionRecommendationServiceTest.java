@@ -6,9 +6,12 @@ import com.trendscope.backend.domain.analyze.entity.AnalyzeJobEntity;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeJobStatus;
 import com.trendscope.backend.domain.analyze.entity.enums.AnalyzeMode;
 import com.trendscope.backend.domain.analyze.repository.AnalyzeJobRepository;
+import com.trendscope.backend.domain.analyze.repository.AnalyzeRecommendationSourceRow;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationRequestDTO;
 import com.trendscope.backend.domain.measurement.dto.FashionRecommendationResponseDTO;
+import com.trendscope.backend.domain.measurement.entity.AnalyzeJobMeasurementEntity;
 import com.trendscope.backend.domain.measurement.entity.MeasurementRecommendationHistoryEntity;
+import com.trendscope.backend.domain.measurement.repository.AnalyzeJobMeasurementRepository;
 import com.trendscope.backend.domain.measurement.repository.MeasurementRecommendationHistoryRepository;
 import com.trendscope.backend.domain.user.entity.UserEntity;
 import com.trendscope.backend.domain.user.entity.enums.SocialProviderType;
@@ -46,6 +49,9 @@ class FashionRecommendationServiceTest {
     @Mock
     private OpenAiFashionClient openAiFashionClient;
 
+    @Mock
+    private AnalyzeJobMeasurementRepository measurementRepository;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     private FashionRecommendationService service;
 
@@ -56,7 +62,8 @@ class FashionRecommendationServiceTest {
                 userRepository,
                 historyRepository,
                 openAiFashionClient,
-                objectMapper
+                objectMapper,
+                new AnalyzeJobMeasurementService(measurementRepository, objectMapper)
         );
     }
 
@@ -93,7 +100,9 @@ class FashionRecommendationServiceTest {
                 .build();
 
         when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
-        when(analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
+        when(analyzeJobRepository.findResultJsonById(job.getId())).thenReturn(Optional.ofNullable(job.getResultJson()));
+        when(analyzeJobRepository.getReferenceById(job.getId())).thenReturn(job);
         when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.empty());
         when(historyRepository.findTopByUser_IdOrderByUserSeqDesc(user.getId())).thenReturn(Optional.empty());
         when(openAiFashionClient.recommend(any(JsonNode.class), anyString(), anyString(), isNull(), isNull()))
@@ -158,7 +167,9 @@ class FashionRecommendationServiceTest {
                 .build();
 
         when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
-        when(analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
+        when(analyzeJobRepository.findResultJsonById(job.getId())).thenReturn(Optional.ofNullable(job.getResultJson()));
+        when(analyzeJobRepository.getReferenceById(job.getId())).thenReturn(job);
         when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.empty());
         when(historyRepository.findTopByUser_IdOrderByUserSeqDesc(user.getId())).thenReturn(Optional.empty());
         when(openAiFashionClient.recommend(any(JsonNode.class), anyString(), anyString(), isNull(), isNull()))
@@ -217,7 +228,9 @@ class FashionRecommendationServiceTest {
                 .build();
 
         when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
-        when(analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
+        when(analyzeJobRepository.findResultJsonById(job.getId())).thenReturn(Optional.ofNullable(job.getResultJson()));
+        when(analyzeJobRepository.getReferenceById(job.getId())).thenReturn(job);
         when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.empty());
         when(historyRepository.findTopByUser_IdOrderByUserSeqDesc(user.getId())).thenReturn(Optional.empty());
         when(openAiFashionClient.recommend(any(JsonNode.class), anyString(), anyString(), any(), any()))
@@ -268,7 +281,7 @@ class FashionRecommendationServiceTest {
                 .build();
 
         when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
-        when(analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
         when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.of(history));
 
         FashionRecommendationResponseDTO response = service.recommend(username, dto);
@@ -297,13 +310,112 @@ class FashionRecommendationServiceTest {
                 .build();
 
         when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
-        when(analyzeJobRepository.findByJobIdAndUserUsername(jobId, username)).thenReturn(Optional.of(job));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
         when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.empty());
 
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.recommend(username, dto));
         assertTrue(ex.getMessage().contains("완료된 job"));
     }
 
+    @Test
+    void premiumModelBuildsOpenAiInputFromExtractedMeasurementColumns() throws Exception {
+        String username = "otp_user";
+        String jobId = "job-premium-typed";
+        FashionRecommendationRequestDTO dto = new FashionRecommendationRequestDTO();
+        ReflectionTestUtils.setField(dto, "jobId", jobId);
+
+        UserEntity user = sampleUser();
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .id(505L)
+                .jobId(jobId)
+                .mode(AnalyzeMode.STANDARD_2VIEW)
+                .status(AnalyzeJobStatus.COMPLETED)
+                .measurementModel("premium")
+                .gender("female")
+                // 컬럼 값이 있으면 result_json은 다시 파싱하지 않는다.
+                .resultJson("not-json")
+                .user(user)
+                .build();
+        AnalyzeJobMeasurementEntity measurement = AnalyzeJobMeasurementEntity.builder()
+                .analyzeJobId(505L)
+                .measurementModel("premium")
+                .shoulderWidthCm(44.45d)
+                .armLengthCm(58.27d)
+                .legLengthCm(82.6d)
+                .torsoLengthCm(45.32d)
+                .chestCm(84.76d)
+                .waistCm(68.39d)
+                .hipCm(94.79d)
+                .thighCm(45.23d)
+                .bodyShape("pear")
+                .build();
+
+        when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
+        when(analyzeJobRepository.getReferenceById(job.getId())).thenReturn(job);
+        when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.empty());
+        when(historyRepository.findTopByUser_IdOrderByUserSeqDesc(user.getId())).thenReturn(Optional.empty());
+        when(measurementRepository.findById(505L)).thenReturn(Optional.of(measurement));
+        when(openAiFashionClient.recommend(any(JsonNode.class), anyString(), anyString(), isNull(), isNull()))
+                .thenReturn(objectMapper.readTree("{\"version\":\"mvp.v1\"}"));
+
+        service.recommend(username, dto);
+
+        ArgumentCaptor<JsonNode> captor = ArgumentCaptor.forClass(JsonNode.class);
+        verify(openAiFashionClient).recommend(captor.capture(), eq("premium"), eq("female"), isNull(), isNull());
+        JsonNode input = captor.getValue();
+        assertEquals(44.45d, input.path("lengths").path("shoulder_width_cm").asDouble());
+        assertTrue(input.path("lengths").path("inseam_cm").isNull());
+        assertEquals(68.39d, input.path("circumferences").path("waist_cm").asDouble());
+        assertEquals("pear", input.path("body_shape").asText());
+        verify(analyzeJobRepository, never()).findResultJsonById(any());
+    }
+
+    @Test
+    void throwsWhenExtractedMeasurementHasNoLengths() {
+        String username = "otp_user";
+        String jobId = "job-empty-measurement";
+        FashionRecommendationRequestDTO dto = new FashionRecommendationRequestDTO();
+        ReflectionTestUtils.setField(dto, "jobId", jobId);
+
+        UserEntity user = sampleUser();
+        AnalyzeJobEntity job = AnalyzeJobEntity.builder()
+                .id(606L)
+                .jobId(jobId)
+                .mode(AnalyzeMode.QUICK_1VIEW)
+                .status(AnalyzeJobStatus.COMPLETED)
+                .measurementModel("quick")
+                .user(user)
+                .build();
+        AnalyzeJobMeasurementEntity measurement = AnalyzeJobMeasurementEntity.builder()
+                .analyzeJobId(606L)
+                .measurementModel("quick")
+                .build();
+
+        when(userRepository.findByUsernameForUpdate(username)).thenReturn(Optional.of(user));
+        when(analyzeJobRepository.findRecommendationSource(jobId, username)).thenReturn(Optional.of(sourceOf(job)));
+        when(historyRepository.findByAnalyzeJob_Id(job.getId())).thenReturn(Optional.empty());
+        when(measurementRepository.findById(606L)).thenReturn(Optional.of(measurement));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.recommend(username, dto));
+        assertTrue(ex.getMessage().contains("측정 실패"));
+        verify(openAiFashionClient, never()).recommend(any(JsonNode.class), anyString(), anyString(), any(), any());
+    }
+
+    private AnalyzeRecommendationSourceRow sourceOf(AnalyzeJobEntity job) {
+        return new AnalyzeRecommendationSourceRow(
+                job.getId(),
+                job.getJobId(),
+                job.getMode(),
+                job.getStatus(),
+                job.getMeasurementModel(),
+                job.getGender(),
+                job.getFrontImageKey(),
+                job.getSideImageKey(),
+                job.getGlbObjectKey()
+        );
+    }
+
     private UserEntity sampleUser() {
         return UserEntity.builder()
                 .id(1L)
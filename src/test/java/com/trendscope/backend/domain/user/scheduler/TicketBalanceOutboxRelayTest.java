@@ -0,0 +1,120 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.entity.TicketBalanceOutboxEntity;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceOutboxRepository;
+import com.trendscope.backend.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBalanceOutboxRelayTest {
+
+    @Mock
+    private TicketBalanceOutboxRepository ticketBalanceOutboxRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TicketBalanceOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new TicketBalanceOutboxRelay(
+                ticketBalanceOutboxRepository,
+                userRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(relay, "retryBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        ReflectionTestUtils.invokeMethod(relay, "init");
+    }
+
+    @Test
+    void relayAppliesOneUpdatePerUserAndTicketType() {
+        when(ticketBalanceOutboxRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of(
+                row(1L, 7L, TicketType.QUICK, -1),
+                row(2L, 7L, TicketType.QUICK, -1),
+                row(3L, 7L, TicketType.QUICK, 1),
+                row(4L, 8L, TicketType.PREMIUM, -1)
+        ));
+        when(userRepository.addTicketBalanceIfSufficient(7L, "QUICK", -1)).thenReturn(1);
+        when(userRepository.addTicketBalanceIfSufficient(8L, "PREMIUM", -1)).thenReturn(1);
+
+        relay.relay();
+
+        verify(ticketBalanceOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        assertEquals(4.0, meterRegistry.counter("ticket.outbox.rows", "outcome", "applied").count());
+    }
+
+    @Test
+    void rejectedGroupIsKeptForRetry() {
+        TicketBalanceOutboxEntity rejected = row(5L, 9L, TicketType.QUICK, -2);
+        when(ticketBalanceOutboxRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of(
+                rejected,
+                row(6L, 10L, TicketType.QUICK, 1)
+        ));
+        when(userRepository.addTicketBalanceIfSufficient(9L, "QUICK", -2)).thenReturn(0);
+        when(userRepository.addTicketBalanceIfSufficient(10L, "QUICK", 1)).thenReturn(1);
+
+        relay.relay();
+
+        verify(ticketBalanceOutboxRepository).deleteAllByIdInBatch(List.of(6L));
+        assertEquals(1, rejected.getAttempts());
+        assertTrue(rejected.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(1.0, meterRegistry.counter("ticket.outbox.rows", "outcome", "rejected").count());
+        assertNull(rejected.getDeadLetteredAt());
+    }
+
+    @Test
+    void rowRejectedMaxAttemptsTimesIsDeadLettered() {
+        TicketBalanceOutboxEntity rejected = row(5L, 9L, TicketType.QUICK, -2);
+        ReflectionTestUtils.setField(rejected, "attempts", 2);
+        when(ticketBalanceOutboxRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of(rejected));
+        when(userRepository.addTicketBalanceIfSufficient(9L, "QUICK", -2)).thenReturn(0);
+        when(ticketBalanceOutboxRepository.countByDeadLetteredAtIsNotNull()).thenReturn(1L);
+
+        relay.relay();
+
+        assertNotNull(rejected.getDeadLetteredAt());
+        assertEquals(1.0, meterRegistry.counter("ticket.outbox.rows", "outcome", "dead_lettered").count());
+        assertEquals(1.0, meterRegistry.get("ticket.outbox.dead-lettered").gauge().value());
+    }
+
+    private TicketBalanceOutboxEntity row(Long id, Long userId, TicketType ticketType, int delta) {
+        return TicketBalanceOutboxEntity.builder()
+                .id(id)
+                .userId(userId)
+                .ticketType(ticketType)
+                .delta(delta)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+}
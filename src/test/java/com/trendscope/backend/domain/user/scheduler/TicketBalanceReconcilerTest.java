@@ -0,0 +1,102 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceOutboxRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceRow;
+import com.trendscope.backend.domain.user.service.TicketBalanceCounterService;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBalanceReconcilerTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private TicketBalanceCounterService ticketBalanceCounterService;
+
+    @Mock
+    private TicketBalanceOutboxRepository ticketBalanceOutboxRepository;
+
+    @Mock
+    private RedisLockUtil redisLockUtil;
+
+    private TicketBalanceReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new TicketBalanceReconciler(
+                ticketBalanceCounterService,
+                ticketBalanceOutboxRepository,
+                redisLockUtil,
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(reconciler, "pageSize", 100);
+        when(ticketBalanceCounterService.isEnabled()).thenReturn(true);
+        when(redisLockUtil.tryLock(any(), any(Duration.class))).thenReturn(Optional.of("token"));
+        doAnswer(inv -> {
+            Consumer<List<Long>> consumer = inv.getArgument(1);
+            consumer.accept(List.of(USER_ID));
+            return null;
+        }).when(ticketBalanceCounterService).scanUserIds(anyInt(), any());
+    }
+
+    @Test
+    void driftIsCorrectedOnlyWhenObservedTwice() {
+        when(ticketBalanceCounterService.get(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(5, 2)));
+        when(ticketBalanceOutboxRepository.findExpectedBalances(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(4, 2)));
+        when(ticketBalanceCounterService.compareAndSet(USER_ID, TicketType.QUICK, 5, 4)).thenReturn(true);
+
+        reconciler.reconcile();
+        verify(ticketBalanceCounterService, never()).compareAndSet(anyLong(), any(), anyInt(), anyInt());
+
+        reconciler.reconcile();
+        verify(ticketBalanceCounterService, times(1)).compareAndSet(USER_ID, TicketType.QUICK, 5, 4);
+        verify(ticketBalanceCounterService, never()).compareAndSet(eq(USER_ID), eq(TicketType.PREMIUM), anyInt(), anyInt());
+    }
+
+    @Test
+    void transientDriftIsNotCorrected() {
+        when(ticketBalanceCounterService.get(USER_ID))
+                .thenReturn(Optional.of(new TicketBalanceRow(5, 2)))
+                .thenReturn(Optional.of(new TicketBalanceRow(4, 2)));
+        when(ticketBalanceOutboxRepository.findExpectedBalances(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(4, 2)));
+
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        verify(ticketBalanceCounterService, never()).compareAndSet(anyLong(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void counterOfDeletedUserIsEvicted() {
+        when(ticketBalanceCounterService.get(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(1, 0)));
+        when(ticketBalanceOutboxRepository.findExpectedBalances(USER_ID)).thenReturn(Optional.empty());
+
+        reconciler.reconcile();
+
+        verify(ticketBalanceCounterService).evict(USER_ID);
+        verify(redisLockUtil).unlock(any(), eq("token"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceMismatchRow;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketLedgerCheckpointVerifierTest {
+
+    @Mock
+    private TicketBalanceCheckpointRepository ticketBalanceCheckpointRepository;
+
+    @Mock
+    private RedisLockUtil redisLockUtil;
+
+    private TicketLedgerCheckpointVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new TicketLedgerCheckpointVerifier(
+                ticketBalanceCheckpointRepository,
+                redisLockUtil,
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(verifier, "parallelism", 3);
+        ReflectionTestUtils.setField(verifier, "userRangeSize", 10);
+        ReflectionTestUtils.invokeMethod(verifier, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(verifier, "shutdown");
+    }
+
+    @Test
+    void verifyAllScansEveryRangeOnceAcrossWorkers() {
+        TicketBalanceMismatchRow mismatch = mock(TicketBalanceMismatchRow.class);
+        when(ticketBalanceCheckpointRepository.findMaxUserId()).thenReturn(95L);
+        when(ticketBalanceCheckpointRepository.findMismatches(anyLong(), anyLong())).thenReturn(List.of());
+        when(ticketBalanceCheckpointRepository.findMismatches(30L, 40L)).thenReturn(List.of(mismatch));
+        when(ticketBalanceCheckpointRepository.findMismatches(90L, 100L)).thenReturn(List.of(mismatch, mismatch));
+
+        long mismatches = verifier.verifyAll();
+
+        assertEquals(3L, mismatches);
+        verify(ticketBalanceCheckpointRepository, times(10)).findMismatches(anyLong(), anyLong());
+        for (long from = 0L; from <= 90L; from += 10L) {
+            verify(ticketBalanceCheckpointRepository).findMismatches(from, from + 10L);
+        }
+    }
+}
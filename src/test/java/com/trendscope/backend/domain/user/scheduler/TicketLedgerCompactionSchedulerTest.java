@@ -0,0 +1,82 @@
+package com.trendscope.backend.domain.user.scheduler;
+
+import com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository;
+import com.trendscope.backend.global.util.RedisLockUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketLedgerCompactionSchedulerTest {
+
+    @Mock
+    private TicketBalanceCheckpointRepository ticketBalanceCheckpointRepository;
+
+    @Mock
+    private RedisLockUtil redisLockUtil;
+
+    private TicketLedgerCompactionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TicketLedgerCompactionScheduler(
+                ticketBalanceCheckpointRepository,
+                redisLockUtil,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
+        );
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "archiveAfterMonths", 12L);
+        ReflectionTestUtils.setField(scheduler, "userRangeSize", 1000);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 100);
+    }
+
+    @Test
+    void compactCheckpointsEachRangeAndArchivesUntilBatchIsShort() {
+        when(redisLockUtil.tryLock(any(), any(Duration.class))).thenReturn(Optional.of("token"));
+        when(ticketBalanceCheckpointRepository.findMaxUserId()).thenReturn(1500L);
+        when(ticketBalanceCheckpointRepository.archiveSettledBefore(eq(0L), eq(1000L), any(LocalDateTime.class), eq(100)))
+                .thenReturn(100L, 100L, 30L);
+        when(ticketBalanceCheckpointRepository.archiveSettledBefore(eq(1000L), eq(2000L), any(LocalDateTime.class), eq(100)))
+                .thenReturn(0L);
+
+        scheduler.compact();
+
+        verify(ticketBalanceCheckpointRepository).createMissingCheckpoints(0L, 1000L);
+        verify(ticketBalanceCheckpointRepository).createMissingCheckpoints(1000L, 2000L);
+        verify(ticketBalanceCheckpointRepository, times(3))
+                .archiveSettledBefore(eq(0L), eq(1000L), any(LocalDateTime.class), eq(100));
+        verify(ticketBalanceCheckpointRepository, times(1))
+                .archiveSettledBefore(eq(1000L), eq(2000L), any(LocalDateTime.class), eq(100));
+        verify(redisLockUtil).unlock(any(), eq("token"));
+    }
+
+    @Test
+    void compactSkipsWhenAnotherNodeHoldsTheLock() {
+        when(redisLockUtil.tryLock(any(), any(Duration.class))).thenReturn(Optional.empty());
+
+        scheduler.compact();
+
+        verify(ticketBalanceCheckpointRepository, never()).findMaxUserId();
+        verify(ticketBalanceCheckpointRepository, never())
+                .archiveSettledBefore(anyLong(), anyLong(), any(LocalDateTime.class), anyInt());
+    }
+}
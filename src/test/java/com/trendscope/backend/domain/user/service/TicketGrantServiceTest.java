@@ -0,0 +1,174 @@
+package com.trendscope.backend.domain.user.service;
+
+import com.trendscope.backend.domain.user.dto.TicketGrantJobResponseDTO;
+import com.trendscope.backend.domain.user.dto.TicketGrantRequestDTO;
+import com.trendscope.backend.domain.user.entity.TicketGrantJobEntity;
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantJobStatus;
+import com.trendscope.backend.domain.user.entity.enums.TicketGrantTarget;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketGrantJdbcRepository;
+import com.trendscope.backend.domain.user.repository.TicketGrantJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketGrantServiceTest {
+
+    private static final Long GRANT_JOB_ID = 3L;
+    private static final TicketGrantService.Lease LEASE = new TicketGrantService.Lease(GRANT_JOB_ID, "owner-1");
+
+    @Mock
+    private TicketGrantJobRepository ticketGrantJobRepository;
+
+    @Mock
+    private TicketGrantJdbcRepository ticketGrantJdbcRepository;
+
+    @Mock
+    private TicketBalanceCounterService ticketBalanceCounterService;
+
+    private PlatformTransactionManager transactionManager;
+
+    private TicketGrantService service;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        service = new TicketGrantService(
+                ticketGrantJobRepository,
+                ticketGrantJdbcRepository,
+                ticketBalanceCounterService,
+                new TransactionTemplate(transactionManager)
+        );
+        ReflectionTestUtils.setField(service, "maxUserIds", 100);
+        ReflectionTestUtils.setField(service, "maxQuantity", 10);
+    }
+
+    @Test
+    void createJobStoresDistinctTargetsAndNormalizedRefId() {
+        when(ticketGrantJobRepository.save(any(TicketGrantJobEntity.class))).thenAnswer(inv -> {
+            TicketGrantJobEntity job = inv.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", GRANT_JOB_ID);
+            return job;
+        });
+        when(ticketGrantJdbcRepository.insertTargets(eq(GRANT_JOB_ID), any())).thenReturn(2);
+
+        TicketGrantJobResponseDTO response = service.createJob(request(List.of(5L, 9L, 5L), 2, " Campaign_A "));
+
+        assertEquals(TicketGrantTarget.USER_IDS, response.target());
+        assertEquals(TicketGrantJobStatus.PENDING, response.status());
+        assertEquals("campaign_a", response.refId());
+        assertEquals(2L, response.totalTargets());
+        verify(ticketGrantJdbcRepository).insertTargets(eq(GRANT_JOB_ID), argThat(ids -> ids.size() == 2));
+    }
+
+    @Test
+    void createJobRejectsQuantityAboveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.createJob(request(List.of(5L), 11, "campaign_a")));
+        verify(ticketGrantJobRepository, never()).save(any());
+    }
+
+    @Test
+    void processNextBatchGrantsAndAdvancesCursor() {
+        TicketGrantJobEntity job = runningJob(4L);
+        when(ticketGrantJobRepository.findById(GRANT_JOB_ID)).thenReturn(Optional.of(job));
+        when(ticketGrantJdbcRepository.findTargetBatch(GRANT_JOB_ID, 4L, 2)).thenReturn(List.of(5L, 9L));
+        long[] ledgerIds = {101L, 102L};
+        when(ticketGrantJdbcRepository.allocateLedgerIds(2)).thenReturn(ledgerIds);
+        when(ticketGrantJdbcRepository.grant(List.of(5L, 9L), ledgerIds, TicketType.QUICK, 1, "campaign_a", false))
+                .thenReturn(List.of(9L));
+        when(ticketGrantJobRepository.advance(eq(GRANT_JOB_ID), eq("owner-1"), eq(4L), eq(9L), eq(2L), eq(1L), any(), any())).thenReturn(1);
+
+        assertTrue(service.processNextBatch(LEASE, 2, LocalDateTime.now().plusMinutes(2)));
+    }
+
+    @Test
+    void processNextBatchBacksOffWhenLeaseWasTakenByAnotherNode() {
+        SimpleTransactionStatus txStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(txStatus);
+        TicketGrantJobEntity job = runningJob(4L);
+        when(ticketGrantJobRepository.findById(GRANT_JOB_ID)).thenReturn(Optional.of(job));
+        when(ticketGrantJdbcRepository.findTargetBatch(GRANT_JOB_ID, 4L, 2)).thenReturn(List.of(5L));
+        when(ticketGrantJdbcRepository.allocateLedgerIds(1)).thenReturn(new long[]{101L});
+        when(ticketGrantJdbcRepository.grant(any(), any(), any(), anyInt(), any(), anyBoolean())).thenReturn(List.of(5L));
+        when(ticketGrantJobRepository.advance(eq(GRANT_JOB_ID), eq("owner-1"), anyLong(), anyLong(), anyLong(), anyLong(), any(), any()))
+                .thenReturn(0);
+
+        assertFalse(service.processNextBatch(LEASE, 2, LocalDateTime.now().plusMinutes(2)));
+        assertEquals(TicketGrantJobStatus.RUNNING, job.getStatus());
+        assertTrue(txStatus.isRollbackOnly());
+    }
+
+    @Test
+    void markFailedIgnoresJobLeasedByAnotherNode() {
+        TicketGrantJobEntity job = runningJob(4L);
+        when(ticketGrantJobRepository.findById(GRANT_JOB_ID)).thenReturn(Optional.of(job));
+
+        service.markFailed(new TicketGrantService.Lease(GRANT_JOB_ID, "owner-2"), "boom");
+
+        assertEquals(TicketGrantJobStatus.RUNNING, job.getStatus());
+    }
+
+    @Test
+    void processNextBatchCompletesJobWhenNoTargetsRemain() {
+        TicketGrantJobEntity job = runningJob(9L);
+        when(ticketGrantJobRepository.findById(GRANT_JOB_ID)).thenReturn(Optional.of(job));
+        when(ticketGrantJdbcRepository.findTargetBatch(GRANT_JOB_ID, 9L, 2)).thenReturn(List.of());
+
+        assertFalse(service.processNextBatch(LEASE, 2, LocalDateTime.now().plusMinutes(2)));
+        assertEquals(TicketGrantJobStatus.COMPLETED, job.getStatus());
+        verify(ticketGrantJdbcRepository, never()).grant(any(), any(), any(), anyInt(), any(), anyBoolean());
+    }
+
+    private TicketGrantRequestDTO request(List<Long> userIds, int quantity, String refId) {
+        TicketGrantRequestDTO dto = new TicketGrantRequestDTO();
+        ReflectionTestUtils.setField(dto, "ticketType", TicketType.QUICK);
+        ReflectionTestUtils.setField(dto, "quantity", quantity);
+        ReflectionTestUtils.setField(dto, "refId", refId);
+        ReflectionTestUtils.setField(dto, "userIds", userIds);
+        return dto;
+    }
+
+    private TicketGrantJobEntity runningJob(long lastUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        return TicketGrantJobEntity.builder()
+                .id(GRANT_JOB_ID)
+                .jobId("grant-job")
+                .ticketType(TicketType.QUICK)
+                .quantity(1)
+                .refId("campaign_a")
+                .target(TicketGrantTarget.USER_IDS)
+                .status(TicketGrantJobStatus.RUNNING)
+                .lastUserId(lastUserId)
+                .leaseOwner("owner-1")
+                .leaseUntil(now.plusMinutes(2))
+                .createdDate(now)
+                .updatedDate(now)
+                .build();
+    }
+}
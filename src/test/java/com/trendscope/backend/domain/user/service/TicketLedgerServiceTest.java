@@ -0,0 +1,401 @@
+package com.trendscope.backend.domain.user.service;
+
+import com.trendscope.backend.domain.user.dto.TicketTransactionResponseDTO;
+import com.trendscope.backend.domain.user.entity.TicketBalanceOutboxEntity;
+import com.trendscope.backend.domain.user.entity.TicketLedgerEntity;
+import com.trendscope.backend.domain.user.entity.TicketReservationEntity;
+import com.trendscope.backend.domain.user.entity.UserEntity;
+import com.trendscope.backend.domain.user.entity.enums.TicketLedgerReason;
+import com.trendscope.backend.domain.user.entity.enums.TicketReservationState;
+import com.trendscope.backend.domain.user.entity.enums.TicketType;
+import com.trendscope.backend.domain.user.repository.TicketBalanceCheckpointRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceOutboxRepository;
+import com.trendscope.backend.domain.user.repository.TicketBalanceRow;
+import com.trendscope.backend.domain.user.repository.TicketLedgerRepository;
+import com.trendscope.backend.domain.user.repository.TicketReservationRepository;
+import com.trendscope.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketLedgerServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String JOB_ID = "job-1";
+
+    @Mock
+    private TicketLedgerRepository ticketLedgerRepository;
+
+    @Mock
+    private TicketReservationRepository ticketReservationRepository;
+
+    @Mock
+    private TicketBalanceOutboxRepository ticketBalanceOutboxRepository;
+
+    @Mock
+    private TicketBalanceCheckpointRepository ticketBalanceCheckpointRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TicketBalanceCounterService ticketBalanceCounterService;
+
+    private TicketLedgerService service;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        service = new TicketLedgerService(
+                ticketLedgerRepository,
+                ticketReservationRepository,
+                ticketBalanceOutboxRepository,
+                ticketBalanceCheckpointRepository,
+                userRepository,
+                ticketBalanceCounterService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
+        );
+        ReflectionTestUtils.setField(service, "concurrencyMode", "pessimistic");
+        ReflectionTestUtils.setField(service, "optimisticMaxAttempts", 3);
+        user = UserEntity.builder()
+                .id(USER_ID)
+                .username("otp_user")
+                .quickTicketBalance(0)
+                .premiumTicketBalance(0)
+                .isLock(false)
+                .build();
+    }
+
+    @Test
+    void consumeSettlesHeldReservationWithoutLockingUser() {
+        when(ticketReservationRepository.transition(
+                eq(USER_ID), eq(TicketType.QUICK), eq(JOB_ID),
+                eq(TicketReservationState.HELD), eq(TicketReservationState.CONSUMED), any(LocalDateTime.class)
+        )).thenReturn(1);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.save(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(2, 0)));
+
+        TicketTransactionResponseDTO response = service.consumeHeldForAnalyze(USER_ID, TicketType.QUICK, "JOB-1");
+
+        assertTrue(response.applied());
+        assertEquals(TicketLedgerReason.CONSUME, response.reason());
+        assertEquals(0, response.delta());
+        assertEquals(2, response.quickTicketBalance());
+        verify(userRepository, never()).findByUsernameForUpdate(anyString());
+        verify(userRepository, never()).addTicketBalance(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void repeatedConsumeReturnsExistingLedger() {
+        when(ticketReservationRepository.transition(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(ticketReservationRepository.findByUserIdAndTicketTypeAndRefId(USER_ID, TicketType.QUICK, JOB_ID))
+                .thenReturn(Optional.of(reservation(TicketReservationState.CONSUMED)));
+        TicketLedgerEntity existing = TicketLedgerEntity.builder()
+                .id(3L)
+                .user(user)
+                .delta(0)
+                .reason(TicketLedgerReason.CONSUME)
+                .ticketType(TicketType.QUICK)
+                .refId(JOB_ID)
+                .build();
+        when(ticketLedgerRepository.findFirstByUserIdAndTicketTypeAndReasonAndRefId(
+                USER_ID, TicketType.QUICK, TicketLedgerReason.CONSUME, JOB_ID
+        )).thenReturn(Optional.of(existing));
+
+        TicketTransactionResponseDTO response = service.consumeHeldForAnalyze(USER_ID, TicketType.QUICK, JOB_ID);
+
+        assertFalse(response.applied());
+        assertEquals(3L, response.transactionId());
+        verify(ticketLedgerRepository, never()).save(any());
+    }
+
+    @Test
+    void releaseRefundsTicketWithAtomicIncrement() {
+        when(ticketReservationRepository.transition(
+                eq(USER_ID), eq(TicketType.PREMIUM), eq(JOB_ID),
+                eq(TicketReservationState.HELD), eq(TicketReservationState.RELEASED), any(LocalDateTime.class)
+        )).thenReturn(1);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.save(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(0, 1)));
+
+        TicketTransactionResponseDTO response = service.releaseHeldForAnalyze(USER_ID, TicketType.PREMIUM, JOB_ID);
+
+        assertTrue(response.applied());
+        assertEquals(1, response.delta());
+        // 영속성 컨텍스트의 user(잔액 0)가 아니라 원자적 증가 이후 다시 읽은 잔액으로 응답한다.
+        assertEquals(1, response.premiumTicketBalance());
+        verify(userRepository).addTicketBalance(USER_ID, "PREMIUM", 1);
+    }
+
+    @Test
+    void releaseRejectsConsumedReservation() {
+        when(ticketReservationRepository.transition(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(ticketReservationRepository.findByUserIdAndTicketTypeAndRefId(USER_ID, TicketType.QUICK, JOB_ID))
+                .thenReturn(Optional.of(reservation(TicketReservationState.CONSUMED)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.releaseHeldForAnalyze(USER_ID, TicketType.QUICK, JOB_ID));
+        verify(userRepository, never()).addTicketBalance(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void settlementBackfillsReservationForLegacyHold() {
+        when(ticketReservationRepository.transition(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(ticketReservationRepository.findByUserIdAndTicketTypeAndRefId(USER_ID, TicketType.QUICK, JOB_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(reservation(TicketReservationState.RELEASED)));
+        when(ticketReservationRepository.backfillFromLedger(USER_ID, "QUICK", JOB_ID)).thenReturn(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.consumeHeldForAnalyze(USER_ID, TicketType.QUICK, JOB_ID));
+        verify(ticketReservationRepository).backfillFromLedger(USER_ID, "QUICK", JOB_ID);
+    }
+
+    @Test
+    void settlementBackfillsHeldReservationForLegacyHoldAndReleasesIt() {
+        when(ticketReservationRepository.transition(
+                eq(USER_ID), eq(TicketType.QUICK), eq(JOB_ID),
+                eq(TicketReservationState.HELD), eq(TicketReservationState.RELEASED), any(LocalDateTime.class)
+        )).thenReturn(0).thenReturn(1);
+        when(ticketReservationRepository.findByUserIdAndTicketTypeAndRefId(USER_ID, TicketType.QUICK, JOB_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(reservation(TicketReservationState.HELD)));
+        when(ticketReservationRepository.backfillFromLedger(USER_ID, "QUICK", JOB_ID)).thenReturn(1);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.save(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(1, 0)));
+
+        TicketTransactionResponseDTO response = service.releaseHeldForAnalyze(USER_ID, TicketType.QUICK, JOB_ID);
+
+        assertTrue(response.applied());
+        assertEquals(1, response.delta());
+        verify(userRepository).addTicketBalance(USER_ID, "QUICK", 1);
+    }
+
+    @Test
+    void optimisticHoldUsesConditionalUpdateWithoutLockingUser() {
+        ReflectionTestUtils.setField(service, "concurrencyMode", "optimistic");
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(userRepository.addTicketBalanceIfSufficient(USER_ID, "QUICK", -1)).thenReturn(1);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(2, 5)));
+        when(ticketLedgerRepository.saveAndFlush(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TicketTransactionResponseDTO response = service.holdForAnalyze("otp_user", TicketType.QUICK, JOB_ID);
+
+        assertTrue(response.applied());
+        assertEquals(-1, response.delta());
+        assertEquals(2, response.quickTicketBalance());
+        assertEquals(7, response.totalTicketBalance());
+        verify(ticketReservationRepository).saveAndFlush(any(TicketReservationEntity.class));
+        verify(userRepository, never()).findByUsernameForUpdate(anyString());
+    }
+
+    @Test
+    void optimisticUseRejectsWhenConditionalUpdateMisses() {
+        ReflectionTestUtils.setField(service, "concurrencyMode", "optimistic");
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(userRepository.addTicketBalanceIfSufficient(USER_ID, "PREMIUM", -1)).thenReturn(0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.holdForAnalyze("otp_user", TicketType.PREMIUM, JOB_ID));
+        verify(ticketLedgerRepository, never()).saveAndFlush(any());
+        verify(ticketReservationRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void optimisticRetryTreatsConcurrentDuplicateRefIdAsDuplicate() {
+        ReflectionTestUtils.setField(service, "concurrencyMode", "optimistic");
+        TicketLedgerEntity winner = TicketLedgerEntity.builder()
+                .id(9L)
+                .user(user)
+                .delta(3)
+                .reason(TicketLedgerReason.PURCHASE)
+                .ticketType(TicketType.QUICK)
+                .refId("pay-1")
+                .build();
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(ticketLedgerRepository.findFirstByUserIdAndTicketTypeAndReasonAndRefId(
+                USER_ID, TicketType.QUICK, TicketLedgerReason.PURCHASE, "pay-1"
+        )).thenReturn(Optional.empty()).thenReturn(Optional.of(winner));
+        when(userRepository.addTicketBalanceIfSufficient(USER_ID, "QUICK", 3)).thenReturn(1);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.saveAndFlush(any(TicketLedgerEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_ticket_ledger_user_type_reason_ref_id"));
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(3, 0)));
+
+        TicketTransactionResponseDTO response = service.purchase("otp_user", TicketType.QUICK, 3, "PAY-1");
+
+        assertFalse(response.applied());
+        assertEquals(9L, response.transactionId());
+        verify(userRepository, times(1)).addTicketBalanceIfSufficient(USER_ID, "QUICK", 3);
+    }
+
+    @Test
+    void optimisticRetryGivesUpAfterMaxAttempts() {
+        ReflectionTestUtils.setField(service, "concurrencyMode", "optimistic");
+        ReflectionTestUtils.setField(service, "optimisticMaxAttempts", 2);
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(userRepository.addTicketBalanceIfSufficient(USER_ID, "QUICK", 1)).thenReturn(1);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.saveAndFlush(any(TicketLedgerEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_ticket_ledger_user_type_reason_ref_id"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> service.purchase("otp_user", TicketType.QUICK, 1, "pay-2"));
+        verify(ticketLedgerRepository, times(2)).saveAndFlush(any(TicketLedgerEntity.class));
+    }
+
+    @Test
+    void pessimisticPurchaseLocksUserRow() {
+        when(userRepository.findByUsernameForUpdate("otp_user")).thenReturn(Optional.of(user));
+        when(ticketLedgerRepository.save(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TicketTransactionResponseDTO response = service.purchase("otp_user", TicketType.PREMIUM, 2, "pay-3");
+
+        assertTrue(response.applied());
+        assertEquals(2, response.premiumTicketBalance());
+        verify(userRepository, never()).addTicketBalanceIfSufficient(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void topUpGrantsGapAsLedgerEntryWithDeterministicRefId() {
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(0, 0)));
+        when(ticketLedgerRepository.findLatestIdByUsername("otp_user")).thenReturn(Optional.of(41L));
+        when(userRepository.findByUsernameForUpdate("otp_user")).thenReturn(Optional.of(user));
+        when(ticketLedgerRepository.save(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TicketTransactionResponseDTO response = service.topUp("otp_user", TicketType.QUICK, 3, "review_top_up").orElseThrow();
+
+        assertTrue(response.applied());
+        assertEquals(3, response.quickTicketBalance());
+        verify(ticketLedgerRepository).save(argThat(ledger -> ledger.getReason() == TicketLedgerReason.GRANT
+                && ledger.getDelta() == 3
+                && "review_top_up_41".equals(ledger.getRefId())));
+    }
+
+    @Test
+    void topUpSkipsWhenBalanceAlreadyMeetsTarget() {
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(userRepository.findTicketBalancesById(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(0, 5)));
+
+        assertTrue(service.topUp("otp_user", TicketType.PREMIUM, 5, "review_top_up").isEmpty());
+        verify(ticketLedgerRepository, never()).save(any());
+    }
+
+    @Test
+    void summaryVersionChangesWhenLedgerIsCompacted() {
+        LocalDateTime updatedDate = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(userRepository.findUpdatedDateByUsername("otp_user")).thenReturn(Optional.of(updatedDate));
+        when(ticketLedgerRepository.findLatestIdByUsername("otp_user")).thenReturn(Optional.of(42L));
+        when(ticketBalanceCheckpointRepository.sumArchivedRowsByUsername("otp_user")).thenReturn(0L, 10L);
+
+        String before = service.getSummaryVersion("otp_user");
+        String after = service.getSummaryVersion("otp_user");
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void counterHoldWritesOutboxAndCompensatesCounterOnRollback() {
+        when(ticketBalanceCounterService.isEnabled()).thenReturn(true);
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(ticketBalanceCounterService.tryAdd(USER_ID, TicketType.QUICK, -1)).thenReturn(4L);
+        when(ticketBalanceCounterService.get(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(4, 1)));
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.saveAndFlush(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TicketTransactionResponseDTO response = service.holdForAnalyze("otp_user", TicketType.QUICK, JOB_ID);
+
+            assertTrue(response.applied());
+            assertEquals(4, response.quickTicketBalance());
+            verify(ticketBalanceOutboxRepository).save(argThat((TicketBalanceOutboxEntity row) ->
+                    row.getUserId().equals(USER_ID) && row.getDelta() == -1 && row.getTicketType() == TicketType.QUICK));
+            verify(userRepository, never()).findByUsernameForUpdate(anyString());
+            verify(userRepository, never()).addTicketBalanceIfSufficient(anyLong(), anyString(), anyInt());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            verify(ticketBalanceCounterService).forceAdd(USER_ID, TicketType.QUICK, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void counterHoldRejectsWhenCounterInsufficient() {
+        when(ticketBalanceCounterService.isEnabled()).thenReturn(true);
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        when(ticketBalanceCounterService.tryAdd(USER_ID, TicketType.PREMIUM, -1))
+                .thenReturn(TicketBalanceCounterService.INSUFFICIENT);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.holdForAnalyze("otp_user", TicketType.PREMIUM, JOB_ID));
+        verify(ticketLedgerRepository, never()).saveAndFlush(any());
+        verify(ticketBalanceOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    void counterIsLoadedFromExpectedBalanceWhenMissing() {
+        when(ticketBalanceCounterService.isEnabled()).thenReturn(true);
+        when(userRepository.findIdByUsername("otp_user")).thenReturn(Optional.of(USER_ID));
+        TicketBalanceRow expected = new TicketBalanceRow(1, 0);
+        when(ticketBalanceOutboxRepository.findExpectedBalances(USER_ID)).thenReturn(Optional.of(expected));
+        when(ticketBalanceCounterService.tryAdd(USER_ID, TicketType.QUICK, 2))
+                .thenReturn(TicketBalanceCounterService.NOT_LOADED)
+                .thenReturn(3L);
+        when(ticketBalanceCounterService.get(USER_ID)).thenReturn(Optional.of(new TicketBalanceRow(3, 0)));
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(ticketLedgerRepository.saveAndFlush(any(TicketLedgerEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TicketTransactionResponseDTO response = service.purchase("otp_user", TicketType.QUICK, 2, "pay-4");
+
+            assertTrue(response.applied());
+            assertEquals(3, response.quickTicketBalance());
+            verify(ticketBalanceCounterService).load(USER_ID, expected);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private TicketReservationEntity reservation(TicketReservationState state) {
+        return TicketReservationEntity.builder()
+                .id(1L)
+                .user(user)
+                .ticketType(TicketType.QUICK)
+                .refId(JOB_ID)
+                .state(state)
+                .build();
+    }
+}
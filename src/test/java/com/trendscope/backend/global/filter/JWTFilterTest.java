@@ -0,0 +1,97 @@
+package com.trendscope.backend.global.filter;
+
+import com.trendscope.backend.global.security.custom.JwtClaimsUserDetails;
+import com.trendscope.backend.global.security.service.UserRevocationService;
+import com.trendscope.backend.global.util.JWTUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JWTFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserRevocationService userRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        JWTUtil.initialize("test-secret-key-test-secret-key-0123456789abcdef", 3_600_000L, 86_400_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessModeBuildsPrincipalFromClaimsWithoutUserLookup() throws Exception {
+        String token = JWTUtil.createJWT("otp_user", "USER", true);
+        when(userRevocationService.isRevoked(eq("otp_user"), any())).thenReturn(false);
+
+        new JWTFilter(userDetailsService, userRevocationService, true)
+                .doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertInstanceOf(JwtClaimsUserDetails.class, authentication.getPrincipal());
+        assertEquals("otp_user", authentication.getName());
+        assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void revokedUserIsReloadedFromDatabase() throws Exception {
+        String token = JWTUtil.createJWT("otp_user", "ADMIN", true);
+        when(userRevocationService.isRevoked(eq("otp_user"), any())).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("otp_user"))
+                .thenReturn(User.withUsername("otp_user").password("").roles("USER").build());
+
+        new JWTFilter(userDetailsService, userRevocationService, true)
+                .doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+        verify(userDetailsService).loadUserByUsername("otp_user");
+    }
+
+    @Test
+    void revokedUserThatNoLongerExistsStaysAnonymous() throws Exception {
+        String token = JWTUtil.createJWT("deleted_user", "USER", true);
+        when(userRevocationService.isRevoked(eq("deleted_user"), any())).thenReturn(true);
+        when(userDetailsService.loadUserByUsername(anyString())).thenThrow(new UsernameNotFoundException("not found"));
+
+        new JWTFilter(userDetailsService, userRevocationService, true)
+                .doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/user");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.trendscope.backend.global.s3.scheduler;
+
+import com.trendscope.backend.global.s3.entity.S3ObjectTombstoneEntity;
+import com.trendscope.backend.global.s3.repository.S3ObjectTombstoneRepository;
+import com.trendscope.backend.global.util.S3Util;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3GarbageCollectionWorkerTest {
+
+    @Mock
+    private S3ObjectTombstoneRepository s3ObjectTombstoneRepository;
+
+    @Mock
+    private S3Util s3Util;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3GarbageCollectionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new S3GarbageCollectionWorker(
+                s3ObjectTombstoneRepository,
+                s3Util,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "batchSize", 100);
+        ReflectionTestUtils.setField(worker, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(worker, "parallelism", 2);
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(worker, "retryBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(worker, "maxBackoffSeconds", 3600L);
+        ReflectionTestUtils.invokeMethod(worker, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(worker, "shutdown");
+    }
+
+    @Test
+    void deletesConfirmedObjectsAndReschedulesFailedOnesWithBackoff() {
+        S3ObjectTombstoneEntity deleted = tombstone(1L, "analyze/1/input/front.jpg");
+        S3ObjectTombstoneEntity failed = tombstone(2L, "analyze/1/output/body.glb");
+        when(s3ObjectTombstoneRepository.lockDue(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(deleted, failed));
+        when(s3Util.deleteObjects(List.of("analyze/1/input/front.jpg", "analyze/1/output/body.glb")))
+                .thenReturn(Map.of("analyze/1/output/body.glb", "InternalError: retry"));
+        when(s3ObjectTombstoneRepository.findAllById(Set.of(2L))).thenReturn(List.of(failed));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.collect();
+
+        verify(s3ObjectTombstoneRepository).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(1, failed.getAttempts());
+        assertEquals("InternalError: retry", failed.getLastError());
+        assertTrue(failed.getNextAttemptAt().isAfter(before.plusSeconds(59)));
+        assertTrue(failed.getNextAttemptAt().isBefore(before.plusSeconds(300)));
+        assertEquals(1.0, meterRegistry.counter("s3.gc.objects", "outcome", "deleted").count());
+        assertEquals(1.0, meterRegistry.counter("s3.gc.objects", "outcome", "failed").count());
+    }
+
+    @Test
+    void skipsS3WhenNothingIsDue() {
+        when(s3ObjectTombstoneRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+        worker.collect();
+
+        verify(s3Util, never()).deleteObjects(any());
+        verify(s3ObjectTombstoneRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private S3ObjectTombstoneEntity tombstone(Long id, String objectKey) {
+        return S3ObjectTombstoneEntity.builder()
+                .id(id)
+                .objectKey(objectKey)
+                .reason("ANALYZE_JOB_DELETED")
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                .createdDate(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+}
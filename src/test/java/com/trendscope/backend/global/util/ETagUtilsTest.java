@@ -0,0 +1,52 @@
+package com.trendscope.backend.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETagUtilsTest {
+
+    @Test
+    void checkNotModifiedReturnsTrueWhenIfNoneMatchEqualsVersionETag() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/tickets/me");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + ETagUtils.toETag("v1", 20) + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = ETagUtils.checkNotModified(new ServletWebRequest(request, response), "v1", 20);
+
+        assertTrue(notModified);
+        assertEquals(304, response.getStatus());
+        assertEquals("private, no-cache", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void checkNotModifiedSetsETagWhenVersionChanged() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/tickets/me");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + ETagUtils.toETag("v1", 20) + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = ETagUtils.checkNotModified(new ServletWebRequest(request, response), "v2", 20);
+
+        assertFalse(notModified);
+        assertEquals(200, response.getStatus());
+        assertEquals("\"" + ETagUtils.toETag("v2", 20) + "\"", response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void checkNotModifiedSkipsWhenVersionIsMissing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/analyze/jobs/unknown");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = ETagUtils.checkNotModified(new ServletWebRequest(request, response), (Object) null);
+
+        assertFalse(notModified);
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+}
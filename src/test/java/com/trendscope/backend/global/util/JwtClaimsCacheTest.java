@@ -0,0 +1,79 @@
+package com.trendscope.backend.global.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtClaimsCacheTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-0123456789abcdef";
+
+    private SecretKey secretKey;
+    private JwtParser parser;
+    private JwtClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = spy(Jwts.parser().verifyWith(secretKey).build());
+        cache = new JwtClaimsCache(parser, 100L);
+    }
+
+    @Test
+    void parseVerifiesSignatureOnceForRepeatedToken() {
+        String token = token(secretKey, 60_000L);
+
+        Claims first = cache.parse(token);
+        Claims second = cache.parse(token);
+
+        assertSame(first, second);
+        assertEquals("otp_user", second.getSubject());
+        verify(parser, times(1)).parseSignedClaims(token);
+    }
+
+    @Test
+    void parseDoesNotCacheTokensThatFailVerification() {
+        SecretKey otherKey = new SecretKeySpec(
+                "other-secret-key-other-secret-key-0123456789abcd".getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm()
+        );
+        String forged = token(otherKey, 60_000L);
+
+        assertThrows(JwtException.class, () -> cache.parse(forged));
+        assertThrows(JwtException.class, () -> cache.parse(forged));
+        verify(parser, times(2)).parseSignedClaims(forged);
+    }
+
+    @Test
+    void parseRejectsExpiredToken() {
+        String expired = token(secretKey, -1_000L);
+
+        assertThrows(JwtException.class, () -> cache.parse(expired));
+    }
+
+    private String token(SecretKey key, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject("otp_user")
+                .claim("type", "access")
+                .issuedAt(new Date(now - 5_000L))
+                .expiration(new Date(now + expiresInMillis))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,120 @@
+package com.trendscope.backend.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3UtilTest {
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private PresignedGetObjectRequest presignedGetObjectRequest;
+
+    @Mock
+    private PresignedPutObjectRequest presignedPutObjectRequest;
+
+    private S3Util s3Util;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Util = new S3Util(s3Presigner, s3Client, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(s3Util, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(s3Util, "presignCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(s3Util, "presignSafetyMarginSeconds", 600L);
+        ReflectionTestUtils.invokeMethod(s3Util, "initPresignedUrlCache");
+
+        lenient().when(presignedGetObjectRequest.url()).thenReturn(new URL("https://s3.local/signed"));
+        lenient().when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class)))
+                .thenReturn(presignedGetObjectRequest);
+    }
+
+    @Test
+    void reusesPresignedGetUrlWithinSafetyMargin() {
+        String first = s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(30));
+        String second = s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(30));
+
+        assertEquals(first, second);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void doesNotCacheUrlsShorterThanSafetyMargin() {
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(5));
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(5));
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void resignsWhenCachedUrlDoesNotCoverRequestedDuration() {
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(15));
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(60));
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(30));
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void doesNotCachePresignedPutUrls() throws Exception {
+        when(presignedPutObjectRequest.url()).thenReturn(new URL("https://s3.local/upload"));
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presignedPutObjectRequest);
+
+        s3Util.createPresignedPutUrl("out/body.glb", Duration.ofMinutes(30));
+        s3Util.createPresignedPutUrl("out/body.glb", Duration.ofMinutes(30));
+
+        verify(s3Presigner, times(2)).presignPutObject(any(PutObjectPresignRequest.class));
+    }
+
+    @Test
+    void deleteObjectEvictsCachedUrls() {
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(30));
+        s3Util.deleteObject("out/body.glb");
+        s3Util.createPresignedGetUrl("out/body.glb", Duration.ofMinutes(30));
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void deleteObjectsSplitsIntoThousandKeyRequestsAndReportsFailedKeys() {
+        List<String> keys = IntStream.range(0, 1500).mapToObj(i -> "old/" + i + ".jpg").toList();
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("old/7.jpg").code("AccessDenied").message("denied").build())
+                        .build())
+                .thenReturn(DeleteObjectsResponse.builder().build());
+
+        Map<String, String> failures = s3Util.deleteObjects(keys);
+
+        verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+        assertEquals(Map.of("old/7.jpg", "AccessDenied: denied"), failures);
+    }
+}